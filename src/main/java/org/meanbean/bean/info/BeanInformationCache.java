@@ -0,0 +1,94 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.meanbean.logging.$Event;
+import org.meanbean.logging.$Events;
+
+/**
+ * A cache of the information about bean classes, which counts how often it is used. The information is immutable, so it is created once per class
+ * and shared by every factory instance. The cache is held against the bean class itself, so it does not prevent the class from being unloaded.
+ */
+final class BeanInformationCache {
+
+  private final ClassValue<BeanInformation> cache;
+
+  /** Number of times information had to be created. */
+  private final LongAdder misses = new LongAdder();
+
+  /** Number of times information was requested. */
+  private final LongAdder requests = new LongAdder();
+
+
+  /**
+   * New instance.
+   *
+   * @param creator creates the information for a class which is not yet cached
+   */
+  BeanInformationCache(Function<Class<?>, BeanInformation> creator) {
+    cache = new ClassValue<BeanInformation>() {
+      @Override
+      protected BeanInformation computeValue(Class<?> type) {
+        misses.increment();
+        return creator.apply(type);
+      }
+    };
+  }
+
+
+  /**
+   * Get the information for a bean class, creating it if necessary.
+   *
+   * @param beanClass the bean class
+   *
+   * @return the information
+   */
+  BeanInformation get(Class<?> beanClass) {
+    requests.increment();
+    try ($Event event = $Events.beanInformation(beanClass)) {
+      return cache.get(beanClass);
+    }
+  }
+
+
+  /**
+   * Get the number of requests that were satisfied from the cache.
+   *
+   * @return the number of cache hits
+   */
+  long getHits() {
+    return requests.sum() - misses.sum();
+  }
+
+
+  /**
+   * Get the number of requests that required information to be created.
+   *
+   * @return the number of cache misses
+   */
+  long getMisses() {
+    return misses.sum();
+  }
+
+}
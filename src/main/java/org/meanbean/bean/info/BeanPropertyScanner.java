@@ -0,0 +1,377 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import org.meanbean.util.Types;
+import org.meanbean.util.ValidationHelper;
+
+/**
+ * Finds the properties of a bean class in a single pass over its public methods, without using {@link java.beans.Introspector}.
+ *
+ * <p>The JavaBeans naming rules are applied as the Introspector applies them:</p>
+ *
+ * <ul>
+ *   <li>A read method is a public, non-static, no argument method called "get" followed by the property name, which does not return void, or
+ *   called "is" followed by the property name, which returns a primitive boolean. An "is" method takes precedence over a "get" method.</li>
+ *   <li>A write method is a public, non-static, single argument method called "set" followed by the property name, which returns void. If the
+ *   property has a read method, the write method must accept the type the read method returns, or a sub-type of it. The most specific write
+ *   method is used. A write method that
+ *   accepts a super-type is only used if a sub-class has narrowed the return type of the read method it was originally paired with.</li>
+ *   <li>Property names are decapitalized as {@link java.beans.Introspector#decapitalize(String)} does, so "getURL" defines a property called
+ *   "URL".</li>
+ *   <li>Indexed accessors define a property, but only simple accessors are used to read and write it.</li>
+ *   <li>Methods which are only declared by an interface the class implements are ignored, as are bridge methods.</li>
+ *   <li>Type variables are resolved against the bean class, so a generic setter inherited from a parameterized super class matches the getter.</li>
+ * </ul>
+ *
+ * <p>Scanning also identifies fluent write methods: public, single argument methods called "set" followed by an upper case letter, which do not return
+ * void. These are not part of the JavaBeans specification, but are commonly used to allow method chaining.</p>
+ *
+ * <p>The results are immutable, so they are created once per class and shared.</p>
+ */
+public final class BeanPropertyScanner {
+
+  /**
+   * A property found by scanning a bean class.
+   */
+  public static final class Property {
+
+    private Method fluentWriteMethod;
+
+    private final String name;
+
+    private Class<?> propertyType;
+
+    private Method readMethod;
+
+    private Method writeMethod;
+
+
+    private Property(String name) {
+      this.name = name;
+    }
+
+
+    /**
+     * Get the fluent write method associated with this property. The method is found using the legacy rule that the property name is the method name
+     * without the "set" prefix and with its first letter converted to lower case.
+     *
+     * @return the fluent write method, or null
+     */
+    public Method getFluentWriteMethod() {
+      return fluentWriteMethod;
+    }
+
+
+    /**
+     * Get the name of the property.
+     *
+     * @return the property name
+     */
+    public String getName() {
+      return name;
+    }
+
+
+    /**
+     * Get the type of the property, with type variables resolved against the bean class where possible.
+     *
+     * @return the property type, or null if the property only has indexed accessors
+     */
+    public Class<?> getPropertyType() {
+      return propertyType;
+    }
+
+
+    /**
+     * Get the read method of the property.
+     *
+     * @return the read method, or null
+     */
+    public Method getReadMethod() {
+      return readMethod;
+    }
+
+
+    /**
+     * Get the write method of the property.
+     *
+     * @return the write method, or null
+     */
+    public Method getWriteMethod() {
+      return writeMethod;
+    }
+
+
+    @Override
+    public String toString() {
+      return "Property{name='" + name + "', readMethod=" + readMethod + ", writeMethod=" + writeMethod + ", fluentWriteMethod=" + fluentWriteMethod
+          + '}';
+    }
+
+  }
+
+
+
+  /** Accessor candidates for a single property. */
+  private static class Candidates {
+
+    final List<Method> getters = new ArrayList<>();
+
+    Method isGetter;
+
+    /** Every type a read method has been declared to return, including those only known from bridge methods. */
+    final Set<Class<?>> readTypes = new HashSet<>();
+
+    final List<Method> setters = new ArrayList<>();
+
+  }
+
+
+
+  /** Scanned properties for each class. */
+  private static final ClassValue<Map<String, Property>> CACHE = new ClassValue<Map<String, Property>>() {
+    @Override
+    protected Map<String, Property> computeValue(Class<?> type) {
+      return Collections.unmodifiableMap(doScan(type));
+    }
+  };
+
+  /** Orders overloaded methods by their parameter types, so the result does not depend on the order of {@link Class#getMethods()}. */
+  private static final Comparator<Method> METHOD_ORDER = Comparator.comparing(
+      (Method method) -> Arrays.toString(method.getParameterTypes())).thenComparing(method -> method.getReturnType().getName());
+
+
+  /**
+   * Decapitalize a name as {@link java.beans.Introspector#decapitalize(String)} does. If the first two characters are upper case, the name is
+   * left unchanged. Otherwise the first character is converted to lower case.
+   *
+   * @param name the name
+   *
+   * @return the decapitalized name
+   */
+  public static String decapitalize(String name) {
+    if (name.isEmpty()) {
+      return name;
+    }
+    if (name.length() > 1 && Character.isUpperCase(name.charAt(1)) && Character.isUpperCase(name.charAt(0))) {
+      return name;
+    }
+    char[] chars = name.toCharArray();
+    chars[0] = Character.toLowerCase(chars[0]);
+    return new String(chars);
+  }
+
+
+  private static Map<String, Property> doScan(Class<?> beanClass) {
+    Map<String, Candidates> candidates = new TreeMap<>();
+    Map<String, List<Method>> fluentSetters = new HashMap<>();
+    for (Method method : beanClass.getMethods()) {
+      if (method.getDeclaringClass().isInterface() && method.getDeclaringClass() != beanClass) {
+        // The Introspector only considers methods declared by the class and its super classes
+        continue;
+      }
+      String name = method.getName();
+      Class<?> returnType = method.getReturnType();
+      boolean isStatic = Modifier.isStatic(method.getModifiers());
+      if (method.isBridge()) {
+        // A bridge is left behind when a getter's return type is narrowed. It shows what the overridden getter returned.
+        if (!isStatic && method.getParameterCount() == 0 && returnType != void.class && isPrefix(name, "get")) {
+          getCandidates(candidates, decapitalize(name.substring(3))).readTypes.add(resolve(beanClass, method.getGenericReturnType()));
+        }
+        continue;
+      }
+      switch (method.getParameterCount()) {
+        case 0:
+          if (isStatic) {
+            break;
+          }
+          if (returnType == boolean.class && isPrefix(name, "is")) {
+            getCandidates(candidates, decapitalize(name.substring(2))).isGetter = method;
+          } else if (returnType != void.class && isPrefix(name, "get")) {
+            getCandidates(candidates, decapitalize(name.substring(3))).getters.add(method);
+          }
+          break;
+        case 1:
+          if (isStatic) {
+            break;
+          }
+          if (returnType == void.class && isPrefix(name, "set")) {
+            getCandidates(candidates, decapitalize(name.substring(3))).setters.add(method);
+          } else if (returnType != void.class && isPrefix(name, "set") && Character.isUpperCase(name.charAt(3))) {
+            // Fluent setters use a simpler naming rule, and only apply to properties that exist, so they are kept apart
+            String propertyName = Character.toLowerCase(name.charAt(3)) + name.substring(4);
+            fluentSetters.computeIfAbsent(propertyName, k -> new ArrayList<>()).add(method);
+          } else if (returnType != void.class && method.getParameterTypes()[0] == int.class && isPrefix(name, "get")) {
+            // Indexed getter
+            getCandidates(candidates, decapitalize(name.substring(3)));
+          }
+          break;
+        case 2:
+          if (!isStatic && returnType == void.class && method.getParameterTypes()[0] == int.class && isPrefix(name, "set")) {
+            // Indexed setter
+            getCandidates(candidates, decapitalize(name.substring(3)));
+          }
+          break;
+        default:
+          break;
+      }
+    }
+
+    Map<String, Property> properties = new TreeMap<>();
+    for (Map.Entry<String, Candidates> entry : candidates.entrySet()) {
+      String name = entry.getKey();
+      Property property = new Property(name);
+      Candidates accessors = entry.getValue();
+      resolveReadMethod(beanClass, property, accessors);
+      resolveWriteMethod(beanClass, property, accessors);
+      List<Method> fluent = fluentSetters.get(name);
+      if (property.writeMethod == null && fluent != null) {
+        property.fluentWriteMethod = selectFluentWriteMethod(beanClass, property, fluent);
+      }
+      properties.put(name, property);
+    }
+    return properties;
+  }
+
+
+  private static Class<?> erase(Type type) {
+    if (type instanceof TypeVariable) {
+      Type[] bounds = ((TypeVariable<?>) type).getBounds();
+      return bounds.length == 0 ? Object.class : erase(bounds[0]);
+    }
+    return Types.getRawType(type);
+  }
+
+
+  private static Candidates getCandidates(Map<String, Candidates> candidates, String name) {
+    return candidates.computeIfAbsent(name, k -> new Candidates());
+  }
+
+
+  private static boolean isPrefix(String name, String prefix) {
+    return name.length() > prefix.length() && name.startsWith(prefix);
+  }
+
+
+  private static void resolveReadMethod(Class<?> beanClass, Property property, Candidates candidates) {
+    if (candidates.isGetter != null) {
+      property.readMethod = candidates.isGetter;
+      property.propertyType = boolean.class;
+      return;
+    }
+
+    // Normally there is only one getter, but an abstract class may inherit several. If so, the most specific wins.
+    candidates.getters.sort(METHOD_ORDER);
+    for (Method method : candidates.getters) {
+      Class<?> type = resolve(beanClass, method.getGenericReturnType());
+      candidates.readTypes.add(type);
+      if (property.readMethod == null || property.propertyType.isAssignableFrom(type)) {
+        property.readMethod = method;
+        property.propertyType = type;
+      }
+    }
+  }
+
+
+  private static void resolveWriteMethod(Class<?> beanClass, Property property, Candidates candidates) {
+    candidates.setters.sort(METHOD_ORDER);
+    Class<?> readType = property.propertyType;
+    Method writer = null;
+    Class<?> writerType = null;
+    Method inherited = null;
+    Class<?> inheritedType = null;
+    for (Method method : candidates.setters) {
+      Class<?> type = resolve(beanClass, method.getGenericParameterTypes()[0]);
+      if (readType == null || readType.isAssignableFrom(type)) {
+        // The most specific write method wins
+        if (writer == null || writerType.isAssignableFrom(type)) {
+          writer = method;
+          writerType = type;
+        }
+      } else if (type.isAssignableFrom(readType) && candidates.readTypes.contains(type)) {
+        // A sub-class narrowed the read method, but the write method it was paired with still applies
+        inherited = method;
+        inheritedType = type;
+      }
+    }
+    if (writer != null) {
+      property.writeMethod = writer;
+      if (readType == null) {
+        property.propertyType = writerType;
+      }
+    } else if (inherited != null) {
+      property.writeMethod = inherited;
+      property.propertyType = inheritedType;
+    }
+  }
+
+
+  private static Class<?> resolve(Class<?> beanClass, Type type) {
+    return erase(Types.resolve(beanClass, beanClass, type));
+  }
+
+
+  /**
+   * Scan the specified bean class for properties.
+   *
+   * @param beanClass the bean class
+   *
+   * @return the properties of the class, keyed and sorted by property name. This includes the "class" property.
+   */
+  public static Map<String, Property> scan(Class<?> beanClass) {
+    ValidationHelper.ensureExists("beanClass", "scan for properties", beanClass);
+    return CACHE.get(beanClass);
+  }
+
+
+  private static Method selectFluentWriteMethod(Class<?> beanClass, Property property, List<Method> methods) {
+    // Prefer a method which accepts the property type, so overloads do not make the result depend on method order
+    methods.sort(METHOD_ORDER);
+    for (Method method : methods) {
+      if (property.propertyType != null && resolve(beanClass, method.getGenericParameterTypes()[0]) == property.propertyType) {
+        return method;
+      }
+    }
+    return methods.get(0);
+  }
+
+
+  private BeanPropertyScanner() {
+    // not instantiable
+  }
+
+}
@@ -31,6 +31,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -40,7 +41,8 @@ import org.meanbean.bean.info.PropertyDescriptorPropertyInformation.WriteMethodA
 import org.meanbean.util.ValidationHelper;
 
 /**
- * Concrete BeanInformation that gathers and contains information about a JavaBean by using java.beans.BeanInfo.
+ * Concrete BeanInformation that gathers and contains information about a JavaBean by using java.beans.BeanInfo. Instances are
+ * immutable once constructed, so they may be shared between threads.
  *
  * @author Graham Williamson
  */
@@ -153,7 +155,7 @@ class JavaBeanInformation implements BeanInformation {
    */
   @Override
   public Collection<PropertyInformation> getProperties() {
-    return properties.values();
+    return Collections.unmodifiableCollection(properties.values());
   }
 
 
@@ -164,7 +166,7 @@ class JavaBeanInformation implements BeanInformation {
    */
   @Override
   public Collection<String> getPropertyNames() {
-    return properties.keySet();
+    return Collections.unmodifiableSet(properties.keySet());
   }
 
 
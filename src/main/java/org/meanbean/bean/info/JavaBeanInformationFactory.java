@@ -21,16 +21,43 @@
 package org.meanbean.bean.info;
 
 import org.kohsuke.MetaInfServices;
+import org.meanbean.util.ValidationHelper;
 
 /**
  * Concrete BeanInformationFactory that creates concrete JavaBeanInformation objects from/based on a specified
  * beanClass.
  *
+ * <p>The information is cached by a {@link BeanInformationCache}.</p>
+ *
  * @author Graham Williamson
  */
 @MetaInfServices
 public class JavaBeanInformationFactory implements BeanInformationFactory {
 
+  /** Cached information for each bean class. */
+  private static final BeanInformationCache CACHE = new BeanInformationCache(JavaBeanInformation::new);
+
+
+  /**
+   * Get the number of requests for bean information that were satisfied from the cache.
+   *
+   * @return the number of cache hits
+   */
+  public static long getCacheHits() {
+    return CACHE.getHits();
+  }
+
+
+  /**
+   * Get the number of requests for bean information that required the bean class to be introspected.
+   *
+   * @return the number of cache misses
+   */
+  public static long getCacheMisses() {
+    return CACHE.getMisses();
+  }
+
+
   /**
    * Create a BeanInformation object from/based on the specified beanClass.
    *
@@ -45,7 +72,8 @@ public class JavaBeanInformationFactory implements BeanInformationFactory {
    */
   @Override
   public BeanInformation create(Class<?> beanClass) throws IllegalArgumentException, BeanInformationException {
-    return new JavaBeanInformation(beanClass);
+    ValidationHelper.ensureExists("beanClass", "gather JavaBean information", beanClass);
+    return CACHE.get(beanClass);
   }
 
 }
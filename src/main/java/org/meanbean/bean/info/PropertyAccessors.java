@@ -0,0 +1,232 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.meanbean.util.reflect.Linkage;
+
+/**
+ * Compiles property read and write methods into accessors that avoid {@link Method#invoke}. Where the bean class can be linked from this
+ * library, the accessor is a class generated by the {@link LambdaMetafactory}. Otherwise it invokes a {@link MethodHandle}. If the
+ * method cannot be unreflected at all, no accessor is created and the caller should use reflection.
+ */
+final class PropertyAccessors {
+
+  /**
+   * Compiled form of a read method of a primitive property, which returns the value's bits as {@link org.meanbean.util.ReadMethod#invokeAsBits}
+   * does, without boxing it.
+   */
+  @FunctionalInterface
+  interface BitsGetter {
+
+    long get(Object target) throws Throwable;
+
+  }
+
+
+
+  /**
+   * Compiled form of a read method.
+   */
+  @FunctionalInterface
+  interface Getter {
+
+    Object get(Object target) throws Throwable;
+
+  }
+
+
+
+  /**
+   * Compiled form of a write method. Any value returned by a fluent setter is discarded.
+   */
+  @FunctionalInterface
+  interface Setter {
+
+    void set(Object target, Object value) throws Throwable;
+
+  }
+
+
+  /** Converts a primitive value to bits, for the types which are not simply widened to a long. */
+  private static final Map<Class<?>, MethodHandle> BITS = new HashMap<>();
+
+  private static final MethodType BITS_GETTER_TYPE = MethodType.methodType(long.class, Object.class);
+
+  private static final Map<Class<?>, Class<?>> BOXES = new HashMap<>();
+
+  private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+  private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+  static {
+    BOXES.put(boolean.class, Boolean.class);
+    BOXES.put(byte.class, Byte.class);
+    BOXES.put(char.class, Character.class);
+    BOXES.put(double.class, Double.class);
+    BOXES.put(float.class, Float.class);
+    BOXES.put(int.class, Integer.class);
+    BOXES.put(long.class, Long.class);
+    BOXES.put(short.class, Short.class);
+    BOXES.put(void.class, Void.class);
+
+    MethodHandles.Lookup lookup = MethodHandles.lookup();
+    try {
+      BITS.put(boolean.class, lookup.findStatic(PropertyAccessors.class, "booleanBits", MethodType.methodType(long.class, boolean.class)));
+      BITS.put(double.class, lookup.findStatic(Double.class, "doubleToLongBits", MethodType.methodType(long.class, double.class)));
+      BITS.put(float.class, lookup.findStatic(Float.class, "floatToIntBits", MethodType.methodType(int.class, float.class)));
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+
+  private static long booleanBits(boolean value) {
+    return value ? 1 : 0;
+  }
+
+
+  /**
+   * Get the wrapper type of a primitive type.
+   *
+   * @param type the type
+   *
+   * @return the wrapper type if the type is primitive, otherwise the type itself
+   */
+  static Class<?> box(Class<?> type) {
+    return type.isPrimitive() ? BOXES.get(type) : type;
+  }
+
+
+  /**
+   * Create a getter which reads the bits of a primitive value returned by a method that takes no arguments. The method must already be accessible.
+   *
+   * @param method the method
+   *
+   * @return the getter, or null if the method does not return a primitive or cannot be unreflected
+   */
+  static BitsGetter createBitsGetter(Method method) {
+    Class<?> type = method.getReturnType();
+    if (!type.isPrimitive() || type == void.class) {
+      return null;
+    }
+    MethodHandle handle = unreflect(method);
+    if (handle == null) {
+      return null;
+    }
+    MethodHandle bits = BITS.get(type);
+    if (bits == null && Linkage.isLinkable(method.getDeclaringClass())) {
+      // Integral values only need widening, which the metafactory can do
+      try {
+        MethodType instantiated = MethodType.methodType(long.class, method.getDeclaringClass());
+        CallSite site = LambdaMetafactory.metafactory(MethodHandles.lookup(), "get", MethodType.methodType(BitsGetter.class),
+            BITS_GETTER_TYPE, handle, instantiated);
+        return (BitsGetter) site.getTarget().invokeExact();
+      } catch (Throwable e) {
+        // fall back to the method handle
+      }
+    }
+    MethodHandle adapted = (bits != null ? MethodHandles.filterReturnValue(handle, bits) : handle).asType(BITS_GETTER_TYPE);
+    // The cast is required so that the exact invocation is compiled with a long return type
+    return target -> (long) adapted.invokeExact(target);
+  }
+
+
+  /**
+   * Create a getter for a method that takes no arguments. The method must already be accessible.
+   *
+   * @param method the method
+   *
+   * @return the getter, or null if the method cannot be unreflected
+   */
+  static Getter createGetter(Method method) {
+    MethodHandle handle = unreflect(method);
+    if (handle == null) {
+      return null;
+    }
+    if (Linkage.isLinkable(method.getDeclaringClass()) && Linkage.isLinkable(method.getReturnType())) {
+      try {
+        MethodType instantiated = MethodType.methodType(box(method.getReturnType()), method.getDeclaringClass());
+        CallSite site = LambdaMetafactory.metafactory(MethodHandles.lookup(), "get", MethodType.methodType(Getter.class), GETTER_TYPE,
+            handle, instantiated);
+        return (Getter) site.getTarget().invokeExact();
+      } catch (Throwable e) {
+        // fall back to the method handle
+      }
+    }
+    MethodHandle adapted = handle.asType(GETTER_TYPE);
+    return target -> adapted.invokeExact(target);
+  }
+
+
+  /**
+   * Create a setter for a method that takes a single argument. The method must already be accessible.
+   *
+   * @param method the method
+   *
+   * @return the setter, or null if the method cannot be unreflected
+   */
+  static Setter createSetter(Method method) {
+    MethodHandle handle = unreflect(method);
+    if (handle == null) {
+      return null;
+    }
+    Class<?> valueType = method.getParameterTypes()[0];
+    if (Linkage.isLinkable(method.getDeclaringClass()) && Linkage.isLinkable(valueType)) {
+      try {
+        MethodType instantiated = MethodType.methodType(void.class, method.getDeclaringClass(), box(valueType));
+        CallSite site = LambdaMetafactory.metafactory(MethodHandles.lookup(), "set", MethodType.methodType(Setter.class), SETTER_TYPE,
+            handle, instantiated);
+        return (Setter) site.getTarget().invokeExact();
+      } catch (Throwable e) {
+        // fall back to the method handle
+      }
+    }
+    MethodHandle adapted = handle.asType(SETTER_TYPE);
+    // A block body is required so that the exact invocation is compiled with a void return type
+    return (target, value) -> {
+      adapted.invokeExact(target, value);
+    };
+  }
+
+
+  private static MethodHandle unreflect(Method method) {
+    try {
+      return MethodHandles.lookup().unreflect(method);
+    } catch (IllegalAccessException e) {
+      return null;
+    }
+  }
+
+
+  private PropertyAccessors() {
+    // static utility class
+  }
+
+}
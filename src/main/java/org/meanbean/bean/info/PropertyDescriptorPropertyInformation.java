@@ -29,6 +29,9 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
+import org.meanbean.bean.info.PropertyAccessors.BitsGetter;
+import org.meanbean.bean.info.PropertyAccessors.Getter;
+import org.meanbean.bean.info.PropertyAccessors.Setter;
 import org.meanbean.util.ReadMethod;
 import org.meanbean.util.WriteMethod;
 import org.meanbean.util.reflect.ReflectionAccessor;
@@ -43,12 +46,20 @@ class PropertyDescriptorPropertyInformation implements PropertyInformation {
 
   static class ReadMethodAdapter implements ReadMethod {
 
+    /** Compiled accessor of a primitive value's bits, or null if the value is not primitive or must be read reflectively. */
+    private final BitsGetter bitsGetter;
+
+    /** Compiled accessor, or null if the method must be invoked reflectively. */
+    private final Getter getter;
+
     private final Method method;
 
 
     public ReadMethodAdapter(Method method) {
       makeAccessible(method);
       this.method = method;
+      getter = PropertyAccessors.createGetter(method);
+      bitsGetter = PropertyAccessors.createBitsGetter(method);
     }
 
 
@@ -85,7 +96,28 @@ class PropertyDescriptorPropertyInformation implements PropertyInformation {
 
     @Override
     public Object invoke(Object target) throws IllegalAccessException, InvocationTargetException {
-      return method.invoke(target);
+      if (getter == null || !method.getDeclaringClass().isInstance(target)) {
+        // Let reflection report the problem exactly as it always has
+        return method.invoke(target);
+      }
+      try {
+        return getter.get(target);
+      } catch (Throwable t) {
+        throw new InvocationTargetException(t);
+      }
+    }
+
+
+    @Override
+    public long invokeAsBits(Object target) throws IllegalAccessException, InvocationTargetException {
+      if (bitsGetter == null || !method.getDeclaringClass().isInstance(target)) {
+        return ReadMethod.super.invokeAsBits(target);
+      }
+      try {
+        return bitsGetter.get(target);
+      } catch (Throwable t) {
+        throw new InvocationTargetException(t);
+      }
     }
 
 
@@ -102,10 +134,18 @@ class PropertyDescriptorPropertyInformation implements PropertyInformation {
 
     private final Method method;
 
+    /** Compiled accessor, or null if the method must be invoked reflectively. */
+    private final Setter setter;
+
+    /** The method's parameter type, boxed if it is primitive. */
+    private final Class<?> valueType;
+
 
     public WriteMethodAdapter(Method method) {
       makeAccessible(method);
       this.method = method;
+      setter = PropertyAccessors.createSetter(method);
+      valueType = PropertyAccessors.box(method.getParameterTypes()[0]);
     }
 
 
@@ -142,11 +182,28 @@ class PropertyDescriptorPropertyInformation implements PropertyInformation {
 
     @Override
     public Object invoke(Object target, Object value) throws InvocationTargetException, IllegalAccessException {
-      method.invoke(target, value);
+      if (setter == null || !method.getDeclaringClass().isInstance(target) || !isDirectlyAssignable(value)) {
+        // Let reflection handle widening conversions and report problems exactly as it always has
+        method.invoke(target, value);
+        return target;
+      }
+      try {
+        setter.set(target, value);
+      } catch (Throwable t) {
+        throw new InvocationTargetException(t);
+      }
       return target;
     }
 
 
+    private boolean isDirectlyAssignable(Object value) {
+      if (value == null) {
+        return !method.getParameterTypes()[0].isPrimitive();
+      }
+      return valueType.isInstance(value);
+    }
+
+
     @Override
     public String toString() {
       return method.toString();
@@ -195,8 +252,11 @@ class PropertyDescriptorPropertyInformation implements PropertyInformation {
   /** The name of the property. */
   private final String name;
 
-  /** The underlying/wrapped PropertyDescriptor. */
-  private final PropertyDescriptor propertyDescriptor;
+  /** The adapter for the read method, created once as compiling it is expensive. */
+  private final ReadMethod readMethod;
+
+  /** The adapter for the write method, created once as compiling it is expensive. */
+  private final WriteMethod writeMethod;
 
   private WriteMethod writeMethodOverride;
 
@@ -207,9 +267,22 @@ class PropertyDescriptorPropertyInformation implements PropertyInformation {
    * @param propertyDescriptor The PropertyDescriptor this object will wrap.
    */
   PropertyDescriptorPropertyInformation(PropertyDescriptor propertyDescriptor) {
-    this.name = propertyDescriptor.getName();
-    this.propertyDescriptor = propertyDescriptor;
-    isNullable = inferNullable(propertyDescriptor.getReadMethod(), propertyDescriptor.getWriteMethod());
+    this(propertyDescriptor.getName(), propertyDescriptor.getReadMethod(), propertyDescriptor.getWriteMethod());
+  }
+
+
+  /**
+   * Construct a new Property Descriptor Property Information for a property with the specified accessors.
+   *
+   * @param name        The name of the property.
+   * @param readMethod  The read method of the property, or null.
+   * @param writeMethod The write method of the property, or null.
+   */
+  PropertyDescriptorPropertyInformation(String name, Method readMethod, Method writeMethod) {
+    this.name = name;
+    isNullable = inferNullable(readMethod, writeMethod);
+    this.readMethod = readMethod != null ? new ReadMethodAdapter(readMethod) : null;
+    this.writeMethod = writeMethod != null ? new WriteMethodAdapter(writeMethod) : null;
   }
 
 
@@ -232,8 +305,7 @@ class PropertyDescriptorPropertyInformation implements PropertyInformation {
    */
   @Override
   public ReadMethod getReadMethod() {
-    Method method = propertyDescriptor.getReadMethod();
-    return method != null ? new ReadMethodAdapter(method) : null;
+    return readMethod;
   }
 
 
@@ -263,9 +335,7 @@ class PropertyDescriptorPropertyInformation implements PropertyInformation {
     if (writeMethodOverride != null) {
       return writeMethodOverride;
     }
-
-    Method method = propertyDescriptor.getWriteMethod();
-    return method != null ? new WriteMethodAdapter(method) : null;
+    return writeMethod;
   }
 
 
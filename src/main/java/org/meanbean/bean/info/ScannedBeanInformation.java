@@ -0,0 +1,102 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.meanbean.bean.info.BeanPropertyScanner.Property;
+import org.meanbean.bean.info.PropertyDescriptorPropertyInformation.WriteMethodAdapter;
+import org.meanbean.util.ValidationHelper;
+
+/**
+ * Concrete BeanInformation that gathers information about a JavaBean by scanning its public methods with the {@link BeanPropertyScanner}. It finds
+ * the same properties as {@link JavaBeanInformation}, but does not require the java.beans Introspector. Instances are immutable once constructed, so
+ * they may be shared between threads.
+ */
+class ScannedBeanInformation implements BeanInformation {
+
+  /** The type of object this object contains information about. */
+  private final Class<?> beanClass;
+
+  /** Information about each property of the type, keyed by property name. */
+  private final Map<String, PropertyInformation> properties = new ConcurrentHashMap<>();
+
+
+  /**
+   * Construct a new Scanned Bean Information object for the specified type.
+   *
+   * @param beanClass The type of the JavaBean object to gather information about.
+   *
+   * @throws IllegalArgumentException If the beanClass is deemed illegal. For example, if it is null.
+   */
+  ScannedBeanInformation(Class<?> beanClass) throws IllegalArgumentException {
+    ValidationHelper.ensureExists("beanClass", "gather JavaBean information", beanClass);
+    this.beanClass = beanClass;
+    for (Property property : BeanPropertyScanner.scan(beanClass).values()) {
+      if ("class".equals(property.getName())) {
+        continue;
+      }
+      PropertyDescriptorPropertyInformation propertyInformation = new PropertyDescriptorPropertyInformation(
+          property.getName(), property.getReadMethod(), property.getWriteMethod());
+      if (property.getFluentWriteMethod() != null) {
+        propertyInformation.setWriteMethodOverride(new WriteMethodAdapter(property.getFluentWriteMethod()));
+      }
+      properties.put(propertyInformation.getName(), propertyInformation);
+    }
+  }
+
+
+  /**
+   * Get the type of bean this object contains information about.
+   *
+   * @return The type of bean this object contains information about.
+   */
+  @Override
+  public Class<?> getBeanClass() {
+    return beanClass;
+  }
+
+
+  /**
+   * Get information about all properties of the bean.
+   *
+   * @return A Collection of all properties of the bean.
+   */
+  @Override
+  public Collection<PropertyInformation> getProperties() {
+    return Collections.unmodifiableCollection(properties.values());
+  }
+
+
+  /**
+   * Get the names of all properties of the bean.
+   *
+   * @return A Collection of names of all properties of the bean.
+   */
+  @Override
+  public Collection<String> getPropertyNames() {
+    return Collections.unmodifiableSet(properties.keySet());
+  }
+
+}
@@ -0,0 +1,76 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import org.kohsuke.MetaInfServices;
+import org.meanbean.util.Order;
+import org.meanbean.util.ValidationHelper;
+
+/**
+ * Concrete BeanInformationFactory that creates ScannedBeanInformation objects. This is the default factory, as scanning a class's methods directly is
+ * considerably cheaper than using the java.beans Introspector, which remains available via {@link JavaBeanInformationFactory}.
+ *
+ * <p>The information is cached by a {@link BeanInformationCache}.</p>
+ */
+@MetaInfServices
+@Order(1000)
+public class ScannedBeanInformationFactory implements BeanInformationFactory {
+
+  /** Cached information for each bean class. */
+  private static final BeanInformationCache CACHE = new BeanInformationCache(ScannedBeanInformation::new);
+
+
+  /**
+   * Get the number of requests for bean information that were satisfied from the cache.
+   *
+   * @return the number of cache hits
+   */
+  public static long getCacheHits() {
+    return CACHE.getHits();
+  }
+
+
+  /**
+   * Get the number of requests for bean information that required the bean class to be scanned.
+   *
+   * @return the number of cache misses
+   */
+  public static long getCacheMisses() {
+    return CACHE.getMisses();
+  }
+
+
+  /**
+   * Create a BeanInformation object from/based on the specified beanClass.
+   *
+   * @param beanClass The type of the object the BeanInformation information should be about.
+   *
+   * @return Information about the specified type, encapsulated in a BeanInformation object.
+   *
+   * @throws IllegalArgumentException If the beanClass is deemed illegal. For example, if it is null.
+   */
+  @Override
+  public BeanInformation create(Class<?> beanClass) throws IllegalArgumentException {
+    ValidationHelper.ensureExists("beanClass", "gather JavaBean information", beanClass);
+    return CACHE.get(beanClass);
+  }
+
+}
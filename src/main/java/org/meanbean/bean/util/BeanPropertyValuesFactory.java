@@ -22,6 +22,7 @@ package org.meanbean.bean.util;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.meanbean.bean.info.BeanInformation;
@@ -51,6 +52,9 @@ public class BeanPropertyValuesFactory implements Factory<Map<String, Object>> {
   /** A means of acquiring a suitable Factory for use when creating values. */
   private final FactoryLookupStrategy factoryLookupStrategy;
 
+  /** The writable properties and their Factories, resolved when the first values are created. */
+  private volatile List<ResolvedProperty> properties;
+
 
   /**
    * Construct a new Bean Property Values Factory.
@@ -88,14 +92,10 @@ public class BeanPropertyValuesFactory implements Factory<Map<String, Object>> {
   @Override
   public Map<String, Object> create() throws ObjectCreationException {
     Map<String, Object> propertyValues = new HashMap<String, Object>();
-    Collection<PropertyInformation> writableProperties =
-        PropertyInformationFilter.filter(beanInformation.getProperties(), PropertyVisibility.WRITABLE);
-    writableProperties = PropertyInformationFilter.filter(writableProperties, configuration);
-
-    for (PropertyInformation property : writableProperties) {
-      String propertyName = property.getName();
+    for (ResolvedProperty property : getProperties()) {
+      String propertyName = property.getProperty().getName();
       try {
-        Factory<?> valueFactory = factoryLookupStrategy.getFactory(beanInformation, property, configuration);
+        Factory<?> valueFactory = property.getFactory();
         Object value = valueFactory.create();
         propertyValues.put(propertyName, value);
       } catch (Exception e) {
@@ -106,4 +106,18 @@ public class BeanPropertyValuesFactory implements Factory<Map<String, Object>> {
     return propertyValues;
   }
 
+
+  private List<ResolvedProperty> getProperties() {
+    List<ResolvedProperty> resolved = properties;
+    if (resolved == null) {
+      // Concurrent first calls may both resolve the properties, but the results are equivalent
+      Collection<PropertyInformation> writableProperties =
+          PropertyInformationFilter.filter(beanInformation.getProperties(), PropertyVisibility.WRITABLE);
+      writableProperties = PropertyInformationFilter.filter(writableProperties, configuration);
+      resolved = ResolvedProperty.resolve(beanInformation, writableProperties, factoryLookupStrategy, configuration);
+      properties = resolved;
+    }
+    return resolved;
+  }
+
 }
@@ -0,0 +1,116 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import org.meanbean.bean.info.BeanInformation;
+import org.meanbean.bean.info.PropertyInformation;
+import org.meanbean.factories.util.FactoryLookupStrategy;
+import org.meanbean.lang.Factory;
+import org.meanbean.test.Configuration;
+import org.meanbean.util.ValidationHelper;
+
+/**
+ * A property together with the Factory that creates values for it. Resolving the Factory once allows it to be reused each time a value is
+ * required, rather than repeating the lookup.
+ *
+ * <p>If the Factory could not be resolved, the failure is retained and rethrown when the Factory is requested, so that it is reported at
+ * the same point as it would have been had the lookup been done on demand.</p>
+ */
+public final class ResolvedProperty {
+
+  /**
+   * Resolve the Factory for each of the specified properties.
+   *
+   * @param beanInformation       Information about the bean the properties belong to.
+   * @param properties            The properties to resolve.
+   * @param factoryLookupStrategy The means of acquiring a suitable Factory for each property.
+   * @param configuration         An optional Configuration that may contain an override Factory for a property.
+   *
+   * @return the resolved properties, in the same order as the specified properties
+   *
+   * @throws IllegalArgumentException If any of the required parameters are deemed illegal. For example, if any are null.
+   */
+  public static List<ResolvedProperty> resolve(
+      BeanInformation beanInformation, Collection<PropertyInformation> properties,
+      FactoryLookupStrategy factoryLookupStrategy, Configuration configuration
+  ) throws IllegalArgumentException {
+    ValidationHelper.ensureExists("beanInformation", "resolve properties", beanInformation);
+    ValidationHelper.ensureExists("properties", "resolve properties", properties);
+    ValidationHelper.ensureExists("factoryLookupStrategy", "resolve properties", factoryLookupStrategy);
+    List<ResolvedProperty> resolved = new ArrayList<>(properties.size());
+    for (PropertyInformation property : properties) {
+      try {
+        resolved.add(new ResolvedProperty(property, factoryLookupStrategy.getFactory(beanInformation, property, configuration), null));
+      } catch (RuntimeException e) {
+        resolved.add(new ResolvedProperty(property, null, e));
+      }
+    }
+    return Collections.unmodifiableList(resolved);
+  }
+
+
+  /** The Factory for the property's values, if it was resolved. */
+  private final Factory<?> factory;
+
+  /** The failure encountered when resolving the Factory, if any. */
+  private final RuntimeException failure;
+
+  /** The property. */
+  private final PropertyInformation property;
+
+
+  private ResolvedProperty(PropertyInformation property, Factory<?> factory, RuntimeException failure) {
+    this.property = property;
+    this.factory = factory;
+    this.failure = failure;
+  }
+
+
+  /**
+   * Get the Factory that creates values for the property.
+   *
+   * @return the Factory
+   *
+   * @throws RuntimeException The exception thrown when the Factory was looked up, if the lookup failed.
+   */
+  public Factory<?> getFactory() {
+    if (failure != null) {
+      throw failure;
+    }
+    return factory;
+  }
+
+
+  /**
+   * Get the property.
+   *
+   * @return the property
+   */
+  public PropertyInformation getProperty() {
+    return property;
+  }
+
+}
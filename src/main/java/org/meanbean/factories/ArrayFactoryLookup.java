@@ -22,39 +22,136 @@ package org.meanbean.factories;
 
 import static org.meanbean.util.Types.getRawType;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Array;
 import java.lang.reflect.Type;
+import java.util.function.ToIntFunction;
 
 import org.kohsuke.MetaInfServices;
+import org.meanbean.factories.basic.ByteFactory;
+import org.meanbean.factories.basic.DoubleFactory;
+import org.meanbean.factories.basic.IntegerFactory;
+import org.meanbean.factories.basic.LongFactory;
 import org.meanbean.lang.Factory;
 import org.meanbean.util.Order;
 import org.meanbean.util.RandomValueGenerator;
 import org.meanbean.util.Types;
 
 /**
- * FactoryCollection for array types
+ * FactoryCollection for array types.
+ *
+ * <p>Arrays of int, long, double and byte are filled directly from the built-in factories for those types without boxing each element, provided
+ * those factories have not been replaced. Other arrays are filled through a single array element setter.</p>
+ *
+ * <p>Array lengths are drawn from a configurable distribution, which by default is uniform between zero and the maximum size.</p>
  */
 @Order(5000)
 @MetaInfServices
 public class ArrayFactoryLookup implements FactoryLookup {
 
+  private static MethodHandle createElementSetter(Class<?> arrayType) {
+    // Adapt the setter so one call site accepts any array, unboxing primitive values
+    return MethodHandles.arrayElementSetter(arrayType)
+        .asType(MethodType.methodType(void.class, Object.class, int.class, Object.class));
+  }
+
+
+  private final CompiledFactories compiledFactories = new CompiledFactories();
+
+  /** Distribution of array lengths. If null, lengths are uniformly distributed between zero and the maximum size. */
+  private ToIntFunction<RandomValueGenerator> lengthDistribution = null;
+
+  private int maxSize = 8;
+
   // TODO is there a way to bias so that 50% of the time matching values are produced
   // and 50% of the time, non-matching values are produced?
   private final RandomValueGenerator randomValueGenerator = RandomValueGenerator.getInstance();
 
-  private int maxSize = 8;
+
+  private Factory<?> createArrayFactory(Type typeToken) {
+    Class<?> arrayType = Types.getRawType(typeToken);
+    Class<?> componentType = arrayType.getComponentType();
+    Factory<?> componentFactory = findComponentFactory(componentType);
+
+    if (componentType.isPrimitive()) {
+      Factory<?> primitiveFactory = createPrimitiveArrayFactory(componentType, componentFactory);
+      if (primitiveFactory != null) {
+        return primitiveFactory;
+      }
+      MethodHandle setter = createElementSetter(arrayType);
+      return () -> randomArray(componentType, componentFactory, setter);
+    }
+
+    return () -> {
+      Object[] array = (Object[]) Array.newInstance(componentType, nextLength());
+      for (int i = 0; i < array.length; i++) {
+        array[i] = componentFactory.create();
+      }
+      return array;
+    };
+  }
+
+
+  private Factory<?> createPrimitiveArrayFactory(Class<?> componentType, Factory<?> componentFactory) {
+    if (componentType == byte.class && componentFactory instanceof ByteFactory) {
+      RandomValueGenerator generator = ((ByteFactory) componentFactory).getRandomValueGenerator();
+      return () -> generator.nextBytes(nextLength());
+    }
+    if (componentType == int.class && componentFactory instanceof IntegerFactory) {
+      RandomValueGenerator generator = ((IntegerFactory) componentFactory).getRandomValueGenerator();
+      return () -> {
+        int[] array = new int[nextLength()];
+        generator.nextInts(array);
+        return array;
+      };
+    }
+    if (componentType == long.class && componentFactory instanceof LongFactory) {
+      RandomValueGenerator generator = ((LongFactory) componentFactory).getRandomValueGenerator();
+      return () -> {
+        long[] array = new long[nextLength()];
+        generator.nextLongs(array);
+        return array;
+      };
+    }
+    if (componentType == double.class && componentFactory instanceof DoubleFactory) {
+      DoubleFactory factory = (DoubleFactory) componentFactory;
+      return () -> {
+        double[] array = new double[nextLength()];
+        for (int i = 0; i < array.length; i++) {
+          array[i] = factory.createDouble();
+        }
+        return array;
+      };
+    }
+    return null;
+  }
 
 
-  private Factory<?> getComponentFactory(Class<?> clazz) {
-    FactoryCollection instance = FactoryCollection.getInstance();
-    return instance.getFactory(clazz.getComponentType());
+  private Factory<?> findComponentFactory(Class<?> componentType) {
+    try {
+      return FactoryCollection.getInstance().getFactory(componentType);
+    } catch (NoSuchFactoryException e) {
+      // Report the missing factory when an array is created, as before
+      return () -> FactoryCollection.getInstance().getFactory(componentType).create();
+    }
   }
 
 
-  @SuppressWarnings("unchecked")
   @Override
   public <T> Factory<T> getFactory(Type typeToken) throws IllegalArgumentException, NoSuchFactoryException {
-    return () -> (T) randomArray(typeToken);
+    return compiledFactories.get(typeToken, this::createArrayFactory);
+  }
+
+
+  /**
+   * Get the distribution array lengths are drawn from.
+   *
+   * @return the distribution, or null if lengths are uniformly distributed between zero and the maximum size
+   */
+  public ToIntFunction<RandomValueGenerator> getLengthDistribution() {
+    return lengthDistribution;
   }
 
 
@@ -69,18 +166,46 @@ public class ArrayFactoryLookup implements FactoryLookup {
   }
 
 
-  private Object randomArray(Type typeToken) {
-    Class<?> clazz = Types.getRawType(typeToken);
-    int length = randomValueGenerator.nextInt(maxSize);
-    Factory<?> componentFactory = getComponentFactory(clazz);
-    Object array = Array.newInstance(clazz.getComponentType(), length);
-    for (int i = 0; i < length; i++) {
-      Array.set(array, i, componentFactory.create());
+  private int nextLength() {
+    ToIntFunction<RandomValueGenerator> distribution = lengthDistribution;
+    if (distribution == null) {
+      return randomValueGenerator.nextInt(maxSize);
+    }
+    int length = distribution.applyAsInt(randomValueGenerator);
+    if (length < 0) {
+      throw new IllegalArgumentException("Array length distribution produced a negative length: " + length);
+    }
+    return length;
+  }
+
+
+  private Object randomArray(Class<?> componentType, Factory<?> componentFactory, MethodHandle setter) {
+    Object array = Array.newInstance(componentType, nextLength());
+    int length = Array.getLength(array);
+    try {
+      for (int i = 0; i < length; i++) {
+        setter.invokeExact(array, i, (Object) componentFactory.create());
+      }
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new IllegalStateException("Failed to populate array of " + componentType, t);
     }
     return array;
   }
 
 
+  /**
+   * Set the distribution array lengths are drawn from. The distribution is given this lookup's random value generator, and must return a length
+   * which is not negative. For example, to test large buffers, use <code>random -&gt; 1024 + random.nextInt(1024)</code>.
+   *
+   * @param lengthDistribution the distribution, or null to use a uniform distribution between zero and the maximum size
+   */
+  public void setLengthDistribution(ToIntFunction<RandomValueGenerator> lengthDistribution) {
+    this.lengthDistribution = lengthDistribution;
+  }
+
+
   public void setMaxSize(int maxArrayLength) {
     this.maxSize = maxArrayLength;
   }
@@ -20,11 +20,18 @@
 
 package org.meanbean.factories;
 
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
 
 import org.meanbean.lang.Factory;
 import org.meanbean.util.ValidationHelper;
+import org.meanbean.util.reflect.Linkage;
 import org.meanbean.util.reflect.ReflectionAccessor;
 
 /**
@@ -32,10 +39,65 @@ import org.meanbean.util.reflect.ReflectionAccessor;
  * classes that have a no-argument constructor can be successfully instantiated by this Factory. If the class does not
  * have a no-argument constructor, an exception will be thrown when <code>create()</code> is invoked.
  *
+ * <p>The no-argument constructor of each class is compiled once into an instantiator, which is shared by every Factory for the class. Where the
+ * class and its constructor are public, the instantiator is generated by the {@link LambdaMetafactory}, so creating an instance costs about the
+ * same as <code>new</code>. Otherwise it invokes a {@link MethodHandle}.</p>
+ *
  * @author Graham Williamson
  */
 public class BasicNewObjectInstanceFactory implements Factory<Object> {
 
+  /**
+   * Compiled form of a no-argument constructor.
+   */
+  @FunctionalInterface
+  interface Instantiator {
+
+    Object newInstance() throws Throwable;
+
+  }
+
+
+  /** The compiled instantiator of each class, or null if the class's constructor cannot be compiled. */
+  private static final ClassValue<Instantiator> INSTANTIATORS = new ClassValue<Instantiator>() {
+    @Override
+    protected Instantiator computeValue(Class<?> type) {
+      return compileInstantiator(type);
+    }
+  };
+
+  private static final MethodType INSTANTIATOR_TYPE = MethodType.methodType(Object.class);
+
+
+  private static Instantiator compileInstantiator(Class<?> type) {
+    if (type.isInterface() || type.isPrimitive() || type.isArray() || Modifier.isAbstract(type.getModifiers())) {
+      return null;
+    }
+    MethodHandle handle;
+    boolean isPublic;
+    try {
+      Constructor<?> constructor = type.getDeclaredConstructor();
+      ReflectionAccessor.getInstance().makeAccessible(constructor);
+      handle = MethodHandles.lookup().unreflectConstructor(constructor);
+      isPublic = Modifier.isPublic(constructor.getModifiers());
+    } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+      // Creation will fail with the reflective exception
+      return null;
+    }
+    if (isPublic && Linkage.isLinkable(type)) {
+      try {
+        CallSite site = LambdaMetafactory.metafactory(MethodHandles.lookup(), "newInstance", MethodType.methodType(Instantiator.class),
+            INSTANTIATOR_TYPE, handle, MethodType.methodType(type));
+        return (Instantiator) site.getTarget().invokeExact();
+      } catch (Throwable e) {
+        // fall back to the method handle
+      }
+    }
+    MethodHandle adapted = handle.asType(INSTANTIATOR_TYPE);
+    return () -> adapted.invokeExact();
+  }
+
+
   public static Factory<Object> findBeanFactory(Class<?> clazz) {
     FactoryCollection factoryCollection = FactoryCollection.getInstance();
     if (factoryCollection.hasFactory(clazz)) {
@@ -72,6 +134,21 @@ public class BasicNewObjectInstanceFactory implements Factory<Object> {
    */
   @Override
   public Object create() throws ObjectCreationException {
+    Instantiator instantiator = INSTANTIATORS.get(clazz);
+    if (instantiator == null) {
+      return createReflectively();
+    }
+    try {
+      return instantiator.newInstance();
+    } catch (Throwable t) {
+      // Report a failing constructor as reflection would
+      wrapAndRethrowException(new InvocationTargetException(t));
+      return null;
+    }
+  }
+
+
+  private Object createReflectively() throws ObjectCreationException {
     Object result = null;
     try {
       Constructor<?> declaredConstructor = clazz.getDeclaredConstructor();
@@ -93,6 +93,8 @@ public class CollectionFactoryLookup implements FactoryLookup {
 
   private final Map<Class<?>, Factory<?>> collectionFactories = buildDefaultCollectionFactories();
 
+  private final CompiledFactories compiledFactories = new CompiledFactories();
+
   private final RandomValueGenerator randomValueGenerator = RandomValueGenerator.getInstance();
 
   private int maxSize = 8;
@@ -104,7 +106,7 @@ public class CollectionFactoryLookup implements FactoryLookup {
     Factory<Object> instanceFactory = findCollectionInstanceFactory(typeToken, rawType);
 
     Type itemType = findElementType(typeToken, 0);
-    Factory<?> itemFactory = findItemFactory(itemType);
+    Factory<?> itemFactory = CompiledFactories.findComponentFactory(itemType);
 
     if (Map.class.isAssignableFrom(rawType)) {
       return createMapPopulatingFactory(typeToken, instanceFactory, itemFactory);
@@ -128,7 +130,7 @@ public class CollectionFactoryLookup implements FactoryLookup {
   @SuppressWarnings({"unchecked", "rawtypes"})
   private Factory<?> createMapPopulatingFactory(Type typeToken, Factory<Object> instanceFactory, Factory<?> itemFactory) {
     Type valueType = findElementType(typeToken, 1);
-    Factory<?> valueFactory = findItemFactory(valueType);
+    Factory<?> valueFactory = CompiledFactories.findComponentFactory(valueType);
 
     Factory<Object> populatingFactory = () -> {
       Map map = (Map) instanceFactory.create();
@@ -179,20 +181,9 @@ public class CollectionFactoryLookup implements FactoryLookup {
   }
 
 
-  private Factory<?> findItemFactory(Type itemType) {
-    FactoryCollection factoryCollection = FactoryCollection.getInstance();
-    try {
-      return factoryCollection.getFactory(itemType);
-    } catch (NoSuchFactoryException e) {
-      return factoryCollection.getFactory(void.class);
-    }
-  }
-
-
-  @SuppressWarnings("unchecked")
   @Override
   public <T> Factory<T> getFactory(Type typeToken) throws IllegalArgumentException, NoSuchFactoryException {
-    return (Factory<T>) createCollectionPopulatingFactory(typeToken);
+    return compiledFactories.get(typeToken, this::createCollectionPopulatingFactory);
   }
 
 
@@ -0,0 +1,106 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.factories;
+
+import java.lang.reflect.Type;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.meanbean.lang.Factory;
+import org.meanbean.util.Types;
+
+/**
+ * Factories compiled by a FactoryLookup for generic types. A compiled factory holds the factories of its component types, which were resolved
+ * when it was compiled, so creating a value does not consult the FactoryCollection. Compiled factories are keyed by canonical type, and are
+ * discarded when the FactoryCollection of the current context reports a change.
+ */
+final class CompiledFactories {
+
+  /**
+   * Find the factory for a component type. If the type has no factory, a factory which creates nulls is used.
+   *
+   * @param type the component type
+   *
+   * @return the factory
+   */
+  static Factory<?> findComponentFactory(Type type) {
+    FactoryCollection factoryCollection = FactoryCollection.getInstance();
+    try {
+      return factoryCollection.getFactory(type);
+    } catch (NoSuchFactoryException e) {
+      return factoryCollection.getFactory(void.class);
+    }
+  }
+
+
+  /** The compiled factories, guarded by this. */
+  private final Map<Type, Factory<?>> factories = new HashMap<>();
+
+  /** The modification count of the FactoryCollection the factories were compiled against, guarded by this. */
+  private long modificationCount = -1;
+
+
+  /**
+   * Get the compiled factory for a type, compiling it if necessary.
+   *
+   * @param type     the type
+   * @param compiler compiles a factory for the type
+   * @param <T>      the type the factory creates
+   *
+   * @return the compiled factory
+   */
+  @SuppressWarnings("unchecked")
+  <T> Factory<T> get(Type type, Function<Type, Factory<?>> compiler) {
+    long count = FactoryCollection.getInstance().getModificationCount();
+    if (count == -1) {
+      // the collection cannot report changes, so nothing can be remembered
+      return (Factory<T>) compiler.apply(type);
+    }
+    Type key = Types.canonicalize(type);
+    synchronized (this) {
+      if (count > modificationCount) {
+        factories.clear();
+        modificationCount = count;
+      }
+      if (count == modificationCount) {
+        Factory<?> factory = factories.get(key);
+        if (factory != null) {
+          return (Factory<T>) factory;
+        }
+      }
+    }
+
+    // Compiled outside the lock, as compiling a factory may compile the factories of its component types
+    Factory<?> factory = compiler.apply(type);
+    synchronized (this) {
+      // A factory compiled against an older collection is used, but not remembered
+      if (count == modificationCount) {
+        Factory<?> existing = factories.putIfAbsent(key, factory);
+        if (existing != null) {
+          factory = existing;
+        }
+      }
+    }
+    return (Factory<T>) factory;
+  }
+
+}
@@ -0,0 +1,147 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.factories;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.meanbean.util.RandomValueGenerator;
+import org.meanbean.util.ServiceDefinition;
+import org.meanbean.util.ServiceFactory;
+
+/**
+ * A RandomValueGenerator which draws from the generator of the current service context. The factories shared by every repository are given one
+ * of these, so each context's values come from the generator that context has loaded. Outside any context, the generator of the context that
+ * created the shared factories is used.
+ */
+final class ContextRandomValueGenerator implements RandomValueGenerator {
+
+  private static final ServiceDefinition<RandomValueGenerator> DEFINITION = RandomValueGenerator.getServiceDefinition();
+
+  /** The generator used when there is no current context. */
+  private final RandomValueGenerator fallback;
+
+
+  /**
+   * New instance.
+   *
+   * @param fallback the generator used when there is no current context
+   */
+  ContextRandomValueGenerator(RandomValueGenerator fallback) {
+    this.fallback = fallback;
+  }
+
+
+  private RandomValueGenerator current() {
+    return ServiceFactory.hasContext() ? DEFINITION.getServiceFactory().getFirst() : fallback;
+  }
+
+
+  @Override
+  public boolean nextBoolean() {
+    return current().nextBoolean();
+  }
+
+
+  @Override
+  public byte nextByte() {
+    return current().nextByte();
+  }
+
+
+  @Override
+  public byte[] nextBytes(int size) {
+    return current().nextBytes(size);
+  }
+
+
+  @Override
+  public double nextDouble() {
+    return current().nextDouble();
+  }
+
+
+  @Override
+  public float nextFloat() {
+    return current().nextFloat();
+  }
+
+
+  @Override
+  public int nextInt(int bound) {
+    return current().nextInt(bound);
+  }
+
+
+  @Override
+  public int nextInt() {
+    return current().nextInt();
+  }
+
+
+  @Override
+  public void nextInts(int[] out) {
+    current().nextInts(out);
+  }
+
+
+  @Override
+  public long nextLong() {
+    return current().nextLong();
+  }
+
+
+  @Override
+  public void nextLongs(long[] out) {
+    current().nextLongs(out);
+  }
+
+
+  @Override
+  public UUID nextUUID() {
+    return current().nextUUID();
+  }
+
+
+  @Override
+  public boolean seed(long seed) {
+    return current().seed(seed);
+  }
+
+
+  @Override
+  public Runnable seedTemporarily(long seed) {
+    return current().seedTemporarily(seed);
+  }
+
+
+  @Override
+  public void shuffle(List<?> list) {
+    current().shuffle(list);
+  }
+
+
+  @Override
+  public RandomValueGenerator split() {
+    return current().split();
+  }
+
+}
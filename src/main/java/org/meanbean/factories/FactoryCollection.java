@@ -66,4 +66,14 @@ public interface FactoryCollection extends FactoryLookup {
    */
   void addFactoryLookup(FactoryLookup factoryLookup);
 
+  /**
+   * Get a count which changes whenever a Factory or FactoryLookup is added to this collection. Users of the collection may remember what they
+   * found in it for as long as this count is unchanged.
+   *
+   * @return the modification count, or -1 if this collection does not track its modifications
+   */
+  default long getModificationCount() {
+    return -1;
+  }
+
 }
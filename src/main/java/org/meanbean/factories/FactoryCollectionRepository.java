@@ -21,9 +21,15 @@
 package org.meanbean.factories;
 
 import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.kohsuke.MetaInfServices;
@@ -33,14 +39,45 @@ import org.meanbean.util.ServiceDefinition;
 import org.meanbean.util.ServiceFactory;
 
 /**
- * Mutable FactoryCollection that delegates to other FactoryCollection implementations
+ * Mutable FactoryCollection that delegates to other FactoryCollection implementations.
+ *
+ * <p>The ordered chain of lookups is built once. The lookup which answers for each type is then remembered in a dispatch index, so finding a
+ * factory normally takes a single hash probe. The index is rebuilt whenever the modification count of this repository changes.</p>
  */
 @MetaInfServices
 @Order(1000)
 public class FactoryCollectionRepository implements FactoryCollection {
 
+  /** The lookup which answers for each type, valid for a single modification count. */
+  private static final class DispatchIndex {
+
+    /** The lookup for each type, or empty if no lookup has a factory for the type. */
+    final Map<Type, Optional<FactoryLookup>> lookups = new ConcurrentHashMap<>();
+
+    final long modificationCount;
+
+
+    DispatchIndex(long modificationCount) {
+      this.modificationCount = modificationCount;
+    }
+
+  }
+
+
+
+  /** The FactoryCollection services this repository delegates to. Loaded on first use, as this repository is itself such a service. */
+  private volatile List<FactoryCollection> delegates;
+
+  private volatile DispatchIndex dispatchIndex = new DispatchIndex(-1);
+
   private final List<FactoryLookup> factoryLookups = new CopyOnWriteArrayList<>();
 
+  /** The number of factory lookups added to this repository. */
+  private final AtomicLong modificationCount = new AtomicLong();
+
+  /** The FactoryLookup and FactoryCollection services, in order. Loaded on first use. */
+  private volatile List<FactoryLookup> serviceLookups;
+
 
   @Override
   public void addFactory(Class<?> clazz, Factory<?> factory) throws IllegalArgumentException {
@@ -51,48 +88,104 @@ public class FactoryCollectionRepository implements FactoryCollection {
   @Override
   public void addFactoryLookup(FactoryLookup factoryLookup) {
     factoryLookups.add(0, factoryLookup);
+    modificationCount.incrementAndGet();
   }
 
 
-  private Stream<FactoryCollection> factoryCollections() {
-    return servicesFrom(FactoryCollection.getServiceDefinition());
+  private Optional<FactoryLookup> dispatch(Type type) {
+    long count = getModificationCount();
+    if (count == -1) {
+      // A delegate cannot report its changes, so nothing can be remembered
+      return findLookup(type);
+    }
+    DispatchIndex index = dispatchIndex;
+    if (index.modificationCount != count) {
+      index = new DispatchIndex(count);
+      dispatchIndex = index;
+    }
+
+    // Not computeIfAbsent, as a lookup may consult this repository for another type
+    Optional<FactoryLookup> lookup = index.lookups.get(type);
+    if (lookup == null) {
+      lookup = findLookup(type);
+      index.lookups.put(type, lookup);
+    }
+    return lookup;
+  }
+
+
+  private List<FactoryCollection> factoryCollections() {
+    List<FactoryCollection> collections = delegates;
+    if (collections == null) {
+      collections = servicesFrom(FactoryCollection.getServiceDefinition());
+      delegates = collections;
+    }
+    return collections;
   }
 
 
   Stream<FactoryLookup> factoryLookups() {
-    Stream<FactoryLookup> lookups = servicesFrom(FactoryLookup.getServiceDefinition());
-    Stream<FactoryLookup> services = Stream.concat(lookups, factoryCollections())
-        .sorted(ServiceFactory.getComparator());
-    return Stream.concat(factoryLookups.stream(), services);
+    List<FactoryLookup> services = serviceLookups;
+    if (services == null) {
+      List<FactoryLookup> lookups = new ArrayList<>(servicesFrom(FactoryLookup.getServiceDefinition()));
+      lookups.addAll(factoryCollections());
+      lookups.sort(ServiceFactory.getComparator());
+      services = Collections.unmodifiableList(lookups);
+      serviceLookups = services;
+    }
+    return Stream.concat(factoryLookups.stream(), services.stream());
+  }
+
+
+  private Optional<FactoryLookup> findLookup(Type type) {
+    return factoryLookups()
+        .filter(factoryLookup -> factoryLookup.hasFactory(type))
+        .findFirst();
   }
 
 
   @Override
   public <T> Factory<T> getFactory(Type type) throws IllegalArgumentException, NoSuchFactoryException {
-    Optional<Factory<T>> resultOptional = factoryLookups()
-        .filter(factoryCollection -> factoryCollection.hasFactory(type))
-        .findFirst()
-        .map(factoryCollection -> factoryCollection.getFactory(type));
-
-    if (resultOptional.isPresent()) {
-      return resultOptional.get();
+    Optional<FactoryLookup> lookup = dispatch(type);
+    if (lookup.isPresent()) {
+      return lookup.get().getFactory(type);
     }
 
     throw new NoSuchFactoryException("No factory found for " + type);
   }
 
 
+  /**
+   * Get the modification count of this repository, which combines its own count with those of the collections it delegates to.
+   *
+   * @return the modification count, or -1 if any of the delegate collections do not track their modifications
+   */
+  @Override
+  public long getModificationCount() {
+    long count = modificationCount.get();
+    for (FactoryCollection factoryCollection : factoryCollections()) {
+      long delegateCount = factoryCollection.getModificationCount();
+      if (delegateCount == -1) {
+        return -1;
+      }
+      count += delegateCount;
+    }
+    return count;
+  }
+
+
   @Override
   public boolean hasFactory(Type type) throws IllegalArgumentException {
-    return factoryLookups().anyMatch(factoryCollection -> factoryCollection.hasFactory(type));
+    return dispatch(type).isPresent();
   }
 
 
-  private <T> Stream<T> servicesFrom(ServiceDefinition<T> definition) {
+  private <T> List<T> servicesFrom(ServiceDefinition<T> definition) {
     return definition.getServiceFactory()
         .getAll()
         .stream()
-        .filter(factoryCollection -> factoryCollection != this);
+        .filter(factoryCollection -> factoryCollection != this)
+        .collect(Collectors.toList());
   }
 
 }
@@ -21,11 +21,15 @@
 package org.meanbean.factories;
 
 import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.kohsuke.MetaInfServices;
 import org.meanbean.lang.Factory;
+import org.meanbean.util.ClassLoaderCache;
 import org.meanbean.util.Order;
 import org.meanbean.util.RandomValueGenerator;
 import org.meanbean.util.ValidationHelper;
@@ -33,21 +37,48 @@ import org.meanbean.util.ValidationHelper;
 /**
  * Concrete collection factories of different types of objects.
  *
+ * <p>The factories registered by the {@link FactoryCollectionPlugin}s are created once per class loader and shared, unmodified, by every
+ * repository. They draw their random values from the generator of the service context in use when they create a value. Each repository only
+ * records the factories added to it, which take precedence over the shared ones.</p>
+ *
  * @author Graham Williamson
  */
 @Order(8000)
 @MetaInfServices
 public final class FactoryRepository implements FactoryCollection {
 
-  /** A Map of Factory objects */
+  /** The factories registered by the plugins, shared by all repositories. */
+  private static final ClassLoaderCache<Map<Type, Factory<?>>> BASE_FACTORIES = new ClassLoaderCache<>();
+
+
+  private static Map<Type, Factory<?>> createBaseFactories() {
+    FactoryRepository repository = new FactoryRepository(Collections.emptyMap());
+    // The factories outlive the context creating them, so they draw from whichever context is current when they are used
+    repository.initialize(new ContextRandomValueGenerator(repository.randomValueGenerator));
+    return Collections.unmodifiableMap(new HashMap<>(repository.factories));
+  }
+
+
+  /** The shared factories registered by the plugins. */
+  private final Map<Type, Factory<?>> baseFactories;
+
+  /** The factories added to this repository. */
   private final Map<Type, Factory<?>> factories = new ConcurrentHashMap<>();
 
+  /** The number of factories added to this repository. */
+  private final AtomicLong modificationCount = new AtomicLong();
+
   /** Random number generator used by factories to randomly generate values. */
   private final RandomValueGenerator randomValueGenerator = RandomValueGenerator.getInstance();
 
 
   public FactoryRepository() throws IllegalArgumentException {
-    initialize();
+    this(BASE_FACTORIES.get(FactoryRepository::createBaseFactories));
+  }
+
+
+  private FactoryRepository(Map<Type, Factory<?>> baseFactories) {
+    this.baseFactories = baseFactories;
   }
 
 
@@ -72,6 +103,7 @@ public final class FactoryRepository implements FactoryCollection {
     ValidationHelper.ensureExists("clazz", "add Factory", clazz);
     ValidationHelper.ensureExists("factory", "add Factory", factory);
     factories.put(clazz, factory);
+    modificationCount.incrementAndGet();
   }
 
 
@@ -82,7 +114,9 @@ public final class FactoryRepository implements FactoryCollection {
 
 
   Map<Type, Factory<?>> getFactories() {
-    return factories;
+    Map<Type, Factory<?>> allFactories = new HashMap<>(baseFactories);
+    allFactories.putAll(factories);
+    return allFactories;
   }
 
 
@@ -107,13 +141,23 @@ public final class FactoryRepository implements FactoryCollection {
   @Override
   public <T> Factory<T> getFactory(Type type) throws IllegalArgumentException, NoSuchFactoryException {
     ValidationHelper.ensureExists("type", "get Factory", type);
-    @SuppressWarnings("unchecked")
-    Factory<T> factory = (Factory<T>) factories.get(type);
+    Factory<?> factory = factories.get(type);
+    if (factory == null) {
+      factory = baseFactories.get(type);
+    }
     if (factory == null) {
       String message = "Failed to find a Factory registered against [" + type + "] in the Repository.";
       throw new NoSuchFactoryException(message);
     }
-    return factory;
+    @SuppressWarnings("unchecked")
+    Factory<T> result = (Factory<T>) factory;
+    return result;
+  }
+
+
+  @Override
+  public long getModificationCount() {
+    return modificationCount.get();
   }
 
 
@@ -141,16 +185,18 @@ public final class FactoryRepository implements FactoryCollection {
   @Override
   public boolean hasFactory(Type type) throws IllegalArgumentException {
     ValidationHelper.ensureExists("type", "check collection for Factory", type);
-    return factories.containsKey(type);
+    return factories.containsKey(type) || baseFactories.containsKey(type);
   }
 
 
   /**
    * Initialize the repository prior to public use.
+   *
+   * @param generator the generator given to the plugins
    */
-  private void initialize() {
+  private void initialize(RandomValueGenerator generator) {
     FactoryCollectionPlugin.getInstances()
-        .forEach(plugin -> plugin.initialize(this, randomValueGenerator));
+        .forEach(plugin -> plugin.initialize(this, generator));
   }
 
 }
@@ -63,7 +63,7 @@ public class ObjectFactoryPlugin implements FactoryCollectionPlugin {
     factoryCollection.addFactory(String.class, new StringFactory(randomValueGenerator));
     factoryCollection.addFactory(Void.TYPE, () -> null);
     factoryCollection.addFactory(Date.class, new DateFactory(randomValueGenerator));
-    factoryCollection.addFactory(UUID.class, UUID::randomUUID);
+    factoryCollection.addFactory(UUID.class, randomValueGenerator::nextUUID);
 
   }
 
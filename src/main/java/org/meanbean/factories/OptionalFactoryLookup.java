@@ -58,6 +58,9 @@ public class OptionalFactoryLookup implements FactoryLookup {
   }
 
 
+  private final CompiledFactories compiledFactories = new CompiledFactories();
+
+
   private Factory<?> createOptionalPopulatingFactory(Type typeToken) {
     Class<?> rawType = getRawType(typeToken);
     return findInstanceFactory(typeToken, rawType);
@@ -76,8 +79,8 @@ public class OptionalFactoryLookup implements FactoryLookup {
   private <T> Factory<T> findInstanceFactory(Type type, Class<?> rawType) {
     Class<?> itemType = OPTIONAL_TO_ITEM_TYPE_MAP.get(rawType);
     Factory<?> itemFactory = itemType == null
-        ? findItemFactory(findElementType(type, 0))
-        : findItemFactory(itemType);
+        ? CompiledFactories.findComponentFactory(findElementType(type, 0))
+        : CompiledFactories.findComponentFactory(itemType);
 
     if (rawType.equals(Optional.class)) {
       return () -> (T) Optional.ofNullable(itemFactory.create());
@@ -99,20 +102,9 @@ public class OptionalFactoryLookup implements FactoryLookup {
   }
 
 
-  private Factory<?> findItemFactory(Type itemType) {
-    FactoryCollection factoryCollection = FactoryCollection.getInstance();
-    try {
-      return factoryCollection.getFactory(itemType);
-    } catch (NoSuchFactoryException e) {
-      return factoryCollection.getFactory(void.class);
-    }
-  }
-
-
-  @SuppressWarnings("unchecked")
   @Override
   public <T> Factory<T> getFactory(Type typeToken) throws IllegalArgumentException, NoSuchFactoryException {
-    return (Factory<T>) createOptionalPopulatingFactory(typeToken);
+    return compiledFactories.get(typeToken, this::createOptionalPopulatingFactory);
   }
 
 
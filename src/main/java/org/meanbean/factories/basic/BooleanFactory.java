@@ -51,4 +51,10 @@ public final class BooleanFactory extends RandomFactoryBase<Boolean> {
     return getRandomValueGenerator().nextBoolean();
   }
 
+
+  @Override
+  public int getDomainSize() {
+    return 2;
+  }
+
 }
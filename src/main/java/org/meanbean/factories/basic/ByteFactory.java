@@ -51,4 +51,21 @@ public final class ByteFactory extends RandomFactoryBase<Byte> {
     return getRandomValueGenerator().nextByte();
   }
 
+
+  @Override
+  public void createBatch(int n, Object[] out) {
+    // Each random long supplies eight bytes, lowest first
+    long[] values = longBuffer((n + Long.BYTES - 1) / Long.BYTES);
+    getRandomValueGenerator().nextLongs(values);
+    for (int i = 0; i < n; i++) {
+      out[i] = (byte) (values[i / Long.BYTES] >>> (Byte.SIZE * (i % Long.BYTES)));
+    }
+  }
+
+
+  @Override
+  public int getDomainSize() {
+    return 1 << Byte.SIZE;
+  }
+
 }
@@ -48,6 +48,16 @@ public final class DoubleFactory extends RandomFactoryBase<Double> {
    */
   @Override
   public Double create() {
+    return createDouble();
+  }
+
+
+  /**
+   * Create a new random double, without boxing it.
+   *
+   * @return A new random double.
+   */
+  public double createDouble() {
     // Basis of our random number. This value is always positive, so we need to decide the sign
     double result = getRandomValueGenerator().nextDouble();
     // Our double is either based on MAX_VALUE, else MIN_VALUE
@@ -61,10 +61,16 @@ public class EnumFactory extends RandomFactoryBase<Enum<?>> {
   public Enum<?> create() {
     // Basis to randomly select enum constant from
     double random = getRandomValueGenerator().nextDouble();
-    // Get ordinal from random number
-    int ordinal = ((int) ((enumConstants.length - 1) * random));
+    // Get ordinal from random number. The random number is less than one, so every constant is equally likely.
+    int ordinal = Math.min((int) (enumConstants.length * random), enumConstants.length - 1);
     // Get enum constant from ordinal
     return enumConstants[ordinal];
   }
 
+
+  @Override
+  public int getDomainSize() {
+    return enumConstants.length;
+  }
+
 }
@@ -48,6 +48,26 @@ public final class IntegerFactory extends RandomFactoryBase<Integer> {
    */
   @Override
   public Integer create() {
+    return createInt();
+  }
+
+
+  @Override
+  public void createBatch(int n, Object[] out) {
+    int[] values = intBuffer(n);
+    getRandomValueGenerator().nextInts(values);
+    for (int i = 0; i < n; i++) {
+      out[i] = values[i];
+    }
+  }
+
+
+  /**
+   * Create a new random int, without boxing it.
+   *
+   * @return A new random int.
+   */
+  public int createInt() {
     return getRandomValueGenerator().nextInt();
   }
 
@@ -48,6 +48,26 @@ public final class LongFactory extends RandomFactoryBase<Long> {
    */
   @Override
   public Long create() {
+    return createLong();
+  }
+
+
+  @Override
+  public void createBatch(int n, Object[] out) {
+    long[] values = longBuffer(n);
+    getRandomValueGenerator().nextLongs(values);
+    for (int i = 0; i < n; i++) {
+      out[i] = values[i];
+    }
+  }
+
+
+  /**
+   * Create a new random long, without boxing it.
+   *
+   * @return A new random long.
+   */
+  public long createLong() {
     return getRandomValueGenerator().nextLong();
   }
 
@@ -33,6 +33,49 @@ import org.meanbean.util.ValidationHelper;
  */
 public abstract class RandomFactoryBase<T> implements Factory<T> {
 
+  /** The current thread's buffer for a batch of random ints. Factories are shared between threads, so the buffer belongs to the thread. */
+  private static final ThreadLocal<int[]> INT_BUFFER = ThreadLocal.withInitial(() -> new int[0]);
+
+  /** The current thread's buffer for a batch of random longs. */
+  private static final ThreadLocal<long[]> LONG_BUFFER = ThreadLocal.withInitial(() -> new long[0]);
+
+
+  /**
+   * Get the current thread's buffer for exactly <code>n</code> random ints. The buffer is reused by the next batch on this thread, so it must not
+   * be kept. Its length is exactly <code>n</code>, so filling it draws no more values than the batch needs.
+   *
+   * @param n the number of values
+   *
+   * @return the buffer
+   */
+  static int[] intBuffer(int n) {
+    int[] buffer = INT_BUFFER.get();
+    if (buffer.length != n) {
+      buffer = new int[n];
+      INT_BUFFER.set(buffer);
+    }
+    return buffer;
+  }
+
+
+  /**
+   * Get the current thread's buffer for exactly <code>n</code> random longs. The buffer is reused by the next batch on this thread, so it must not
+   * be kept.
+   *
+   * @param n the number of values
+   *
+   * @return the buffer
+   */
+  static long[] longBuffer(int n) {
+    long[] buffer = LONG_BUFFER.get();
+    if (buffer.length != n) {
+      buffer = new long[n];
+      LONG_BUFFER.set(buffer);
+    }
+    return buffer;
+  }
+
+
   /** Random number generator used by the factory to generate random values. */
   private final RandomValueGenerator randomValueGenerator;
 
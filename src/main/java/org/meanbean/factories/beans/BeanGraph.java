@@ -0,0 +1,131 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.factories.beans;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.meanbean.test.Configuration;
+
+/**
+ * The graph of nested beans being generated on the current thread. The first bean generated is the root of the graph, and the graph is discarded
+ * when the root is complete.
+ *
+ * <p>A bean is not generated if its type is already being generated further up the path from the root, as that would never end, if the path is
+ * already as deep as the configuration allows, or if the configured number of beans has already been generated. Instead an instance of the same
+ * type already generated in the graph is shared, or if there is none, null is used.</p>
+ */
+final class BeanGraph {
+
+  private static final ThreadLocal<BeanGraph> CURRENT = new ThreadLocal<>();
+
+
+  /**
+   * Generate a bean within the current graph, starting a new graph if there is none.
+   *
+   * @param beanClass     the type of bean
+   * @param configuration the configuration which sets the limits of a new graph
+   * @param creator       generates the bean
+   *
+   * @return the new bean, or a shared instance or null if the bean is cut off
+   */
+  static Object create(Class<?> beanClass, Configuration configuration, Supplier<Object> creator) {
+    BeanGraph graph = CURRENT.get();
+    if (graph != null) {
+      return graph.createNested(beanClass, creator);
+    }
+
+    graph = configuration != null
+        ? new BeanGraph(configuration.getMaxGraphDepth(), configuration.getMaxGraphObjects())
+        : new BeanGraph(Configuration.DEFAULT_MAX_GRAPH_DEPTH, Configuration.DEFAULT_MAX_GRAPH_OBJECTS);
+    CURRENT.set(graph);
+    try {
+      return graph.createNested(beanClass, creator);
+    } finally {
+      CURRENT.remove();
+    }
+  }
+
+
+  /**
+   * Generate a bean as the root of a new graph, setting aside any graph being generated on this thread until the bean is complete.
+   *
+   * @param beanClass     the type of bean
+   * @param configuration the configuration which sets the limits of the new graph
+   * @param creator       generates the bean
+   *
+   * @return the new bean
+   */
+  static Object createDetached(Class<?> beanClass, Configuration configuration, Supplier<Object> creator) {
+    BeanGraph suspended = CURRENT.get();
+    CURRENT.remove();
+    try {
+      return create(beanClass, configuration, creator);
+    } finally {
+      if (suspended != null) {
+        CURRENT.set(suspended);
+      }
+    }
+  }
+
+
+  /** The first complete instance of each type. */
+  private final Map<Class<?>, Object> completed = new IdentityHashMap<>();
+
+  /** The number of beans on the path from the root to the bean being generated. */
+  private int depth = 0;
+
+  private final int maxDepth;
+
+  private final int maxObjects;
+
+  /** The number of beans generated in this graph. */
+  private int objects = 0;
+
+  /** The types on the path from the root to the bean being generated. */
+  private final Map<Class<?>, Boolean> path = new IdentityHashMap<>();
+
+
+  private BeanGraph(int maxDepth, int maxObjects) {
+    this.maxDepth = maxDepth;
+    this.maxObjects = maxObjects;
+  }
+
+
+  private Object createNested(Class<?> beanClass, Supplier<Object> creator) {
+    if (depth >= maxDepth || objects >= maxObjects || path.containsKey(beanClass)) {
+      return completed.get(beanClass);
+    }
+    depth++;
+    objects++;
+    path.put(beanClass, Boolean.TRUE);
+    try {
+      Object bean = creator.get();
+      completed.putIfAbsent(beanClass, bean);
+      return bean;
+    } finally {
+      path.remove(beanClass);
+      depth--;
+    }
+  }
+
+}
@@ -35,10 +35,17 @@ import org.meanbean.util.ValidationHelper;
 /**
  * Factory that creates object instances based on provided BeanInformation, assigning each instance different values.
  *
+ * <p>When the values include other beans, the whole graph of nested beans is limited by the configuration's maximum depth and number of beans, and
+ * a bean never contains a newly generated instance of a type it is itself nested in. Where the graph is cut off, an instance of the same type
+ * already in the graph is used, or null.</p>
+ *
  * @author Graham Williamson
  */
 public class PopulatedBeanFactory implements Factory<Object> {
 
+  /** Creates the unpopulated instances of the bean. Found when the first instance is created. */
+  private Factory<Object> beanFactory;
+
   /** The BeanInformation that should be used to create instances of a bean. */
   private final BeanInformation beanInformation;
 
@@ -48,6 +55,9 @@ public class PopulatedBeanFactory implements Factory<Object> {
   /** Creates values that can be used to populate the properties of a Bean. */
   private final BeanPropertyValuesFactory beanPropertyValuesFactory;
 
+  /** Sets the limits of the graphs of nested beans. */
+  private final Configuration configuration;
+
 
   /**
    * Construct a new Factory that creates object instances based on provided BeanInformation, assigning each instance
@@ -65,6 +75,7 @@ public class PopulatedBeanFactory implements Factory<Object> {
     ValidationHelper.ensureExists("beanInformation", "construct Factory", beanInformation);
     ValidationHelper.ensureExists("factoryLookupStrategy", "construct Factory", factoryLookupStrategy);
     this.beanInformation = beanInformation;
+    this.configuration = configuration;
     beanPropertyValuesFactory = new BeanPropertyValuesFactory(beanInformation, factoryLookupStrategy, configuration);
   }
 
@@ -76,8 +87,28 @@ public class PopulatedBeanFactory implements Factory<Object> {
    */
   @Override
   public Object create() throws BeanCreationException {
+    return BeanGraph.create(beanInformation.getBeanClass(), configuration, this::createBean);
+  }
+
+
+  /**
+   * Create a new instance of the Bean as the root of a new graph of nested beans, even if a graph is already being generated on this thread. Within
+   * an existing graph the bean may be cut off and never created, so this is used to check that an instance can be created at all.
+   *
+   * @return the new bean
+   *
+   * @throws BeanCreationException If an error occurs when creating an instance of the Bean.
+   */
+  public Object createDetached() throws BeanCreationException {
+    return BeanGraph.createDetached(beanInformation.getBeanClass(), configuration, this::createBean);
+  }
+
+
+  private Object createBean() {
     Map<String, Object> propertyValues = beanPropertyValuesFactory.create();
-    Factory<Object> beanFactory = BasicNewObjectInstanceFactory.findBeanFactory(beanInformation.getBeanClass());
+    if (beanFactory == null) {
+      beanFactory = BasicNewObjectInstanceFactory.findBeanFactory(beanInformation.getBeanClass());
+    }
     Object result = beanFactory.create();
     return beanPopulator.populate(result, beanInformation, propertyValues);
   }
@@ -20,12 +20,22 @@
 
 package org.meanbean.factories.equivalent;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 import org.meanbean.bean.info.BeanInformation;
-import org.meanbean.bean.util.BasicBeanPopulator;
-import org.meanbean.bean.util.BeanPopulator;
+import org.meanbean.bean.info.PropertyInformation;
+import org.meanbean.bean.util.BeanPopulationException;
 import org.meanbean.bean.util.BeanPropertyValuesFactory;
+import org.meanbean.bean.util.PropertyInformationFilter;
+import org.meanbean.bean.util.PropertyInformationFilter.PropertyVisibility;
 import org.meanbean.factories.BasicNewObjectInstanceFactory;
 import org.meanbean.factories.beans.BeanCreationException;
 import org.meanbean.factories.util.FactoryLookupStrategy;
@@ -33,26 +43,82 @@ import org.meanbean.lang.EquivalentFactory;
 import org.meanbean.lang.Factory;
 import org.meanbean.test.Configuration;
 import org.meanbean.util.ValidationHelper;
+import org.meanbean.util.WriteMethod;
+import org.meanbean.util.reflect.ReflectionAccessor;
 
 /**
  * Factory that creates object instances based on provided BeanInformation, assigning every instance the same field
  * values.
  *
+ * <p>The values are created once, together with the write methods that set them, in the order they must be written. Every instance is then created
+ * by replaying those writes. If the configuration allows copies, the first instance is kept as a template, and each instance returned is a copy of
+ * it made with the bean's public copy constructor, or its public <code>clone()</code> method if it is <code>Cloneable</code>. Beans which support
+ * neither are always created by replaying the writes.</p>
+ *
  * @author Graham Williamson
  */
 public class EquivalentPopulatedBeanFactory implements EquivalentFactory<Object> {
 
+  /** Type of a copy constructor or clone method, adapted to take and return an Object. */
+  private static final MethodType COPIER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+
+  /**
+   * Find a public copy constructor or clone method for a class.
+   *
+   * @param type the class
+   *
+   * @return a handle which copies an instance, or null
+   */
+  private static MethodHandle findCopier(Class<?> type) {
+    try {
+      Constructor<?> constructor = type.getConstructor(type);
+      ReflectionAccessor.getInstance().makeAccessible(constructor);
+      return MethodHandles.lookup().unreflectConstructor(constructor).asType(COPIER_TYPE);
+    } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+      // try clone instead
+    }
+    if (Cloneable.class.isAssignableFrom(type)) {
+      try {
+        Method clone = type.getMethod("clone");
+        if (!Modifier.isStatic(clone.getModifiers())) {
+          ReflectionAccessor.getInstance().makeAccessible(clone);
+          return MethodHandles.lookup().unreflect(clone).asType(COPIER_TYPE);
+        }
+      } catch (NoSuchMethodException | IllegalAccessException | RuntimeException e) {
+        // cannot be copied
+      }
+    }
+    return null;
+  }
+
+
+  /** Creates the unpopulated instances of the bean. Found when the first instance is created. */
+  private Factory<Object> beanFactory;
+
   /** The BeanInformation that should be used to create instances of a bean. */
   private final BeanInformation beanInformation;
 
-  /** Affords functionality to populate a bean (set its fields) with specified values. */
-  private final BeanPopulator beanPopulator = new BasicBeanPopulator();
-
   /** Creates values that can be used to populate the properties of a Bean. */
   private final BeanPropertyValuesFactory beanPropertyValuesFactory;
 
-  /** The values every object instance created by this Factory should have. */
-  private Map<String, Object> propertyValues;
+  /** Copies the template, or null if instances are created by replaying the writes. */
+  private MethodHandle copier;
+
+  /** Should instances be copied from a template, where the bean supports it. */
+  private final boolean isCopyEnabled;
+
+  /** The name of the property written by each write method. */
+  private String[] propertyNames;
+
+  /** The instance copies are made from. */
+  private Object template;
+
+  /** The value given to each property, in the order the properties are written. */
+  private Object[] values;
+
+  /** The write method of each property, in the order the properties are written. */
+  private WriteMethod[] writeMethods;
 
 
   /**
@@ -73,6 +139,7 @@ public class EquivalentPopulatedBeanFactory implements EquivalentFactory<Object>
     ValidationHelper.ensureExists("factoryLookupStrategy", "construct Factory", factoryLookupStrategy);
     this.beanInformation = beanInformation;
     beanPropertyValuesFactory = new BeanPropertyValuesFactory(beanInformation, factoryLookupStrategy, configuration);
+    isCopyEnabled = configuration != null && configuration.isCopyEquivalentBeans();
   }
 
 
@@ -84,12 +151,70 @@ public class EquivalentPopulatedBeanFactory implements EquivalentFactory<Object>
    */
   @Override
   public Object create() throws BeanCreationException {
-    if (propertyValues == null) {
-      propertyValues = beanPropertyValuesFactory.create();
+    if (writeMethods == null) {
+      record();
+    }
+    if (copier != null) {
+      try {
+        return copier.invokeExact(template);
+      } catch (Throwable t) {
+        throw new BeanCreationException("Failed to copy instance of [" + template.getClass().getName() + "] due to Exception ["
+            + t.getClass().getName() + "]: [" + t.getMessage() + "].", t);
+      }
+    }
+    return replay();
+  }
+
+
+  /**
+   * Create the values and record the write methods of the properties they are given to.
+   */
+  private void record() {
+    Map<String, Object> propertyValues = beanPropertyValuesFactory.create();
+    List<PropertyInformation> written = new ArrayList<>();
+    for (PropertyInformation property : PropertyInformationFilter.filter(beanInformation.getProperties(), PropertyVisibility.WRITABLE)) {
+      if (propertyValues.containsKey(property.getName())) {
+        written.add(property);
+      }
+    }
+
+    int size = written.size();
+    String[] names = new String[size];
+    Object[] newValues = new Object[size];
+    WriteMethod[] methods = new WriteMethod[size];
+    for (int i = 0; i < size; i++) {
+      PropertyInformation property = written.get(i);
+      names[i] = property.getName();
+      newValues[i] = propertyValues.get(names[i]);
+      methods[i] = property.getWriteMethod();
+    }
+    propertyNames = names;
+    values = newValues;
+    writeMethods = methods;
+
+    if (isCopyEnabled) {
+      Object instance = replay();
+      copier = findCopier(instance.getClass());
+      template = copier != null ? instance : null;
+    }
+  }
+
+
+  private Object replay() {
+    if (beanFactory == null) {
+      beanFactory = BasicNewObjectInstanceFactory.findBeanFactory(beanInformation.getBeanClass());
+    }
+    Object bean = beanFactory.create();
+    for (int i = 0; i < writeMethods.length; i++) {
+      try {
+        bean = writeMethods[i].invoke(bean, values[i]);
+      } catch (Exception e) {
+        String message = "Failed to populate property [" + propertyNames[i] + "] due to Exception [" + e.getClass().getName() + "]: ["
+            + e.getMessage() + "].";
+        throw new BeanPopulationException(message, e);
+      }
     }
-    Factory<Object> beanFactory = BasicNewObjectInstanceFactory.findBeanFactory(beanInformation.getBeanClass());
-    Object result = beanFactory.create();
-    return beanPopulator.populate(result, beanInformation, propertyValues);
+    return bean;
   }
 
 }
@@ -24,7 +24,6 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Arrays;
 import java.util.List;
-import java.util.UUID;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -67,7 +66,7 @@ public class UrlFactory extends RandomFactoryBase<URL> {
   protected String getRandomDomain() {
     int subdomainCount = getRandomValueGenerator().nextInt(1) + 1;
     return IntStream.range(0, subdomainCount)
-        .mapToObj(num -> UUID.randomUUID().toString())
+        .mapToObj(num -> getRandomValueGenerator().nextUUID().toString())
         .collect(Collectors.joining("."));
   }
 
@@ -23,8 +23,12 @@ package org.meanbean.factories.util;
 import static org.meanbean.test.Warning.DYNAMICALLY_CREATED_FACTORY;
 
 import java.lang.reflect.Type;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.kohsuke.MetaInfServices;
 import org.meanbean.bean.info.BeanInformation;
@@ -36,6 +40,8 @@ import org.meanbean.factories.NoSuchFactoryException;
 import org.meanbean.factories.basic.EnumFactory;
 import org.meanbean.factories.beans.PopulatedBeanFactory;
 import org.meanbean.lang.Factory;
+import org.meanbean.logging.$Event;
+import org.meanbean.logging.$Events;
 import org.meanbean.logging.$Logger;
 import org.meanbean.logging.$LoggerFactory;
 import org.meanbean.test.Configuration;
@@ -64,12 +70,99 @@ import org.meanbean.util.ValidationHelper;
  * thrown.</li>
  * </ol>
  *
+ * <p>The results of steps 2 to 4, including failures, are remembered for each combination of bean class, property and configuration, so a bean
+ * tested many times only has its factories found and tested once. The remembered results are discarded whenever the FactoryCollection reports
+ * a change. Configuration overrides are always checked first, as a Configuration can be changed after it is used.</p>
+ *
+ * <p>The Factory created for a nested bean type in step 3 is a template shared by every property of that type, so it is created and tested once.
+ * A template is shared as soon as it is created, so mutually recursive types find each other's templates instead of creating new ones without
+ * end. The graphs of beans the templates generate are limited as described by {@link PopulatedBeanFactory}.</p>
+ *
  * @author Graham Williamson
  */
 @MetaInfServices
 public class BasicFactoryLookupStrategy implements FactoryLookupStrategy {
 
-  private static final Set<String> dynamicallyCreatedFactories = ConcurrentHashMap.newKeySet();
+  /**
+   * The key of a remembered resolution. Configurations are compared by identity, as they are mutable. A key with no bean class or property name
+   * identifies the shared template for a bean type.
+   */
+  private static final class ResolutionKey {
+
+    private final Class<?> beanClass;
+
+    private final Configuration configuration;
+
+    private final int hashCode;
+
+    private final String propertyName;
+
+    private final Type propertyType;
+
+
+    ResolutionKey(Class<?> beanClass, String propertyName, Type propertyType, Configuration configuration) {
+      this.beanClass = beanClass;
+      this.propertyName = propertyName;
+      this.propertyType = propertyType;
+      this.configuration = configuration;
+      hashCode = Objects.hash(beanClass, propertyName, propertyType, System.identityHashCode(configuration));
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof ResolutionKey)) {
+        return false;
+      }
+      ResolutionKey other = (ResolutionKey) o;
+      return configuration == other.configuration
+          && beanClass == other.beanClass
+          && Objects.equals(propertyName, other.propertyName)
+          && Objects.equals(propertyType, other.propertyType);
+    }
+
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+  }
+
+
+
+  /** A map which discards its least recently used entry when it grows beyond its limit. */
+  private static final class LruMap<K, V> extends LinkedHashMap<K, V> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int limit;
+
+
+    LruMap(int limit) {
+      super(16, 0.75f, true);
+      this.limit = limit;
+    }
+
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+      return size() > limit;
+    }
+
+  }
+
+
+
+  /** The default number of resolutions remembered by each strategy. */
+  public static final int DEFAULT_CACHE_SIZE = 1000;
+
+  /** The bean types that have been reported as having dynamically created factories, so the warning is not repeated. */
+  private static final Set<String> dynamicallyCreatedFactories = Collections.synchronizedSet(
+      Collections.newSetFromMap(new LruMap<>(DEFAULT_CACHE_SIZE)));
 
   /** Logging mechanism. */
   private static final $Logger logger = $LoggerFactory.getLogger(BasicFactoryLookupStrategy.class);
@@ -80,6 +173,21 @@ public class BasicFactoryLookupStrategy implements FactoryLookupStrategy {
   /** Random number generator used by factories to randomly generate values. */
   private final RandomValueGenerator randomValueGenerator;
 
+  /** Remembered resolutions. The value is either a Factory or the NoSuchFactoryException thrown when resolution failed. */
+  private final Map<ResolutionKey, Object> resolutions;
+
+  /** The modification count of the factory collection when the remembered resolutions were made. */
+  private long resolutionsModificationCount = -1;
+
+  /**
+   * Templates which are being tested by each thread. They are shared immediately with the same thread's resolution, so recursive types terminate.
+   * Other threads do not see them until they have passed their test.
+   */
+  private final ThreadLocal<Map<ResolutionKey, PopulatedBeanFactory>> pendingTemplates = new ThreadLocal<>();
+
+  /** Shared templates for nested bean types. Guarded by the resolutions lock, and cleared with the resolutions. */
+  private final Map<ResolutionKey, Factory<?>> templates;
+
 
   /**
    * Construct a new Factory Lookup Strategy.
@@ -92,19 +200,45 @@ public class BasicFactoryLookupStrategy implements FactoryLookupStrategy {
    */
   public BasicFactoryLookupStrategy(FactoryCollection factoryCollection, RandomValueGenerator randomValueGenerator)
       throws IllegalArgumentException {
+    this(factoryCollection, randomValueGenerator, DEFAULT_CACHE_SIZE);
+  }
+
+
+  /**
+   * Construct a new Factory Lookup Strategy.
+   *
+   * @param factoryCollection    A collection of test data Factories.
+   * @param randomValueGenerator Random number generator used by factories to randomly generate values.
+   * @param cacheSize            The maximum number of resolutions to remember. Zero disables the cache.
+   *
+   * @throws IllegalArgumentException If either the factoryCollection or randomValueGenerator are deemed illegal. For example, if either is
+   *                                  <code>null</code>, or if the cache size is negative.
+   */
+  public BasicFactoryLookupStrategy(FactoryCollection factoryCollection, RandomValueGenerator randomValueGenerator, int cacheSize)
+      throws IllegalArgumentException {
     ValidationHelper.ensureExists("factoryCollection", "construct FactoryLookupStrategy", factoryCollection);
     ValidationHelper.ensureExists("randomValueGenerator", "construct FactoryLookupStrategy", randomValueGenerator);
+    ValidationHelper.ensure(cacheSize >= 0, "Cache size must not be negative");
     this.factoryCollection = factoryCollection;
     this.randomValueGenerator = randomValueGenerator;
+    resolutions = new LruMap<>(cacheSize);
+    templates = new LruMap<>(cacheSize);
   }
 
 
   private void cacheEnumPropertyFactory(Class<?> propertyType, EnumFactory enumFactory) {
-    factoryCollection.addFactory(propertyType, enumFactory);
+    synchronized (resolutions) {
+      boolean isCurrent = factoryCollection.getModificationCount() == resolutionsModificationCount;
+      factoryCollection.addFactory(propertyType, enumFactory);
+      if (isCurrent) {
+        // The enum would have been resolved to an equivalent factory anyway, so the remembered resolutions are still valid
+        resolutionsModificationCount = factoryCollection.getModificationCount();
+      }
+    }
   }
 
 
-  private Factory<?> createPopulatedBeanFactory(Class<?> propertyType, Configuration configuration) {
+  private PopulatedBeanFactory createPopulatedBeanFactory(Class<?> propertyType, Configuration configuration) {
     BeanInformationFactory beanInformationFactory = BeanInformationFactory.getInstance();
     BeanInformation propertyBeanInformation = beanInformationFactory.create(propertyType);
     return new PopulatedBeanFactory(propertyBeanInformation, this, configuration);
@@ -115,16 +249,47 @@ public class BasicFactoryLookupStrategy implements FactoryLookupStrategy {
       BeanInformation beanInformation, String propertyName,
       Class<?> propertyType, Configuration configuration
   ) {
+    ResolutionKey templateKey = new ResolutionKey(null, null, propertyType, configuration);
+    Map<ResolutionKey, PopulatedBeanFactory> pending = pendingTemplates.get();
+    Factory<?> template = pending != null ? pending.get(templateKey) : null;
+    if (template == null) {
+      synchronized (resolutions) {
+        template = templates.get(templateKey);
+      }
+    }
+    if (template != null) {
+      // Already tested, or being tested further up this thread's resolution
+      return template;
+    }
+
+    PopulatedBeanFactory populatedBeanFactory = null;
     try {
       onDynamicFactoryCreation(beanInformation, propertyName, propertyType, configuration);
 
-      Factory<?> populatedBeanFactory = createPopulatedBeanFactory(propertyType, configuration);
+      populatedBeanFactory = createPopulatedBeanFactory(propertyType, configuration);
+      if (pending == null) {
+        pending = new HashMap<>();
+        pendingTemplates.set(pending);
+      }
+      pending.put(templateKey, populatedBeanFactory);
       testPopulatedBeanFactory(populatedBeanFactory);
+      if (factoryCollection.getModificationCount() != -1) {
+        synchronized (resolutions) {
+          templates.put(templateKey, populatedBeanFactory);
+        }
+      }
       return populatedBeanFactory;
     } catch (Exception e) {
       String message = "Failed to find suitable Factory for property=[" + propertyName + "] of type=[" + propertyType
           + "]. Please register a custom Factory.";
       throw new NoSuchFactoryException(message, e);
+    } finally {
+      if (populatedBeanFactory != null) {
+        pending.remove(templateKey, populatedBeanFactory);
+        if (pending.isEmpty()) {
+          pendingTemplates.remove();
+        }
+      }
     }
   }
 
@@ -160,23 +325,48 @@ public class BasicFactoryLookupStrategy implements FactoryLookupStrategy {
 
     String propertyName = propertyInformation.getName();
     Type genericType = propertyInformation.getReadMethodReturnType();
-    Class<?> propertyType = Types.getRawType(genericType);
 
     if (propertyHasOverrideFactoryInConfiguration(propertyName, configuration)) {
       return getPropertyOverrideFactoryFromConfiguration(propertyName, configuration);
+    }
 
-    } else if (propertyTypeHasRegisteredFactory(propertyInformation)) {
-      return getPropertyTypeRegisteredFactory(propertyInformation);
-
-    } else if (propertyIsAnEnum(propertyType)) {
-      return getAndCachePropertyEnumFactory(propertyType);
-
-    } else if (propertyIsNotTheSameTypeAsItsParent(beanInformation, propertyType)) {
-      return createTestedPopulatedBeanFactory(beanInformation, propertyName, propertyType, configuration);
+    long modificationCount = factoryCollection.getModificationCount();
+    if (modificationCount == -1) {
+      // the collection cannot report changes, so nothing can be remembered
+      return resolveFactory(beanInformation, propertyInformation, configuration);
+    }
 
-    } else {
-      return createTestedUnpopulatedBeanFactory(beanInformation, propertyName, propertyType, configuration);
+    ResolutionKey key = new ResolutionKey(beanInformation.getBeanClass(), propertyName, genericType, configuration);
+    Object resolution;
+    synchronized (resolutions) {
+      if (modificationCount != resolutionsModificationCount) {
+        resolutions.clear();
+        templates.clear();
+        resolutionsModificationCount = modificationCount;
+      }
+      resolution = resolutions.get(key);
+    }
+    if (resolution == null) {
+      try {
+        resolution = resolveFactory(beanInformation, propertyInformation, configuration);
+      } catch (NoSuchFactoryException e) {
+        resolution = e;
+      }
+      synchronized (resolutions) {
+        // Resolving may have changed the collection, for example by registering an enum factory
+        modificationCount = factoryCollection.getModificationCount();
+        if (modificationCount != resolutionsModificationCount) {
+          resolutions.clear();
+          templates.clear();
+          resolutionsModificationCount = modificationCount;
+        }
+        resolutions.put(key, resolution);
+      }
     }
+    if (resolution instanceof NoSuchFactoryException) {
+      throw (NoSuchFactoryException) resolution;
+    }
+    return (Factory<?>) resolution;
   }
 
 
@@ -244,7 +434,9 @@ public class BasicFactoryLookupStrategy implements FactoryLookupStrategy {
   ) throws IllegalArgumentException, NoSuchFactoryException {
     ValidationHelper.ensureExists("beanInformation", "get factory", beanInformation);
     ValidationHelper.ensureExists("propertyInformation", "get factory", propertyInformation);
-    return doGetFactory(beanInformation, propertyInformation, configuration);
+    try ($Event event = $Events.factoryLookup(beanInformation.getBeanClass(), propertyInformation.getName())) {
+      return doGetFactory(beanInformation, propertyInformation, configuration);
+    }
   }
 
 
@@ -265,12 +457,6 @@ public class BasicFactoryLookupStrategy implements FactoryLookupStrategy {
       return false;
     }
 
-    if (dynamicallyCreatedFactories.size() > 1000) {
-      synchronized (dynamicallyCreatedFactories) {
-        // trim the cache size
-        dynamicallyCreatedFactories.removeIf(value -> dynamicallyCreatedFactories.size() > 50);
-      }
-    }
     String key = beanInformation.getBeanClass().getName() + "." + propertyType.getName();
     return dynamicallyCreatedFactories.add(key);
   }
@@ -316,8 +502,32 @@ public class BasicFactoryLookupStrategy implements FactoryLookupStrategy {
   }
 
 
-  private void testPopulatedBeanFactory(Factory<?> equivalentPopulatedBeanFactory) {
-    equivalentPopulatedBeanFactory.create();
+  private Factory<?> resolveFactory(
+      BeanInformation beanInformation,
+      PropertyInformation propertyInformation,
+      Configuration configuration
+  ) {
+    String propertyName = propertyInformation.getName();
+    Class<?> propertyType = Types.getRawType(propertyInformation.getReadMethodReturnType());
+
+    if (propertyTypeHasRegisteredFactory(propertyInformation)) {
+      return getPropertyTypeRegisteredFactory(propertyInformation);
+
+    } else if (propertyIsAnEnum(propertyType)) {
+      return getAndCachePropertyEnumFactory(propertyType);
+
+    } else if (propertyIsNotTheSameTypeAsItsParent(beanInformation, propertyType)) {
+      return createTestedPopulatedBeanFactory(beanInformation, propertyName, propertyType, configuration);
+
+    } else {
+      return createTestedUnpopulatedBeanFactory(beanInformation, propertyName, propertyType, configuration);
+    }
+  }
+
+
+  private void testPopulatedBeanFactory(PopulatedBeanFactory populatedBeanFactory) {
+    // Test outside any graph being generated, where the bean could be cut off without being created
+    populatedBeanFactory.createDetached();
   }
 
 
@@ -36,4 +36,34 @@ public interface Factory<T extends Object> {
    */
   T create();
 
+
+  /**
+   * Create several new objects of the specified type. Factories which can create many values more efficiently than they can create one may
+   * override this.
+   *
+   * @param n   the number of objects to create
+   * @param out the array to store the objects in, starting at index zero
+   *
+   * @throws IndexOutOfBoundsException if the array is too short
+   */
+  default void createBatch(int n, Object[] out) {
+    if (n > out.length) {
+      throw new IndexOutOfBoundsException("Cannot store " + n + " values in an array of length " + out.length);
+    }
+    for (int i = 0; i < n; i++) {
+      out[i] = create();
+    }
+  }
+
+
+  /**
+   * Get the number of distinct values this Factory creates, where that is small enough for every value to be seen in a test. Knowing the size lets
+   * an adaptive test stop once it has seen every value.
+   *
+   * @return the number of distinct values, or -1 if it is unknown or too large to be covered
+   */
+  default int getDomainSize() {
+    return -1;
+  }
+
 }
@@ -0,0 +1,385 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.logging;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Creates internal diagnostic events, recording them with JDK Flight Recorder when it is available, before falling back to no-op events.
+ *
+ * <p>An event is only created when a recording has enabled it. Otherwise {@link $Event#NONE} is returned, so an event that is not being recorded
+ * costs a check of a flag.</p>
+ */
+public class $Events {
+
+  private static class FlightRecorder {
+
+    @Name("org.meanbean.BeanInformation")
+    @Label("Bean Introspection")
+    @Category("Mean Bean")
+    @Description("Creation of the information about a bean class")
+    static class BeanInformationEvent extends Event implements $Event {
+
+      @Label("Bean Class")
+      Class<?> beanClass;
+
+
+      @Override
+      public void close() {
+        commit();
+      }
+
+    }
+
+
+
+    @Name("org.meanbean.EqualsContract")
+    @Label("Equals Contract Check")
+    @Category("Mean Bean")
+    @Description("Verification of one part of the equals contract")
+    static class EqualsContractEvent extends Event implements $Event {
+
+      @Label("Phase")
+      String phase;
+
+
+      @Override
+      public void close() {
+        commit();
+      }
+
+    }
+
+
+
+    @Name("org.meanbean.FactoryLookup")
+    @Label("Factory Lookup")
+    @Category("Mean Bean")
+    @Description("Resolution of the Factory for a property's values")
+    static class FactoryLookupEvent extends Event implements $Event {
+
+      @Label("Bean Class")
+      Class<?> beanClass;
+
+      @Label("Property")
+      String property;
+
+
+      @Override
+      public void close() {
+        commit();
+      }
+
+    }
+
+
+
+    @Name("org.meanbean.PropertyTest")
+    @Label("Property Test")
+    @Category("Mean Bean")
+    @Description("Test of a property's getter and setter")
+    static class PropertyTestEvent extends Event implements $Event {
+
+      @Label("Bean Class")
+      Class<?> beanClass;
+
+      @Label("Property")
+      String property;
+
+
+      @Override
+      public void close() {
+        commit();
+      }
+
+    }
+
+
+
+    @Name("org.meanbean.ServiceContext")
+    @Label("Service Context Creation")
+    @Category("Mean Bean")
+    @Description("Creation of a context for the services used by a thread")
+    static class ServiceContextEvent extends Event implements $Event {
+
+      @Label("Key Class")
+      Class<?> keyClass;
+
+
+      @Override
+      public void close() {
+        commit();
+      }
+
+    }
+
+
+
+    @Name("org.meanbean.SideEffectCheck")
+    @Label("Side-effect Check")
+    @Category("Mean Bean")
+    @Description("Check that testing a property did not change other properties")
+    static class SideEffectCheckEvent extends Event implements $Event {
+
+      @Label("Bean Class")
+      Class<?> beanClass;
+
+      @Label("Property")
+      String property;
+
+
+      @Override
+      public void close() {
+        commit();
+      }
+
+    }
+
+
+
+    @Name("org.meanbean.ValueCreation")
+    @Label("Value Creation")
+    @Category("Mean Bean")
+    @Description("Creation of test values by a Factory")
+    static class ValueCreationEvent extends Event implements $Event {
+
+      @Label("Count")
+      int count;
+
+      @Label("Factory Class")
+      Class<?> factoryClass;
+
+
+      @Override
+      public void close() {
+        commit();
+      }
+
+    }
+
+
+
+    // An event's isEnabled() reports whether its type is being recorded, so one instance of each type is kept to ask
+    private static final BeanInformationEvent BEAN_INFORMATION = new BeanInformationEvent();
+
+    private static final EqualsContractEvent EQUALS_CONTRACT = new EqualsContractEvent();
+
+    private static final FactoryLookupEvent FACTORY_LOOKUP = new FactoryLookupEvent();
+
+    private static final PropertyTestEvent PROPERTY_TEST = new PropertyTestEvent();
+
+    private static final ServiceContextEvent SERVICE_CONTEXT = new ServiceContextEvent();
+
+    private static final SideEffectCheckEvent SIDE_EFFECT_CHECK = new SideEffectCheckEvent();
+
+    private static final ValueCreationEvent VALUE_CREATION = new ValueCreationEvent();
+
+
+    static $Event beanInformation(Class<?> beanClass) {
+      if (!BEAN_INFORMATION.isEnabled()) {
+        return $Event.NONE;
+      }
+      BeanInformationEvent event = new BeanInformationEvent();
+      event.beanClass = beanClass;
+      event.begin();
+      return event;
+    }
+
+
+    static $Event equalsContract(String phase) {
+      if (!EQUALS_CONTRACT.isEnabled()) {
+        return $Event.NONE;
+      }
+      EqualsContractEvent event = new EqualsContractEvent();
+      event.phase = phase;
+      event.begin();
+      return event;
+    }
+
+
+    static $Event factoryLookup(Class<?> beanClass, String property) {
+      if (!FACTORY_LOOKUP.isEnabled()) {
+        return $Event.NONE;
+      }
+      FactoryLookupEvent event = new FactoryLookupEvent();
+      event.beanClass = beanClass;
+      event.property = property;
+      event.begin();
+      return event;
+    }
+
+
+    static $Event propertyTest(Class<?> beanClass, String property) {
+      if (!PROPERTY_TEST.isEnabled()) {
+        return $Event.NONE;
+      }
+      PropertyTestEvent event = new PropertyTestEvent();
+      event.beanClass = beanClass;
+      event.property = property;
+      event.begin();
+      return event;
+    }
+
+
+    static $Event serviceContext(Class<?> keyClass) {
+      if (!SERVICE_CONTEXT.isEnabled()) {
+        return $Event.NONE;
+      }
+      ServiceContextEvent event = new ServiceContextEvent();
+      event.keyClass = keyClass;
+      event.begin();
+      return event;
+    }
+
+
+    static $Event sideEffectCheck(Class<?> beanClass, String property) {
+      if (!SIDE_EFFECT_CHECK.isEnabled()) {
+        return $Event.NONE;
+      }
+      SideEffectCheckEvent event = new SideEffectCheckEvent();
+      event.beanClass = beanClass;
+      event.property = property;
+      event.begin();
+      return event;
+    }
+
+
+    static $Event valueCreation(Class<?> factoryClass, int count) {
+      if (!VALUE_CREATION.isEnabled()) {
+        return $Event.NONE;
+      }
+      ValueCreationEvent event = new ValueCreationEvent();
+      event.factoryClass = factoryClass;
+      event.count = count;
+      event.begin();
+      return event;
+    }
+
+  }
+
+
+  /** Can events be recorded? False if this JVM does not include JDK Flight Recorder, as older Java 8 runtimes do not. */
+  private static final boolean AVAILABLE = isFlightRecorderAvailable();
+
+
+  /**
+   * Start an event for the creation of the information about a bean class.
+   *
+   * @param beanClass the bean class
+   *
+   * @return the event
+   */
+  public static $Event beanInformation(Class<?> beanClass) {
+    return AVAILABLE ? FlightRecorder.beanInformation(beanClass) : $Event.NONE;
+  }
+
+
+  /**
+   * Start an event for the verification of one part of the equals contract.
+   *
+   * @param phase the part of the contract, such as "reflexive"
+   *
+   * @return the event
+   */
+  public static $Event equalsContract(String phase) {
+    return AVAILABLE ? FlightRecorder.equalsContract(phase) : $Event.NONE;
+  }
+
+
+  /**
+   * Start an event for the resolution of the Factory for a property's values.
+   *
+   * @param beanClass the bean class
+   * @param property  the property name
+   *
+   * @return the event
+   */
+  public static $Event factoryLookup(Class<?> beanClass, String property) {
+    return AVAILABLE ? FlightRecorder.factoryLookup(beanClass, property) : $Event.NONE;
+  }
+
+
+  private static boolean isFlightRecorderAvailable() {
+    try {
+      // Initializing the recorder class loads the event classes, which fails if the jdk.jfr API is missing
+      Class.forName(FlightRecorder.class.getName(), true, $Events.class.getClassLoader());
+      return true;
+    } catch (ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
+
+
+  /**
+   * Start an event for a test of a property's getter and setter.
+   *
+   * @param beanClass the bean class
+   * @param property  the property name
+   *
+   * @return the event
+   */
+  public static $Event propertyTest(Class<?> beanClass, String property) {
+    return AVAILABLE ? FlightRecorder.propertyTest(beanClass, property) : $Event.NONE;
+  }
+
+
+  /**
+   * Start an event for the creation of a service context.
+   *
+   * @param keyClass the class of the object that owns the context
+   *
+   * @return the event
+   */
+  public static $Event serviceContext(Class<?> keyClass) {
+    return AVAILABLE ? FlightRecorder.serviceContext(keyClass) : $Event.NONE;
+  }
+
+
+  /**
+   * Start an event for a check that testing a property did not change other properties.
+   *
+   * @param beanClass the bean class
+   * @param property  the name of the property just tested
+   *
+   * @return the event
+   */
+  public static $Event sideEffectCheck(Class<?> beanClass, String property) {
+    return AVAILABLE ? FlightRecorder.sideEffectCheck(beanClass, property) : $Event.NONE;
+  }
+
+
+  /**
+   * Start an event for the creation of test values by a Factory.
+   *
+   * @param factoryClass the class of the Factory
+   * @param count        the number of values being created
+   *
+   * @return the event
+   */
+  public static $Event valueCreation(Class<?> factoryClass, int count) {
+    return AVAILABLE ? FlightRecorder.valueCreation(factoryClass, count) : $Event.NONE;
+  }
+
+}
@@ -0,0 +1,289 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.meanbean.bean.info.BeanInformation;
+import org.meanbean.bean.info.PropertyInformation;
+import org.meanbean.bean.util.PropertyInformationFilter;
+import org.meanbean.bean.util.ResolvedProperty;
+import org.meanbean.factories.BasicNewObjectInstanceFactory;
+import org.meanbean.factories.util.FactoryLookupStrategy;
+import org.meanbean.lang.Factory;
+import org.meanbean.logging.$Event;
+import org.meanbean.logging.$Events;
+import org.meanbean.test.internal.EqualityTest;
+
+/**
+ * Everything the BeanTester needs to test a bean that does not change between iterations: the properties to test, the Factories for their
+ * values, how their values should be compared, and the Factory for the bean itself. Creating the plan once means each iteration only
+ * creates values and invokes accessors.
+ *
+ * <p>Test values are created in batches, using {@link Factory#createBatch(int, Object[])}, so each property's Factory is called once for many
+ * iterations. A plan is therefore not thread-safe.</p>
+ */
+final class BeanTestPlan {
+
+  /**
+   * A property to test, and how to test it.
+   */
+  static final class PropertyTest {
+
+    /** The number of values created in the next batch, which grows to the buffer's size. */
+    private int batchSize;
+
+    /** How values of the property are compared. */
+    private final EqualityTest equalityTest;
+
+    /** The number of values in the buffer. */
+    private int filled = 0;
+
+    /** The index of the next value to use from the buffer. */
+    private int next = 0;
+
+    /** The property and its value Factory. */
+    private final ResolvedProperty resolved;
+
+    /** Values created in advance. */
+    private final Object[] values;
+
+
+    PropertyTest(ResolvedProperty resolved, int maxBatchSize, int batchSize) {
+      this.resolved = resolved;
+      this.batchSize = batchSize;
+      values = new Object[maxBatchSize];
+      EqualityTest test = EqualityTest.LOGICAL;
+      try {
+        if (resolved.getFactory() instanceof BasicNewObjectInstanceFactory) {
+          test = EqualityTest.ABSOLUTE;
+        }
+      } catch (RuntimeException e) {
+        // The failure is reported when the property is tested
+      }
+      equalityTest = test;
+    }
+
+
+    EqualityTest getEqualityTest() {
+      return equalityTest;
+    }
+
+
+    PropertyInformation getProperty() {
+      return resolved.getProperty();
+    }
+
+
+    Factory<?> getValueFactory() {
+      return resolved.getFactory();
+    }
+
+
+    /**
+     * Get the next test value for the property, creating a new batch of values if necessary. A batch never holds more values than the remaining
+     * iterations need.
+     *
+     * @param remaining the number of iterations still to run, including this one
+     *
+     * @return the test value
+     */
+    Object nextValue(int remaining) {
+      if (next == filled) {
+        // Reset first, so a failing Factory is called again for the next value
+        next = 0;
+        filled = 0;
+        int n = Math.max(1, Math.min(batchSize, remaining));
+        Factory<?> valueFactory = getValueFactory();
+        try ($Event event = $Events.valueCreation(valueFactory.getClass(), n)) {
+          valueFactory.createBatch(n, values);
+        }
+        filled = n;
+        batchSize = Math.min(batchSize * 2, values.length);
+      }
+      Object value = values[next];
+      // Do not keep values that have been used
+      values[next] = null;
+      next++;
+      return value;
+    }
+
+
+    /**
+     * Discard the values created in advance.
+     */
+    void reset() {
+      Arrays.fill(values, null);
+      next = 0;
+      filled = 0;
+    }
+
+  }
+
+
+  /**
+   * The number of values first created for a property when iterations are adaptive. An adaptive test may stop after a few iterations, so the
+   * batches start small and double.
+   */
+  static final int ADAPTIVE_BATCH_SIZE = 4;
+
+  /** The largest number of values created for a property at once, which limits the number of values held in advance. */
+  static final int MAX_BATCH_SIZE = 64;
+
+
+  /**
+   * Create the plan for testing a bean.
+   *
+   * @param beanInformation       information about the bean
+   * @param configuration         the configuration for the test, which may be null
+   * @param factoryLookupStrategy the means of finding the Factories for property values
+   * @param iterations            the number of iterations the plan will be used for
+   *
+   * @return the plan
+   */
+  static BeanTestPlan create(
+      BeanInformation beanInformation, Configuration configuration, FactoryLookupStrategy factoryLookupStrategy,
+      int iterations
+  ) {
+    // Get just the properties of the bean that are readable and writable
+    // Skip testing any 'ignored' properties
+    List<PropertyInformation> readableWritableProperties = PropertyInformationFilter.filter(
+        beanInformation.getProperties(),
+        configuration
+    );
+    List<ResolvedProperty> resolved = ResolvedProperty.resolve(beanInformation, readableWritableProperties, factoryLookupStrategy,
+        configuration);
+    int maxBatchSize = Math.max(1, Math.min(iterations, MAX_BATCH_SIZE));
+    boolean adaptive = configuration != null && configuration.isAdaptiveIterations();
+    int batchSize = adaptive ? Math.min(ADAPTIVE_BATCH_SIZE, maxBatchSize) : maxBatchSize;
+    List<PropertyTest> tests = new ArrayList<>(resolved.size());
+    for (ResolvedProperty property : resolved) {
+      tests.add(new PropertyTest(property, maxBatchSize, batchSize));
+    }
+    return new BeanTestPlan(beanInformation, configuration, readableWritableProperties, tests, iterations);
+  }
+
+
+  /** Factory for the bean under test. */
+  private final Factory<Object> beanFactory;
+
+  /** Information about the bean under test. */
+  private final BeanInformation beanInformation;
+
+  /** The configuration of the test. */
+  private final Configuration configuration;
+
+  /** The properties to test. */
+  private final List<PropertyInformation> properties;
+
+  /** How to test each property. */
+  private final Map<PropertyInformation, PropertyTest> propertyTests;
+
+  /** The number of iterations still to run, including the current one. */
+  private int remainingIterations;
+
+
+  private BeanTestPlan(
+      BeanInformation beanInformation, Configuration configuration, List<PropertyInformation> properties,
+      List<PropertyTest> propertyTests, int remainingIterations
+  ) {
+    this.remainingIterations = remainingIterations;
+    this.beanInformation = beanInformation;
+    this.configuration = configuration;
+    this.properties = Collections.unmodifiableList(properties);
+    Map<PropertyInformation, PropertyTest> map = new IdentityHashMap<>();
+    for (PropertyTest test : propertyTests) {
+      map.put(test.getProperty(), test);
+    }
+    this.propertyTests = map;
+    beanFactory = BasicNewObjectInstanceFactory.findBeanFactory(beanInformation.getBeanClass());
+  }
+
+
+  Factory<Object> getBeanFactory() {
+    return beanFactory;
+  }
+
+
+  BeanInformation getBeanInformation() {
+    return beanInformation;
+  }
+
+
+  Configuration getConfiguration() {
+    return configuration;
+  }
+
+
+  List<PropertyInformation> getProperties() {
+    return properties;
+  }
+
+
+  /**
+   * Get how to test one of this plan's properties.
+   *
+   * @param property the property
+   *
+   * @return how to test it
+   */
+  PropertyTest getPropertyTest(PropertyInformation property) {
+    return propertyTests.get(property);
+  }
+
+
+  /**
+   * Get the next test value for one of this plan's properties.
+   *
+   * @param propertyTest how to test the property
+   *
+   * @return the test value
+   */
+  Object nextValue(PropertyTest propertyTest) {
+    return propertyTest.nextValue(remainingIterations);
+  }
+
+
+  /**
+   * Discard every value created in advance, so the next values are created from the random generator's current state.
+   */
+  void reset() {
+    for (PropertyTest test : propertyTests.values()) {
+      test.reset();
+    }
+  }
+
+
+  /**
+   * Set the number of iterations still to run, including the current one, so no more values are created than they need.
+   *
+   * @param remainingIterations the number of iterations
+   */
+  void setRemainingIterations(int remainingIterations) {
+    this.remainingIterations = remainingIterations;
+  }
+
+}
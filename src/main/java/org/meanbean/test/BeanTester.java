@@ -20,23 +20,29 @@
 
 package org.meanbean.test;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import org.meanbean.bean.info.BeanInformation;
 import org.meanbean.bean.info.BeanInformationFactory;
 import org.meanbean.bean.info.PropertyInformation;
 import org.meanbean.bean.util.PropertyInformationFilter;
-import org.meanbean.factories.BasicNewObjectInstanceFactory;
 import org.meanbean.factories.FactoryCollection;
 import org.meanbean.factories.util.FactoryLookupStrategy;
-import org.meanbean.lang.Factory;
+import org.meanbean.logging.$Event;
+import org.meanbean.logging.$Events;
+import org.meanbean.logging.$Logger;
+import org.meanbean.logging.$LoggerFactory;
 import org.meanbean.test.internal.EqualityTest;
 import org.meanbean.test.internal.NoopSideEffectDetector;
 import org.meanbean.test.internal.SideEffectDetector;
 import org.meanbean.util.RandomValueGenerator;
 import org.meanbean.util.ServiceFactory;
-import org.meanbean.util.ServiceFactory.ContextId;
 import org.meanbean.util.ServiceLoader;
 import org.meanbean.util.ValidationHelper;
 
@@ -123,6 +129,183 @@ import org.meanbean.util.ValidationHelper;
  */
 public class BeanTester {
 
+  /**
+   * The iterations of one test of a bean. The iterations are divided into chunks, and the random generator is given a new seed, derived from the
+   * test's seed, at the start of each chunk. A chunk is the same size as the batches of test values a plan creates, so a chunk's values depend only
+   * on its seed. Chunks can therefore be run in any order, on any thread, and a failure can be replayed by running only as far as the end of the
+   * chunk it occurred in.
+   *
+   * <p>If iterations are adaptive, the run ends early once the values of every property have been covered.</p>
+   */
+  private final class IterationRun {
+
+    /** The seed of each chunk. */
+    private final long[] chunkSeeds;
+
+    /** The number of iterations completed. */
+    private final AtomicInteger completed = new AtomicInteger();
+
+    private final Configuration configuration;
+
+    /** Coverage of the property values, if iterations are adaptive. */
+    private final ValueCoverage coverage;
+
+    private final int iterations;
+
+    /** The iterations an adaptive run must complete, so every property is checked for side effects. */
+    private final int minimumIterations;
+
+    private final int sampleSize;
+
+    private final long seed;
+
+
+    IterationRun(Configuration configuration, int iterations, int properties, int sampleSize, long seed) {
+      this.configuration = configuration;
+      this.iterations = iterations;
+      this.sampleSize = sampleSize;
+      this.seed = seed;
+      boolean adaptive = configuration != null && configuration.isAdaptiveIterations();
+      coverage = adaptive ? new ValueCoverage(configuration.getCoverageConfidence()) : null;
+      minimumIterations = sampleSize > 0 ? (properties + sampleSize - 1) / sampleSize : 1;
+      SplittableRandom seeds = new SplittableRandom(seed);
+      chunkSeeds = new long[(iterations + CHUNK_SIZE - 1) / CHUNK_SIZE];
+      for (int i = 0; i < chunkSeeds.length; i++) {
+        chunkSeeds[i] = seeds.nextLong();
+      }
+    }
+
+
+    /**
+     * Has an adaptive run covered the values of every property, so no more iterations are needed?
+     *
+     * @return true if the run can end
+     */
+    boolean isCovered() {
+      return coverage != null && completed.get() >= minimumIterations && coverage.isCovered();
+    }
+
+
+    /**
+     * Run the iterations of one chunk.
+     *
+     * @param plan               the plan, which only this thread uses
+     * @param sideEffectDetector the side effect detector, which only this thread uses
+     * @param chunk              the chunk to run
+     *
+     * @return false if an adaptive run has covered every property's values, so no more chunks are needed
+     */
+    boolean testChunk(BeanTestPlan plan, SideEffectDetector sideEffectDetector, int chunk) {
+      plan.reset();
+      // The thread's values are only seeded for this chunk, so the seed does not leak into whatever the thread does next
+      Runnable restoreRandom = randomValueGenerator.seedTemporarily(chunkSeeds[chunk]);
+      try {
+        int end = Math.min(iterations, (chunk + 1) * CHUNK_SIZE);
+        for (int idx = chunk * CHUNK_SIZE; idx < end; idx++) {
+          if (isCovered()) {
+            return false;
+          }
+          sideEffectDetector.sample(sampleSize, idx);
+          plan.setRemainingIterations(end - idx);
+          try {
+            if (iterationHookOverridden) {
+              testBean(plan.getBeanInformation(), configuration);
+            } else {
+              testBean(plan, sideEffectDetector, coverage);
+            }
+            completed.incrementAndGet();
+          } catch (AssertionError e) {
+            if (restoreRandom == null) {
+              throw e;
+            }
+            AssertionError replayable = new AssertionError(e.getMessage() + "\nFailed in iteration " + (idx + 1) + " with random seed " + seed
+                + ". Set this seed and " + end + " iterations in the Configuration to replay the failure.", e.getCause());
+            replayable.setStackTrace(e.getStackTrace());
+            throw replayable;
+          }
+        }
+        return true;
+      } finally {
+        if (restoreRandom != null) {
+          restoreRandom.run();
+        }
+      }
+    }
+
+
+    /**
+     * Run the chunks on a pool of threads. Each chunk has its own plan and side effect detector, and runs in the caller's service context. If
+     * chunks fail, the failure from the earliest is reported, which is the failure a sequential run would report.
+     *
+     * @param beanInformation information about the bean
+     */
+    void testConcurrently(BeanInformation beanInformation) {
+      AtomicInteger firstFailure = new AtomicInteger(Integer.MAX_VALUE);
+      List<ForkJoinTask<Throwable>> tasks = new ArrayList<>(chunkSeeds.length);
+      for (int i = 0; i < chunkSeeds.length; i++) {
+        int chunk = i;
+        tasks.add(pool.submit(ServiceFactory.inCurrentContext(() -> {
+          if (chunk > firstFailure.get() || isCovered()) {
+            // A failure in an earlier chunk will be reported, or no more iterations are needed
+            return null;
+          }
+          try {
+            BeanTestPlan plan = BeanTestPlan.create(beanInformation, configuration, factoryLookupStrategy, iterations);
+            testChunk(plan, createSideEffectDetector(configuration), chunk);
+            return null;
+          } catch (AssertionError | RuntimeException e) {
+            firstFailure.accumulateAndGet(chunk, Math::min);
+            return e;
+          }
+        })));
+      }
+
+      // The pool is shared by later tests, so every chunk is finished before the earliest failure is reported
+      Throwable failure = null;
+      for (ForkJoinTask<Throwable> task : tasks) {
+        Throwable chunkFailure = task.join();
+        if (failure == null) {
+          failure = chunkFailure;
+        }
+      }
+      if (failure instanceof AssertionError) {
+        throw (AssertionError) failure;
+      }
+      if (failure != null) {
+        throw (RuntimeException) failure;
+      }
+    }
+
+  }
+
+
+
+  /** The number of iterations which share a random seed. */
+  private static final int CHUNK_SIZE = BeanTestPlan.MAX_BATCH_SIZE;
+
+  private static final $Logger logger = $LoggerFactory.getLogger(BeanTester.class);
+
+
+  /**
+   * Does a sub-class override the protected method that tests one iteration?
+   *
+   * @param type the tester's class
+   *
+   * @return true if <code>testBean(BeanInformation, Configuration)</code> is overridden
+   */
+  private static boolean overridesIterationHook(Class<?> type) {
+    for (Class<?> c = type; c != BeanTester.class; c = c.getSuperclass()) {
+      try {
+        c.getDeclaredMethod("testBean", BeanInformation.class, Configuration.class);
+        return true;
+      } catch (NoSuchMethodException e) {
+        // not declared at this level
+      }
+    }
+    return false;
+  }
+
+
   /** Default number of times a bean should be tested. */
   public static final int TEST_ITERATIONS_PER_BEAN = 100;
 
@@ -141,37 +324,51 @@ public class BeanTester {
   /** Provides a means of acquiring a suitable Factory. */
   private final FactoryLookupStrategy factoryLookupStrategy;
 
+  /** If a sub-class overrides the protected iteration method, every iteration calls it. */
+  private final boolean iterationHookOverridden;
+
+  /** The number of threads the iterations of a test are spread over. */
+  private final int iterationParallelism;
+
+  /** The threads the iterations of a test are spread over, or null if they are run one at a time. */
+  private final ForkJoinPool pool;
+
   /** Random number generator used by factories to randomly generate values. */
   private final RandomValueGenerator randomValueGenerator;
 
-  private final ContextId contextId;
-
   /**
    * Prefer {@link BeanVerifier} or {@link BeanTesterBuilder#newBeanTester()}
    */
   public BeanTester() {
-    this.contextId = ServiceFactory.createContext();
+    ServiceFactory.createContext(this);
     this.randomValueGenerator = RandomValueGenerator.getInstance();
     this.factoryCollection = FactoryCollection.getInstance();
     this.factoryLookupStrategy = FactoryLookupStrategy.getInstance();
     this.beanInformationFactory = BeanInformationFactory.getInstance();
     this.beanPropertyTester = new BeanPropertyTester();
     this.configurationProvider = Configuration.defaultConfigurationProvider();
+    this.iterationParallelism = 1;
+    this.iterationHookOverridden = overridesIterationHook(getClass());
+    this.pool = null;
   }
 
 
   BeanTester(
       RandomValueGenerator randomValueGenerator, FactoryCollection factoryCollection,
       FactoryLookupStrategy factoryLookupStrategy, BeanInformationFactory beanInformationFactory,
-      BeanPropertyTester beanPropertyTester, Function<Class<?>, Configuration> configurationProvider
+      BeanPropertyTester beanPropertyTester, Function<Class<?>, Configuration> configurationProvider, int iterationParallelism
   ) {
-    this.contextId = ServiceFactory.createContextIfNeeded();
+    ServiceFactory.createContextIfNeeded(this);
     this.randomValueGenerator = randomValueGenerator;
     this.factoryCollection = factoryCollection;
     this.factoryLookupStrategy = factoryLookupStrategy;
     this.beanInformationFactory = beanInformationFactory;
     this.beanPropertyTester = beanPropertyTester;
     this.configurationProvider = configurationProvider;
+    this.iterationParallelism = iterationParallelism;
+    this.iterationHookOverridden = overridesIterationHook(getClass());
+    // The pool's idle threads end by themselves, so it is never shut down
+    this.pool = iterationParallelism > 1 ? new ForkJoinPool(iterationParallelism) : null;
   }
 
 
@@ -215,6 +412,16 @@ public class BeanTester {
   }
 
 
+  /**
+   * Get the number of threads the iterations of a test are spread over.
+   *
+   * @return the number of threads, which is 1 if iterations are run one at a time
+   */
+  public int getIterationParallelism() {
+    return iterationParallelism;
+  }
+
+
   /**
    * Get a RandomNumberGenerator.
    *
@@ -225,6 +432,25 @@ public class BeanTester {
   }
 
 
+  /**
+   * Get the number of properties to check for side-effects in each iteration. If sampling, the sample is large enough to check every property over
+   * all the iterations.
+   *
+   * @param configuration the configuration, which may be null
+   * @param properties    the number of properties tested
+   * @param iterations    the number of iterations
+   *
+   * @return the sample size, or zero to check every property in every iteration
+   */
+  private int getSideEffectSampleSize(Configuration configuration, int properties, int iterations) {
+    int sampleSize = configuration != null ? configuration.getSideEffectSampleSize() : 0;
+    if (sampleSize == 0) {
+      return 0;
+    }
+    return Math.max(sampleSize, (properties + iterations - 1) / iterations);
+  }
+
+
   /**
    * <p>
    * Test the type specified by the beanClass parameter, using the custom Configuration provided as an override to any
@@ -270,9 +496,32 @@ public class BeanTester {
 
     // Get all information about a potential JavaBean class
     BeanInformation beanInformation = beanInformationFactory.create(beanClass);
-    // Test the JavaBean 'iterations' times
-    for (int idx = 0; idx < iterations; idx++) {
-      testBean(beanInformation, customConfiguration);
+    // Only the properties that are readable, writable and not ignored are tested
+    int propertyCount = PropertyInformationFilter.filter(beanInformation.getProperties(), customConfiguration).size();
+    int sampleSize = getSideEffectSampleSize(customConfiguration, propertyCount, iterations);
+    // Seed the random values, so a failure can be replayed
+    Long configuredSeed = customConfiguration != null ? customConfiguration.getSeed() : null;
+    long seed = configuredSeed != null ? configuredSeed : randomValueGenerator.nextLong();
+    IterationRun run = new IterationRun(customConfiguration, iterations, propertyCount, sampleSize, seed);
+    // Test the JavaBean 'iterations' times, or until the property values are covered
+    if (iterationParallelism > 1 && run.chunkSeeds.length > 1 && !iterationHookOverridden) {
+      // Each chunk builds its own plan and detector, as they hold per-thread state
+      run.testConcurrently(beanInformation);
+    } else {
+      // Everything that does not change between iterations is worked out once
+      BeanTestPlan plan = BeanTestPlan.create(beanInformation, customConfiguration, factoryLookupStrategy, iterations);
+      // The detector is reused, so its snapshot storage is only allocated once
+      SideEffectDetector sideEffectDetector = createSideEffectDetector(customConfiguration);
+      for (int chunk = 0; chunk < run.chunkSeeds.length; chunk++) {
+        if (!run.testChunk(plan, sideEffectDetector, chunk)) {
+          break;
+        }
+      }
+    }
+    if (run.coverage != null) {
+      int completed = run.completed.get();
+      logger.info("Covered the property values of [{}] in {} of {} iterations, saving {} iterations.", beanClass.getName(), completed, iterations,
+          iterations - completed);
     }
   }
 
@@ -292,6 +541,11 @@ public class BeanTester {
    * </p>
    *
    * <p>
+   * If a sub-class overrides this method, <code>testBean(Class, Configuration)</code> calls it once for each iteration, and runs the iterations
+   * one at a time. <br>
+   * </p>
+   *
+   * <p>
    * When a test is failed, an AssertionError is thrown.
    * </p>
    *
@@ -306,48 +560,51 @@ public class BeanTester {
   protected void testBean(BeanInformation beanInformation, Configuration configuration)
       throws IllegalArgumentException, AssertionError, BeanTestException {
     ValidationHelper.ensureExists("beanInformation", "test bean", beanInformation);
+    testBean(BeanTestPlan.create(beanInformation, configuration, factoryLookupStrategy, 1), createSideEffectDetector(configuration), null);
+  }
 
-    // Get just the properties of the bean that are readable and writable
-    // Skip testing any 'ignored' properties
-    List<PropertyInformation> readableWritableProperties = PropertyInformationFilter.filter(
-        beanInformation.getProperties(),
-        configuration
-    );
+
+  private void testBean(BeanTestPlan plan, SideEffectDetector sideEffectDetector, ValueCoverage coverage)
+      throws AssertionError, BeanTestException {
+    BeanInformation beanInformation = plan.getBeanInformation();
 
     // Instantiate
-    Factory<Object> beanFactory = BasicNewObjectInstanceFactory.findBeanFactory(beanInformation.getBeanClass());
     Object bean;
     try {
-      bean = beanFactory.create();
+      bean = plan.getBeanFactory().create();
     } catch (Exception e) {
       String message = "Cannot test bean [" + beanInformation.getBeanClass().getName()
           + "]. Failed to instantiate an instance of the bean.";
       throw new BeanTestException(message, e);
     }
 
-    SideEffectDetector sideEffectDetector = createSideEffectDetector(configuration);
-    sideEffectDetector.init(bean, readableWritableProperties);
+    // The detector may reorder the properties to vary the order they are tested in, so it is given a copy of the plan's list
+    List<PropertyInformation> properties = sideEffectDetector.init(bean, new ArrayList<>(plan.getProperties()));
 
     // Test each property
-    for (PropertyInformation property : readableWritableProperties) {
-      EqualityTest equalityTest = EqualityTest.LOGICAL;
+    for (PropertyInformation property : properties) {
+      BeanTestPlan.PropertyTest propertyTest = plan.getPropertyTest(property);
+      EqualityTest equalityTest = propertyTest.getEqualityTest();
       Object testValue = null;
       try {
-        Factory<?> valueFactory = factoryLookupStrategy.getFactory(beanInformation, property, configuration);
-        testValue = valueFactory.create();
-        if (valueFactory instanceof BasicNewObjectInstanceFactory) {
-          equalityTest = EqualityTest.ABSOLUTE;
-        }
+        testValue = plan.nextValue(propertyTest);
       } catch (Exception e) {
         String message = "Cannot test bean [" + beanInformation.getBeanClass().getName()
             + "]. Failed to instantiate a test value for property [" + property.getName()
             + "].";
         throw new BeanTestException(message, e);
       }
+      if (coverage != null) {
+        coverage.record(property.getName(), propertyTest.getValueFactory(), testValue);
+      }
 
       sideEffectDetector.beforeTestProperty(property, equalityTest);
-      beanPropertyTester.testProperty(bean, property, testValue, equalityTest);
-      sideEffectDetector.detectAfterTestProperty();
+      try ($Event event = $Events.propertyTest(beanInformation.getBeanClass(), property.getName())) {
+        beanPropertyTester.testProperty(bean, property, testValue, equalityTest);
+      }
+      try ($Event event = $Events.sideEffectCheck(beanInformation.getBeanClass(), property.getName())) {
+        sideEffectDetector.detectAfterTestProperty();
+      }
     }
   }
 
@@ -88,6 +88,8 @@ public class BeanTesterBuilder {
 
   private FactoryLookupStrategy factoryLookupStrategy;
 
+  private int iterationParallelism = 1;
+
   private RandomValueGenerator randomValueGenerator;
 
 
@@ -201,7 +203,8 @@ public class BeanTesterBuilder {
         factoryLookupStrategy,
         beanInformationFactory,
         beanPropertyTester,
-        createConfigurationProvider()
+        createConfigurationProvider(),
+        iterationParallelism
     );
   }
 
@@ -259,6 +262,11 @@ public class BeanTesterBuilder {
   }
 
 
+  public int getIterationParallelism() {
+    return iterationParallelism;
+  }
+
+
   public int getIterations(Class<?> beanClass) {
     return getConfigurationFor(beanClass).getIterations();
   }
@@ -336,6 +344,21 @@ public class BeanTesterBuilder {
   }
 
 
+  /**
+   * Spread the iterations of each bean test over a pool of threads. Each thread has its own random stream, and creates its own beans and values.
+   * A failure reports the iteration that failed and how to replay it, as a sequential test does. The default of 1 runs iterations one at a time.
+   *
+   * @param parallelism the number of threads
+   *
+   * @return this
+   */
+  public BeanTesterBuilder setIterationParallelism(int parallelism) {
+    ValidationHelper.ensure(parallelism >= 1, "Iteration parallelism must be at least 1.");
+    this.iterationParallelism = parallelism;
+    return this;
+  }
+
+
   public BeanTesterBuilder setIterations(Class<?> beanClass, int num) {
     getConfigurationFor(beanClass).setIterations(num);
     return this;
@@ -38,6 +38,8 @@ import org.meanbean.util.ClassPathUtils;
  *
  * BeanVerifier.verifyBeans(Company.class, Employee.class);
  *
+ * BeanVerifier.inParallel().verifyBeansIn("com.example.model"); // verify many beans on several threads
+ *
  * BeanVerifier.forClass(Company.class)
  *     .withSettings(settings -&gt; settings.setDefaultIterations(12))
  *     .withSettings(settings -&gt; settings.addIgnoredProperty(Company::getName)) // exclude name property in bean getter/setter test
@@ -53,6 +55,15 @@ public interface BeanVerifier {
     return new BeanVerifierImpl(beanClass);
   }
 
+  /**
+   * Start a verification of many bean classes, run in parallel on a ForkJoin pool.
+   *
+   * @see ParallelBeanVerifier
+   */
+  static ParallelBeanVerifier inParallel() {
+    return new ParallelBeanVerifier();
+  }
+
   /**
    * Verify that given beanClass has valid bean getters/setters, equals/hashCode, and toString methods
    */
@@ -156,6 +167,6 @@ public interface BeanVerifier {
    *       .withSettings(settings -&gt; settings.setDefaultIterations(10))
    * </pre>
    */
-  BeanVerifier withSettings(Consumer<VerifierSettings> verifierSettingsEditor);
+  BeanVerifier withSettings(Consumer<VerifierSettingsEditor> verifierSettingsEditor);
 
 }
@@ -153,6 +153,13 @@ class BeanVerifierImpl implements BeanVerifier, VerifierSettings, VerifierSettin
   }
 
 
+  @Override
+  public VerifierSettingsEditor setAdaptiveIterations(boolean adaptiveIterations) {
+    builder.getConfigurationFor(beanClass).setAdaptiveIterations(adaptiveIterations);
+    return this;
+  }
+
+
   @Override
   public VerifierSettingsEditor setBeanInformationFactory(BeanInformationFactory beanInformationFactory) {
     builder.setBeanInformationFactory(beanInformationFactory);
@@ -160,6 +167,27 @@ class BeanVerifierImpl implements BeanVerifier, VerifierSettings, VerifierSettin
   }
 
 
+  @Override
+  public VerifierSettingsEditor setConsistencyChecks(int consistencyChecks) {
+    builder.getConfigurationFor(beanClass).setConsistencyChecks(consistencyChecks);
+    return this;
+  }
+
+
+  @Override
+  public VerifierSettingsEditor setCopyEquivalentBeans(boolean copyEquivalentBeans) {
+    builder.getConfigurationFor(beanClass).setCopyEquivalentBeans(copyEquivalentBeans);
+    return this;
+  }
+
+
+  @Override
+  public VerifierSettingsEditor setCoverageConfidence(double confidence) {
+    builder.getConfigurationFor(beanClass).setCoverageConfidence(confidence);
+    return this;
+  }
+
+
   @Override
   public VerifierSettingsEditor setDefaultIterations(int iterations) {
     builder.setDefaultIterations(iterations);
@@ -181,6 +209,27 @@ class BeanVerifierImpl implements BeanVerifier, VerifierSettings, VerifierSettin
   }
 
 
+  @Override
+  public VerifierSettingsEditor setIterationParallelism(int parallelism) {
+    builder.setIterationParallelism(parallelism);
+    return this;
+  }
+
+
+  @Override
+  public VerifierSettingsEditor setMaxGraphDepth(int maxDepth) {
+    builder.getConfigurationFor(beanClass).setMaxGraphDepth(maxDepth);
+    return this;
+  }
+
+
+  @Override
+  public VerifierSettingsEditor setMaxGraphObjects(int maxObjects) {
+    builder.getConfigurationFor(beanClass).setMaxGraphObjects(maxObjects);
+    return this;
+  }
+
+
   @Override
   public VerifierSettingsEditor setRandomValueGenerator(RandomValueGenerator randomValueGenerator) {
     builder.setRandomValueGenerator(randomValueGenerator);
@@ -188,6 +237,20 @@ class BeanVerifierImpl implements BeanVerifier, VerifierSettings, VerifierSettin
   }
 
 
+  @Override
+  public VerifierSettingsEditor setSeed(long seed) {
+    builder.getConfigurationFor(beanClass).setSeed(seed);
+    return this;
+  }
+
+
+  @Override
+  public VerifierSettingsEditor setSideEffectSampleSize(int sampleSize) {
+    builder.getConfigurationFor(beanClass).setSideEffectSampleSize(sampleSize);
+    return this;
+  }
+
+
   @Override
   public VerifierSettingsEditor suppressWarning(Warning warning) {
     builder.getConfigurationFor(beanClass).suppress(warning);
@@ -197,8 +260,11 @@ class BeanVerifierImpl implements BeanVerifier, VerifierSettings, VerifierSettin
 
   @Override
   public BeanVerifier verifyEqualsAndHashCode() {
-    builder.buildEqualsMethodTester().testEqualsMethod(beanClass);
-    builder.buildHashCodeMethodTester().testHashCodeMethod(beanClass);
+    EqualsMethodTester equalsMethodTester = builder.buildEqualsMethodTester();
+    // The equals and hashCode contracts are checked against the same objects
+    ContractFixture fixture = equalsMethodTester.createContractFixture(beanClass);
+    equalsMethodTester.testEqualsMethod(fixture, beanClass);
+    builder.buildHashCodeMethodTester().testHashCodeMethod(fixture, beanClass);
     return this;
   }
 
@@ -218,7 +284,7 @@ class BeanVerifierImpl implements BeanVerifier, VerifierSettings, VerifierSettin
 
 
   @Override
-  public BeanVerifier withSettings(Consumer<VerifierSettings> verifierSettingsEditor) {
+  public BeanVerifier withSettings(Consumer<VerifierSettingsEditor> verifierSettingsEditor) {
     verifierSettingsEditor.accept(this);
     return this;
   }
@@ -70,6 +70,19 @@ import org.meanbean.util.ValidationHelper;
  */
 public class Configuration {
 
+  /** The default number of times equals and hashCode are invoked to check they are consistent. */
+  public static final int DEFAULT_CONSISTENCY_CHECKS = 100;
+
+  /** The default confidence an adaptive test requires that further iterations would not use new values. */
+  public static final double DEFAULT_COVERAGE_CONFIDENCE = 0.95;
+
+  /** The default maximum number of nested beans between a generated bean and the deepest bean generated for it. */
+  public static final int DEFAULT_MAX_GRAPH_DEPTH = 8;
+
+  /** The default maximum number of nested beans generated for a single bean. */
+  public static final int DEFAULT_MAX_GRAPH_OBJECTS = 1000;
+
+
   static Function<Class<?>, Configuration> customConfigurationProvider(
       Map<Class<?>, Configuration> customConfigurations,
       Configuration defaultConfiguration
@@ -96,6 +109,18 @@ public class Configuration {
   }
 
 
+  /** Should a test stop before its iterations are complete, once the values of every property have been covered. */
+  private boolean adaptiveIterations = false;
+
+  /** The number of times equals and hashCode are invoked to check they are consistent. */
+  private int consistencyChecks = DEFAULT_CONSISTENCY_CHECKS;
+
+  /** Should equivalent beans be copied from a template, where the bean has a copy constructor or is cloneable. */
+  private boolean copyEquivalentBeans = false;
+
+  /** The confidence an adaptive test requires that further iterations would not use new values. */
+  private double coverageConfidence = DEFAULT_COVERAGE_CONFIDENCE;
+
   private List<String> equalsInsignificantProperties = new ArrayList<>();
 
   /** Any properties of a type that should not be tested. Contains property names. */
@@ -104,12 +129,24 @@ public class Configuration {
   /** The number of times a type should be tested. This will be null if it has not been overriden. */
   private Integer iterations;
 
+  /** The maximum depth of a generated graph of nested beans. */
+  private int maxGraphDepth = DEFAULT_MAX_GRAPH_DEPTH;
+
+  /** The maximum number of beans in a generated graph of nested beans. */
+  private int maxGraphObjects = DEFAULT_MAX_GRAPH_OBJECTS;
+
   /**
    * Factories that should be used for specific properties, overriding standard Factory selection. Keyed by property
    * name.
    */
   private Map<String, Factory<?>> overrideFactories;
 
+  /** The seed for the random values used in a test. This will be null if each test should use a new seed. */
+  private Long seed;
+
+  /** The number of properties checked for setter side-effects in each iteration. Zero means every property. */
+  private int sideEffectSampleSize = 0;
+
   private Set<Warning> suppressedWarnings = EnumSet.noneOf(Warning.class);
 
 
@@ -131,6 +168,26 @@ public class Configuration {
   }
 
 
+  /**
+   * Get the number of times equals and hashCode are invoked on the same objects to check they are consistent.
+   *
+   * @return the number of invocations
+   */
+  public int getConsistencyChecks() {
+    return consistencyChecks;
+  }
+
+
+  /**
+   * Get the confidence an adaptive test requires that further iterations would not use property values it has not already used.
+   *
+   * @return the confidence, between zero and one exclusive
+   */
+  public double getCoverageConfidence() {
+    return coverageConfidence;
+  }
+
+
   List<String> getEqualsInsignificantProperties() {
     return equalsInsignificantProperties;
   }
@@ -153,6 +210,29 @@ public class Configuration {
   }
 
 
+  /**
+   * Get the maximum depth of a generated graph of nested beans. A bean whose properties are populated with generated beans is at depth one, the
+   * beans it refers to are at depth two, and so on. Where a bean would be deeper than this, an instance of its type already generated in the same
+   * graph is shared, or if there is none, null is used.
+   *
+   * @return the maximum depth
+   */
+  public int getMaxGraphDepth() {
+    return maxGraphDepth;
+  }
+
+
+  /**
+   * Get the maximum number of beans generated in a single graph of nested beans. Once the budget is spent, instances already generated in the graph
+   * are shared, or null is used.
+   *
+   * @return the maximum number of beans
+   */
+  public int getMaxGraphObjects() {
+    return maxGraphObjects;
+  }
+
+
   Map<String, Factory<?>> getOverrideFactories() {
     return overrideFactories;
   }
@@ -180,6 +260,28 @@ public class Configuration {
   }
 
 
+  /**
+   * Get the seed for the random values used in a test, if one has been set. Setting the seed reported by a failed test allows the failure to be
+   * replayed.
+   *
+   * @return the seed, or null if each test uses a new seed
+   */
+  Long getSeed() {
+    return seed;
+  }
+
+
+  /**
+   * Get the number of properties checked for setter side-effects in each iteration. A different sample is checked in each iteration, so every
+   * property is checked over the course of a test.
+   *
+   * @return the sample size, or zero if every property is checked in every iteration
+   */
+  int getSideEffectSampleSize() {
+    return sideEffectSampleSize;
+  }
+
+
   /**
    * Does this Configuration contain an override for the number of times a type should be tested, or should the
    * standard global configuration setting be used instead?
@@ -214,6 +316,29 @@ public class Configuration {
   }
 
 
+  /**
+   * Should a test stop before its iterations are complete, once the values of every property have been covered? A property is covered when every
+   * value its Factory creates has been used, or it is unlikely that another iteration would use a new value. The number of iterations remains the
+   * maximum.
+   *
+   * @return true if the number of iterations adapts to the coverage of property values
+   */
+  public boolean isAdaptiveIterations() {
+    return adaptiveIterations;
+  }
+
+
+  /**
+   * Should the equivalent beans used to test equals, hashCode and toString be copied from a single template, where the bean has a public copy
+   * constructor or a public clone method? Copying is faster than setting every property, but relies on the copy being correct.
+   *
+   * @return true if equivalent beans may be copied
+   */
+  public boolean isCopyEquivalentBeans() {
+    return copyEquivalentBeans;
+  }
+
+
   /**
    * Should the specified property been disregarded/ignored during testing?
    *
@@ -235,6 +360,28 @@ public class Configuration {
   }
 
 
+  void setAdaptiveIterations(boolean adaptiveIterations) {
+    this.adaptiveIterations = adaptiveIterations;
+  }
+
+
+  void setConsistencyChecks(int consistencyChecks) {
+    ValidationHelper.ensure(consistencyChecks >= 1, "Consistency checks must be at least 1.");
+    this.consistencyChecks = consistencyChecks;
+  }
+
+
+  void setCopyEquivalentBeans(boolean copyEquivalentBeans) {
+    this.copyEquivalentBeans = copyEquivalentBeans;
+  }
+
+
+  void setCoverageConfidence(double coverageConfidence) {
+    ValidationHelper.ensure(coverageConfidence > 0 && coverageConfidence < 1, "Coverage confidence must be between 0 and 1.");
+    this.coverageConfidence = coverageConfidence;
+  }
+
+
   void setEqualsInsignificantProperties(List<String> equalsInsignificantProperties) {
     this.equalsInsignificantProperties = equalsInsignificantProperties;
   }
@@ -251,11 +398,34 @@ public class Configuration {
   }
 
 
+  void setMaxGraphDepth(int maxGraphDepth) {
+    ValidationHelper.ensure(maxGraphDepth >= 1, "Maximum graph depth must be at least 1.");
+    this.maxGraphDepth = maxGraphDepth;
+  }
+
+
+  void setMaxGraphObjects(int maxGraphObjects) {
+    ValidationHelper.ensure(maxGraphObjects >= 1, "Maximum graph objects must be at least 1.");
+    this.maxGraphObjects = maxGraphObjects;
+  }
+
+
   void setOverrideFactories(Map<String, Factory<?>> overrideFactories) {
     this.overrideFactories = overrideFactories;
   }
 
 
+  void setSeed(Long seed) {
+    this.seed = seed;
+  }
+
+
+  void setSideEffectSampleSize(int sideEffectSampleSize) {
+    ValidationHelper.ensure(sideEffectSampleSize >= 0, "Side-effect sample size must not be negative.");
+    this.sideEffectSampleSize = sideEffectSampleSize;
+  }
+
+
   void suppress(Warning warning) {
     suppressedWarnings.add(warning);
   }
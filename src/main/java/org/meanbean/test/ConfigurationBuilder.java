@@ -56,12 +56,36 @@ public class ConfigurationBuilder {
 
   private final Set<Warning> suppressedWarnings = EnumSet.noneOf(Warning.class);
 
+  /** Should a test stop once the values of every property have been covered. */
+  private boolean adaptiveIterations = false;
+
+  /** The number of times equals and hashCode are invoked to check they are consistent. */
+  private int consistencyChecks = Configuration.DEFAULT_CONSISTENCY_CHECKS;
+
+  /** Should equivalent beans be copied from a template. */
+  private boolean copyEquivalentBeans = false;
+
+  /** The confidence an adaptive test requires that further iterations would not use new values. */
+  private double coverageConfidence = Configuration.DEFAULT_COVERAGE_CONFIDENCE;
+
   /** The number of times a type should be tested. */
   private Integer iterations;
 
+  /** The maximum depth of a generated graph of nested beans. */
+  private int maxGraphDepth = Configuration.DEFAULT_MAX_GRAPH_DEPTH;
+
+  /** The maximum number of beans in a generated graph of nested beans. */
+  private int maxGraphObjects = Configuration.DEFAULT_MAX_GRAPH_OBJECTS;
+
   /** If a property can be set in a builder and via a direct setter, which do you use? */
   private boolean preferBuilder = false;
 
+  /** The seed for the random values used in a test. */
+  private Long seed;
+
+  /** The number of properties checked for setter side-effects in each iteration. */
+  private int sideEffectSampleSize = 0;
+
 
   /**
    * Construct a new Configuration Builder.
@@ -70,15 +94,88 @@ public class ConfigurationBuilder {
   }
 
 
+  /**
+   * Stop testing a type before its iterations are complete, once the values of every property have been covered. The number of iterations remains
+   * the maximum.
+   *
+   * @param adaptiveIterations true to adapt the number of iterations to the coverage of property values
+   *
+   * @return A Configuration Builder.
+   */
+  public ConfigurationBuilder adaptiveIterations(boolean adaptiveIterations) {
+    this.adaptiveIterations = adaptiveIterations;
+    return this;
+  }
+
+
   /**
    * Build a Configuration.
    *
    * @return A Configuration object.
    */
   public Configuration build() {
-    return new Configuration(iterations, unmodifiableSet(ignoredProperties), unmodifiableMap(overrideFactories),
+    Configuration configuration = new Configuration(iterations, unmodifiableSet(ignoredProperties), unmodifiableMap(overrideFactories),
         unmodifiableSet(suppressedWarnings)
     );
+    configuration.setAdaptiveIterations(adaptiveIterations);
+    configuration.setConsistencyChecks(consistencyChecks);
+    configuration.setCopyEquivalentBeans(copyEquivalentBeans);
+    configuration.setCoverageConfidence(coverageConfidence);
+    configuration.setMaxGraphDepth(maxGraphDepth);
+    configuration.setMaxGraphObjects(maxGraphObjects);
+    configuration.setSeed(seed);
+    configuration.setSideEffectSampleSize(sideEffectSampleSize);
+    return configuration;
+  }
+
+
+  /**
+   * Set the number of times equals and hashCode are invoked on the same objects to check they are consistent.
+   *
+   * @param consistencyChecks The number of invocations.
+   *
+   * @return A Configuration Builder.
+   *
+   * @throws IllegalArgumentException If the number is less than 1.
+   */
+  public ConfigurationBuilder consistencyChecks(int consistencyChecks) {
+    if (consistencyChecks < 1) {
+      throw new IllegalArgumentException("Consistency checks must be at least 1.");
+    }
+    this.consistencyChecks = consistencyChecks;
+    return this;
+  }
+
+
+  /**
+   * Copy the equivalent beans used to test equals, hashCode and toString from a single template, where the bean has a public copy constructor or
+   * a public clone method, instead of setting every property of every bean.
+   *
+   * @param copyEquivalentBeans true to copy equivalent beans where possible
+   *
+   * @return A Configuration Builder.
+   */
+  public ConfigurationBuilder copyEquivalentBeans(boolean copyEquivalentBeans) {
+    this.copyEquivalentBeans = copyEquivalentBeans;
+    return this;
+  }
+
+
+  /**
+   * Set the confidence an adaptive test requires that further iterations would not use property values it has not already used.
+   *
+   * @param confidence The confidence.
+   *
+   * @return A Configuration Builder.
+   *
+   * @throws IllegalArgumentException If the confidence is not between zero and one exclusive.
+   */
+  public ConfigurationBuilder coverageConfidence(double confidence) {
+    if (!(confidence > 0 && confidence < 1)) {
+      throw new IllegalArgumentException("Coverage confidence must be between 0 and 1.");
+    }
+    this.coverageConfidence = confidence;
+    return this;
   }
 
 
@@ -135,6 +232,44 @@ public class ConfigurationBuilder {
   }
 
 
+  /**
+   * Set the maximum depth of the graphs of nested beans generated to populate properties. Deeper beans are replaced by an instance of the same type
+   * already generated in the graph, or by null. Mutually recursive types are always cut off where a type would contain itself.
+   *
+   * @param maxDepth The maximum depth.
+   *
+   * @return A Configuration Builder.
+   *
+   * @throws IllegalArgumentException If the depth is less than 1.
+   */
+  public ConfigurationBuilder maxGraphDepth(int maxDepth) {
+    if (maxDepth < 1) {
+      throw new IllegalArgumentException("Maximum graph depth must be at least 1.");
+    }
+    this.maxGraphDepth = maxDepth;
+    return this;
+  }
+
+
+  /**
+   * Set the maximum number of nested beans generated for a single property value. Once the budget is spent, beans are replaced by an instance of
+   * the same type already generated in the graph, or by null.
+   *
+   * @param maxObjects The maximum number of beans.
+   *
+   * @return A Configuration Builder.
+   *
+   * @throws IllegalArgumentException If the number is less than 1.
+   */
+  public ConfigurationBuilder maxGraphObjects(int maxObjects) {
+    if (maxObjects < 1) {
+      throw new IllegalArgumentException("Maximum graph objects must be at least 1.");
+    }
+    this.maxGraphObjects = maxObjects;
+    return this;
+  }
+
+
   public ConfigurationBuilder notNull(String property) {
     ValidationHelper.ensureExists("property", "add property to not-null properties collection", property);
     nullableProperties.put(property, false);
@@ -155,6 +290,39 @@ public class ConfigurationBuilder {
   }
 
 
+  /**
+   * Seed the random values used to test a type. A failed test reports its seed and the iteration that failed, so setting the seed and that
+   * number of iterations replays the failure.
+   *
+   * @param seed The seed.
+   *
+   * @return A Configuration Builder.
+   */
+  public ConfigurationBuilder seed(long seed) {
+    this.seed = seed;
+    return this;
+  }
+
+
+  /**
+   * Check only a sample of the properties for setter side-effects in each iteration. Each iteration checks a different sample, and the sample is
+   * enlarged if necessary so every property is checked at least once over all the iterations.
+   *
+   * @param sampleSize The number of properties to check in each iteration, or zero to check every property.
+   *
+   * @return A Configuration Builder.
+   *
+   * @throws IllegalArgumentException If the sample size is negative.
+   */
+  public ConfigurationBuilder sideEffectSampleSize(int sampleSize) {
+    if (sampleSize < 0) {
+      throw new IllegalArgumentException("Side-effect sample size must not be negative.");
+    }
+    this.sideEffectSampleSize = sampleSize;
+    return this;
+  }
+
+
   /**
    * Get a human-readable String representation of this object.
    *
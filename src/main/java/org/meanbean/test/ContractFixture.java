@@ -0,0 +1,145 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.test;
+
+import org.meanbean.lang.EquivalentFactory;
+import org.meanbean.util.ValidationHelper;
+
+/**
+ * The logically equivalent objects the items of the equals and hashCode contracts are checked against. Up to three objects, x, y and z, are
+ * created by an EquivalentFactory. Each is created when a check first needs it and then shared by every later check, so checking every item of
+ * both contracts creates three objects rather than one or more per check. The checks must not modify the objects.
+ */
+final class ContractFixture {
+
+  private final EquivalentFactory<?> factory;
+
+  private Object x;
+
+  private Object y;
+
+  private Object z;
+
+
+  /**
+   * New instance.
+   *
+   * @param factory the factory which creates the objects
+   */
+  ContractFixture(EquivalentFactory<?> factory) {
+    this.factory = factory;
+  }
+
+
+  private Object create(String operation) {
+    Object object = factory.create();
+    ValidationHelper.ensureExists("factory-created object", operation, object);
+    return object;
+  }
+
+
+  EquivalentFactory<?> getFactory() {
+    return factory;
+  }
+
+
+  /**
+   * Get a factory which returns the objects of this fixture. Its first three invocations return x, y and z in turn, creating them if necessary,
+   * and any later invocation creates a new object. Each call to this method returns a new factory which starts again with x.
+   *
+   * @return the factory
+   */
+  EquivalentFactory<?> getSharedFactory() {
+    return new EquivalentFactory<Object>() {
+      private int count;
+
+
+      @Override
+      public Object create() {
+        switch (count++) {
+          case 0:
+            if (x == null) {
+              x = factory.create();
+            }
+            return x;
+          case 1:
+            if (y == null) {
+              y = factory.create();
+            }
+            return y;
+          case 2:
+            if (z == null) {
+              z = factory.create();
+            }
+            return z;
+          default:
+            return factory.create();
+        }
+      }
+    };
+  }
+
+
+  /**
+   * Get the first object, creating it if necessary.
+   *
+   * @param operation the check that needs the object, which is reported if the factory creates null
+   *
+   * @return the object
+   */
+  Object getX(String operation) {
+    if (x == null) {
+      x = create(operation);
+    }
+    return x;
+  }
+
+
+  /**
+   * Get the second object, creating it if necessary.
+   *
+   * @param operation the check that needs the object, which is reported if the factory creates null
+   *
+   * @return the object
+   */
+  Object getY(String operation) {
+    if (y == null) {
+      y = create(operation);
+    }
+    return y;
+  }
+
+
+  /**
+   * Get the third object, creating it if necessary.
+   *
+   * @param operation the check that needs the object, which is reported if the factory creates null
+   *
+   * @return the object
+   */
+  Object getZ(String operation) {
+    if (z == null) {
+      z = create(operation);
+    }
+    return z;
+  }
+
+}
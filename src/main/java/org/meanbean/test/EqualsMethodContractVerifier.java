@@ -21,6 +21,8 @@
 package org.meanbean.test;
 
 import org.meanbean.lang.EquivalentFactory;
+import org.meanbean.logging.$Event;
+import org.meanbean.logging.$Events;
 import org.meanbean.util.AssertionUtils;
 import org.meanbean.util.ValidationHelper;
 
@@ -86,11 +88,14 @@ class EqualsMethodContractVerifier {
    */
   public void verifyEqualsConsistent(EquivalentFactory<?> factory) throws IllegalArgumentException, AssertionError {
     ValidationHelper.ensureExists("factory", "test equals consistent item", factory);
-    Object x = factory.create();
-    Object y = factory.create();
-    ValidationHelper.ensureExists("factory-created object", "test equals consistent item", x);
-    ValidationHelper.ensureExists("factory-created object", "test equals consistent item", y);
-    for (int idx = 0; idx < 100; idx++) {
+    verifyEqualsConsistent(new ContractFixture(factory), Configuration.DEFAULT_CONSISTENCY_CHECKS);
+  }
+
+
+  private void verifyEqualsConsistent(ContractFixture fixture, int consistencyChecks) {
+    Object x = fixture.getX("test equals consistent item");
+    Object y = fixture.getY("test equals consistent item");
+    for (int idx = 0; idx < consistencyChecks; idx++) {
       if (!x.equals(y)) {
         AssertionUtils.fail("equals is not consistent on invocation [" + idx + "].");
       }
@@ -120,9 +125,13 @@ class EqualsMethodContractVerifier {
    */
   public void verifyEqualsDifferentType(EquivalentFactory<?> factory) throws IllegalArgumentException, AssertionError {
     ValidationHelper.ensureExists("factory", "test equals for different types", factory);
-    Object x = factory.create();
+    verifyEqualsDifferentType(new ContractFixture(factory));
+  }
+
+
+  private void verifyEqualsDifferentType(ContractFixture fixture) {
+    Object x = fixture.getX("test equals for different types");
     Object differentObject = new Object();
-    ValidationHelper.ensureExists("factory-created object", "test equals for different types", x);
     if (x.equals(differentObject)) {
       AssertionUtils.fail("equals should not find objects of different type to be equal.");
     }
@@ -168,12 +177,39 @@ class EqualsMethodContractVerifier {
    */
   public void verifyEqualsMethod(EquivalentFactory<?> factory) throws IllegalArgumentException, AssertionError {
     ValidationHelper.ensureExists("factory", "test equals", factory);
-    verifyEqualsReflexive(factory);
-    verifyEqualsSymmetric(factory);
-    verifyEqualsTransitive(factory);
-    verifyEqualsConsistent(factory);
-    verifyEqualsNull(factory);
-    verifyEqualsDifferentType(factory);
+    verifyEqualsMethod(new ContractFixture(factory), Configuration.DEFAULT_CONSISTENCY_CHECKS);
+  }
+
+
+  /**
+   * Verify every item of the equals contract, as {@link #verifyEqualsMethod(EquivalentFactory)} does, against the objects of a fixture. Only the
+   * objects the checks need are created.
+   *
+   * @param fixture           the objects to check
+   * @param consistencyChecks the number of times equals is invoked to check it is consistent
+   *
+   * @throws IllegalArgumentException If the fixture's factory creates a <code>null</code> object or objects that are not logically equivalent.
+   * @throws AssertionError           If the test fails.
+   */
+  void verifyEqualsMethod(ContractFixture fixture, int consistencyChecks) throws IllegalArgumentException, AssertionError {
+    try ($Event event = $Events.equalsContract("reflexive")) {
+      verifyEqualsReflexive(fixture);
+    }
+    try ($Event event = $Events.equalsContract("symmetric")) {
+      verifyEqualsSymmetric(fixture);
+    }
+    try ($Event event = $Events.equalsContract("transitive")) {
+      verifyEqualsTransitive(fixture);
+    }
+    try ($Event event = $Events.equalsContract("consistent")) {
+      verifyEqualsConsistent(fixture, consistencyChecks);
+    }
+    try ($Event event = $Events.equalsContract("null")) {
+      verifyEqualsNull(fixture);
+    }
+    try ($Event event = $Events.equalsContract("different type")) {
+      verifyEqualsDifferentType(fixture);
+    }
   }
 
 
@@ -199,8 +235,12 @@ class EqualsMethodContractVerifier {
    */
   public void verifyEqualsNull(EquivalentFactory<?> factory) throws IllegalArgumentException, AssertionError {
     ValidationHelper.ensureExists("factory", "test equals null item", factory);
-    Object x = factory.create();
-    ValidationHelper.ensureExists("factory-created object", "test equals null item", x);
+    verifyEqualsNull(new ContractFixture(factory));
+  }
+
+
+  private void verifyEqualsNull(ContractFixture fixture) {
+    Object x = fixture.getX("test equals null item");
     if (x.equals(NULL)) {
       AssertionUtils.fail("equals is incorrect with respect to null comparison.");
     }
@@ -228,8 +268,12 @@ class EqualsMethodContractVerifier {
    */
   public void verifyEqualsReflexive(EquivalentFactory<?> factory) throws IllegalArgumentException, AssertionError {
     ValidationHelper.ensureExists("factory", "test equals reflexive item", factory);
-    Object x = factory.create();
-    ValidationHelper.ensureExists("factory-created object", "test equals reflexive item", x);
+    verifyEqualsReflexive(new ContractFixture(factory));
+  }
+
+
+  private void verifyEqualsReflexive(ContractFixture fixture) {
+    Object x = fixture.getX("test equals reflexive item");
     if (!x.equals(x)) {
       AssertionUtils.fail("equals is not reflexive.");
     }
@@ -257,10 +301,14 @@ class EqualsMethodContractVerifier {
    */
   public void verifyEqualsSymmetric(EquivalentFactory<?> factory) throws IllegalArgumentException, AssertionError {
     ValidationHelper.ensureExists("factory", "test equals symmetric item", factory);
-    Object x = factory.create();
-    Object y = factory.create();
-    ValidationHelper.ensureExists("factory-created object", "test equals symmetric item", x);
-    ValidationHelper.ensureExists("factory-created object", "test equals symmetric item", y);
+    verifyEqualsSymmetric(new ContractFixture(factory));
+  }
+
+
+  private void verifyEqualsSymmetric(ContractFixture fixture) {
+    // The reflexive check has used the first object, so use the second and third
+    Object x = fixture.getY("test equals symmetric item");
+    Object y = fixture.getZ("test equals symmetric item");
     if (!x.equals(y)) {
       String message =
           "Cannot test equals symmetric item if factory does not create logically equivalent "
@@ -295,12 +343,14 @@ class EqualsMethodContractVerifier {
    */
   public void verifyEqualsTransitive(EquivalentFactory<?> factory) throws IllegalArgumentException, AssertionError {
     ValidationHelper.ensureExists("factory", "test equals transitive item", factory);
-    Object x = factory.create();
-    Object y = factory.create();
-    Object z = factory.create();
-    ValidationHelper.ensureExists("factory-created object", "test equals transitive item", x);
-    ValidationHelper.ensureExists("factory-created object", "test equals transitive item", y);
-    ValidationHelper.ensureExists("factory-created object", "test equals transitive item", z);
+    verifyEqualsTransitive(new ContractFixture(factory));
+  }
+
+
+  private void verifyEqualsTransitive(ContractFixture fixture) {
+    Object x = fixture.getX("test equals transitive item");
+    Object y = fixture.getY("test equals transitive item");
+    Object z = fixture.getZ("test equals transitive item");
     if (!(x.equals(y) && y.equals(z))) {
       String message =
           "Cannot test equals transitive item if factory does not create logically equivalent objects.";
@@ -28,6 +28,8 @@ import org.meanbean.factories.equivalent.EquivalentEnumFactory;
 import org.meanbean.factories.equivalent.EquivalentPopulatedBeanFactory;
 import org.meanbean.factories.util.FactoryLookupStrategy;
 import org.meanbean.lang.EquivalentFactory;
+import org.meanbean.logging.$Logger;
+import org.meanbean.logging.$LoggerFactory;
 import org.meanbean.util.ServiceFactory;
 import org.meanbean.util.ValidationHelper;
 
@@ -141,6 +143,9 @@ import org.meanbean.util.ValidationHelper;
  */
 public class EqualsMethodTester {
 
+  private static final $Logger logger = $LoggerFactory.getLogger(EqualsMethodTester.class);
+
+
   static EqualsMethodTester createWithInheritedContext(Function<Class<?>, Configuration> configurationProvider) {
     return new EqualsMethodTester(configurationProvider);
   }
@@ -155,7 +160,7 @@ public class EqualsMethodTester {
   private final EqualsMethodContractVerifier contractVerifier;
 
   /** The verifier to which property significance verification is delegated. */
-  private final EqualsMethodPropertySignificanceVerifier propertySignificanceVerifier;
+  private final PropertyBasedEqualsMethodPropertySignificanceVerifier propertySignificanceVerifier;
 
 
   /**
@@ -189,6 +194,18 @@ public class EqualsMethodTester {
   }
 
 
+  /**
+   * Create the objects the equals and hashCode contracts of the specified type are checked against.
+   *
+   * @param clazz the type to test
+   *
+   * @return the fixture
+   */
+  ContractFixture createContractFixture(Class<?> clazz) {
+    return new ContractFixture(createEquivalentFactory(clazz));
+  }
+
+
   private EquivalentFactory<?> createEquivalentFactory(Class<?> clazz) {
     if (classIsAnEnum(clazz)) {
       return createEnumClassFactory(clazz);
@@ -451,28 +468,56 @@ public class EqualsMethodTester {
   ) throws IllegalArgumentException, BeanInformationException,
            BeanTestException, AssertionError {
     ValidationHelper.ensureExists("factory", "test equals method", factory);
+    testEqualsMethod(new ContractFixture(factory), customConfiguration, insignificantProperties);
+  }
+
+
+  /**
+   * Test the equals logic of the specified type, as {@link #testEqualsMethod(Class, String...)} does, against the objects of a fixture which can
+   * then be used to test the type's hashCode logic.
+   *
+   * @param fixture the objects to test
+   * @param clazz   the type to test the equals logic of
+   *
+   * @throws IllegalArgumentException If the fixture's factory creates a <code>null</code> object or objects that are not logically equivalent.
+   * @throws BeanInformationException If a problem occurs when trying to obtain information about the type to test.
+   * @throws BeanTestException        If a problem occurs when testing the type.
+   * @throws AssertionError           If the test fails.
+   */
+  void testEqualsMethod(ContractFixture fixture, Class<?> clazz)
+      throws IllegalArgumentException, BeanInformationException, BeanTestException, AssertionError {
+    testEqualsMethod(fixture, getEffectiveConfiguration(clazz, null));
+  }
+
+
+  private void testEqualsMethod(ContractFixture fixture, Configuration customConfiguration, String... insignificantProperties) {
     ValidationHelper.ensureExists("insignificantProperties", "test equals method", insignificantProperties);
     insignificantProperties = insignificantProperties == null || insignificantProperties.length == 0
         ? defaultConfiguration().getEqualsInsignificantProperties().toArray(new String[0])
         : insignificantProperties;
 
-    contractVerifier.verifyEqualsReflexive(factory);
-    contractVerifier.verifyEqualsSymmetric(factory);
-    contractVerifier.verifyEqualsTransitive(factory);
-    contractVerifier.verifyEqualsConsistent(factory);
-    contractVerifier.verifyEqualsNull(factory);
-    contractVerifier.verifyEqualsDifferentType(factory);
-
     customConfiguration = getEffectiveConfiguration(null, customConfiguration);
+    contractVerifier.verifyEqualsMethod(fixture, customConfiguration.getConsistencyChecks());
+
+    EquivalentFactory<?> factory = fixture.getFactory();
     // Override the standard number of iterations if need be
     int iterations = defaultConfiguration().getIterations();
     if (customConfiguration.hasIterationsOverride()) {
       iterations = customConfiguration.getIterations();
     }
 
-    // Test property significance 'iterations' times
-    for (int idx = 0; idx < iterations; idx++) {
-      propertySignificanceVerifier.verifyEqualsMethod(factory, customConfiguration, insignificantProperties);
+    // Test property significance 'iterations' times, or until the property values are covered
+    ValueCoverage coverage = customConfiguration.isAdaptiveIterations() ? new ValueCoverage(customConfiguration.getCoverageConfidence()) : null;
+    PropertyBasedEqualsMethodPropertySignificanceVerifier.Plan plan =
+        propertySignificanceVerifier.prepare(factory, customConfiguration, insignificantProperties);
+    int completed = 0;
+    while (completed < iterations && (coverage == null || completed == 0 || !coverage.isCovered())) {
+      plan.verify(coverage);
+      completed++;
+    }
+    if (coverage != null && logger.isInfoEnabled()) {
+      logger.info("Covered the property values of [{}] in {} of {} equals significance iterations, saving {} iterations.",
+          plan.getBeanClass().getName(), completed, iterations, iterations - completed);
     }
   }
 
@@ -104,6 +104,9 @@ public class HashCodeMethodTester {
 
   private final Function<Class<?>, Configuration> configurationProvider;
 
+  /** The number of times the consistent item of the contract invokes hashCode, which depends on the configuration of the type being tested. */
+  private int consistencyChecks = Configuration.DEFAULT_CONSISTENCY_CHECKS;
+
   /** The collection of test data Factories. */
   private final FactoryCollection factoryCollection;
 
@@ -169,6 +172,10 @@ public class HashCodeMethodTester {
    * </p>
    *
    * <p>
+   * The hashCode is checked the number of times configured for the type being tested, or 100 times if there is no such type.
+   * </p>
+   *
+   * <p>
    * If the test fails, an AssertionError is thrown.
    * </p>
    *
@@ -186,7 +193,7 @@ public class HashCodeMethodTester {
     Object x = factory.create();
     ValidationHelper.ensureExists("factory-created object", "test hash code consistent item", x);
     int hashCode = x.hashCode();
-    for (int idx = 0; idx < 100; idx++) {
+    for (int idx = 0; idx < consistencyChecks; idx++) {
       if (x.hashCode() != hashCode) {
         AssertionUtils.fail("hashCode is not consistent on invocation [" + idx + "].");
       }
@@ -221,8 +228,22 @@ public class HashCodeMethodTester {
    */
   public void testHashCodeMethod(EquivalentFactory<?> factory) throws IllegalArgumentException, AssertionError {
     ValidationHelper.ensureExists("factory", "test hash code method", factory);
-    testHashCodesEqual(factory);
-    testHashCodeConsistent(factory);
+    // The checks share their objects, so each is only created once
+    ContractFixture fixture = new ContractFixture(factory);
+    testHashCodesEqual(fixture.getSharedFactory());
+    testHashCodeConsistent(fixture.getSharedFactory());
+  }
+
+
+  private void testHashCodeMethod(ContractFixture fixture, int consistencyChecks) {
+    int previousChecks = this.consistencyChecks;
+    this.consistencyChecks = consistencyChecks;
+    try {
+      testHashCodesEqual(fixture.getSharedFactory());
+      testHashCodeConsistent(fixture.getSharedFactory());
+    } finally {
+      this.consistencyChecks = previousChecks;
+    }
   }
 
 
@@ -254,7 +275,22 @@ public class HashCodeMethodTester {
     EquivalentPopulatedBeanFactory factory = new EquivalentPopulatedBeanFactory(beanInformation, getFactoryLookupStrategy(),
         configuration
     );
-    testHashCodeMethod(factory);
+    testHashCodeMethod(new ContractFixture(factory), configuration.getConsistencyChecks());
+  }
+
+
+  /**
+   * Test the hashCode logic of the specified type, as {@link #testHashCodeMethod(Class)} does, against the objects of a fixture which may already
+   * have been used to test the type's equals logic.
+   *
+   * @param fixture the objects to test
+   * @param clazz   the type to test the hashCode logic of
+   *
+   * @throws IllegalArgumentException If the fixture's factory creates a <code>null</code> object or objects that are not logically equivalent.
+   * @throws AssertionError           If the test fails.
+   */
+  void testHashCodeMethod(ContractFixture fixture, Class<?> clazz) throws IllegalArgumentException, AssertionError {
+    testHashCodeMethod(fixture, configurationProvider.apply(clazz).getConsistencyChecks());
   }
 
 
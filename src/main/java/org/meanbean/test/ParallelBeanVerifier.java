@@ -0,0 +1,193 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.meanbean.util.ClassPathUtils;
+import org.meanbean.util.ValidationHelper;
+
+/**
+ * Verifies many bean classes at once, on a {@link ForkJoinPool}. Each class is verified as {@link BeanVerifier#verifyBean(Class)} would, on a
+ * worker thread with its own service context, as every {@link BeanVerifier} creates a context on the thread it is created on.
+ *
+ * <p>Every failure is collected. When all the classes are done, a single <code>AssertionError</code> is thrown which names every class that
+ * failed. Its cause is the failure of the first of those classes, and the failures of the others are attached as suppressed exceptions. If fail
+ * fast is enabled, classes which have not yet started are skipped once a failure has occurred, and the error reports how many were skipped.</p>
+ *
+ * <p>Example usage:</p>
+ * <pre>
+ * BeanVerifier.inParallel()
+ *     .setParallelism(8)
+ *     .setFailFast(true)
+ *     .verifyBeansIn("com.example.model");
+ * </pre>
+ */
+public final class ParallelBeanVerifier {
+
+  /** Should classes which have not started be skipped once one has failed. */
+  private boolean failFast = false;
+
+  /** The number of worker threads. */
+  private int parallelism = Runtime.getRuntime().availableProcessors();
+
+
+  ParallelBeanVerifier() {
+    // use BeanVerifier.inParallel()
+  }
+
+
+  /**
+   * Get the number of worker threads used.
+   *
+   * @return the number of worker threads
+   */
+  public int getParallelism() {
+    return parallelism;
+  }
+
+
+  /**
+   * Get whether classes which have not yet started are skipped once one has failed.
+   *
+   * @return true if the verification fails fast
+   */
+  public boolean isFailFast() {
+    return failFast;
+  }
+
+
+  /**
+   * Set whether classes which have not yet started are skipped once one has failed. Classes which have started are always finished.
+   *
+   * @param failFast true to skip the remaining classes after a failure
+   *
+   * @return this
+   */
+  public ParallelBeanVerifier setFailFast(boolean failFast) {
+    this.failFast = failFast;
+    return this;
+  }
+
+
+  /**
+   * Set the number of worker threads used. The default is the number of available processors.
+   *
+   * @param parallelism the number of worker threads
+   *
+   * @return this
+   */
+  public ParallelBeanVerifier setParallelism(int parallelism) {
+    ValidationHelper.ensure(parallelism >= 1, "Parallelism must be at least 1.");
+    this.parallelism = parallelism;
+    return this;
+  }
+
+
+  private Throwable verify(Class<?> beanClass, AtomicBoolean failed, AtomicInteger skipped) {
+    if (failFast && failed.get()) {
+      skipped.incrementAndGet();
+      return null;
+    }
+    try {
+      BeanVerifier.verifyBean(beanClass);
+      return null;
+    } catch (Throwable e) {
+      // Any error, such as a stack overflow from a recursive bean, is reported with the others
+      failed.set(true);
+      return new AssertionError("Cannot verify bean type " + beanClass.getName(), e);
+    }
+  }
+
+
+  /**
+   * Verify that the given bean classes have valid bean getters/setters, equals/hashCode, and toString methods.
+   *
+   * @param beanClasses the classes to verify
+   *
+   * @throws AssertionError if any of the classes fail verification
+   */
+  public void verifyBeans(Class<?>... beanClasses) {
+    AtomicBoolean failed = new AtomicBoolean();
+    AtomicInteger skipped = new AtomicInteger();
+    List<ForkJoinTask<Throwable>> tasks = new ArrayList<>(beanClasses.length);
+    ForkJoinPool pool = new ForkJoinPool(parallelism);
+    try {
+      for (Class<?> beanClass : beanClasses) {
+        tasks.add(pool.submit(() -> verify(beanClass, failed, skipped)));
+      }
+
+      List<Throwable> failures = new ArrayList<>();
+      List<Class<?>> failedClasses = new ArrayList<>();
+      for (int i = 0; i < tasks.size(); i++) {
+        // Once a class has failed, fail-fast verification skips those which have not started, so every task is joined
+        Throwable failure = tasks.get(i).join();
+        if (failure != null) {
+          failures.add(failure);
+          failedClasses.add(beanClasses[i]);
+        }
+      }
+
+      if (!failures.isEmpty()) {
+        String skippedMessage = skipped.get() != 0 ? " (" + skipped.get() + " skipped)" : "";
+        AssertionError error = new AssertionError("Cannot verify " + failures.size() + " of " + beanClasses.length + " bean types" + skippedMessage
+            + ": " + failedClasses.stream().map(Class::getName).collect(Collectors.joining(", ")), failures.get(0));
+        for (int i = 1; i < failures.size(); i++) {
+          error.addSuppressed(failures.get(i));
+        }
+        throw error;
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+
+  /**
+   * Verify that bean classes in the given package have valid bean getters/setters, equals/hashCode, and toString methods.
+   *
+   * @param packageName the name of the package
+   *
+   * @throws AssertionError if any of the classes fail verification
+   */
+  public void verifyBeansIn(String packageName) {
+    verifyBeans(ClassPathUtils.findClassesIn(packageName));
+  }
+
+
+  /**
+   * Verify that bean classes in the given package have valid bean getters/setters, equals/hashCode, and toString methods.
+   *
+   * @param packageObj the package
+   *
+   * @throws AssertionError if any of the classes fail verification
+   */
+  public void verifyBeansIn(Package packageObj) {
+    verifyBeansIn(packageObj.getName());
+  }
+
+}
@@ -23,7 +23,9 @@ package org.meanbean.test;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.meanbean.bean.info.BeanInformation;
 import org.meanbean.bean.info.BeanInformationException;
@@ -33,6 +35,8 @@ import org.meanbean.bean.util.PropertyInformationFilter;
 import org.meanbean.factories.util.FactoryLookupStrategy;
 import org.meanbean.lang.EquivalentFactory;
 import org.meanbean.lang.Factory;
+import org.meanbean.logging.$Event;
+import org.meanbean.logging.$Events;
 import org.meanbean.util.ValidationHelper;
 
 /**
@@ -115,6 +119,155 @@ import org.meanbean.util.ValidationHelper;
  */
 class PropertyBasedEqualsMethodPropertySignificanceVerifier implements EqualsMethodPropertySignificanceVerifier {
 
+  /**
+   * A prepared verification of the equals logic of a type. Each iteration creates an original object and an equivalent working copy. Each property
+   * of the copy in turn is given a new value, the equality of the objects is checked, and the property's original value is restored. If restoring
+   * the value does not make the copy equal to the original again, for example because the bean copies the value defensively into a form which is
+   * not equal to it, a new working copy is created from the factory.
+   */
+  final class Plan {
+
+    private final BeanInformation beanInformation;
+
+    private final Configuration configuration;
+
+    private final EquivalentFactory<?> factory;
+
+    /** The Factory for each property's values, found when the property is first tested. */
+    private final Map<PropertyInformation, Factory<?>> factories = new IdentityHashMap<>();
+
+    private final List<String> insignificantPropertyNames;
+
+    private final Collection<PropertyInformation> properties;
+
+
+    private Plan(
+        BeanInformation beanInformation, EquivalentFactory<?> factory, Configuration configuration,
+        Collection<PropertyInformation> properties, List<String> insignificantPropertyNames
+    ) {
+      this.beanInformation = beanInformation;
+      this.factory = factory;
+      this.configuration = configuration;
+      this.properties = properties;
+      this.insignificantPropertyNames = insignificantPropertyNames;
+    }
+
+
+    private Object createEquivalent(Object original) {
+      Object copy = factory.create();
+      if (!original.equals(copy)) {
+        String message = "Cannot test equals if factory does not create logically equivalent objects.";
+        throw new IllegalArgumentException(message);
+      }
+      return copy;
+    }
+
+
+    /**
+     * Get the type whose equals logic is being verified.
+     *
+     * @return the bean type
+     */
+    Class<?> getBeanClass() {
+      return beanInformation.getBeanClass();
+    }
+
+
+    private Factory<?> getFactory(PropertyInformation property) {
+      Factory<?> propertyFactory = factories.get(property);
+      if (propertyFactory == null) {
+        propertyFactory = factoryLookupStrategy.getFactory(beanInformation, property, configuration);
+        factories.put(property, propertyFactory);
+      }
+      return propertyFactory;
+    }
+
+
+    /**
+     * Restore a property of the working copy to its original value.
+     *
+     * @return true if the working copy is equal to the original again
+     */
+    private boolean revert(Object original, Object working, PropertyInformation property, Object originalValue) {
+      try {
+        property.getWriteMethod().invoke(working, originalValue);
+        return originalValue.equals(property.getReadMethod().invoke(working)) && original.equals(working);
+      } catch (Exception e) {
+        // The working copy is replaced, so the failure does not matter
+        return false;
+      }
+    }
+
+
+    /**
+     * Verify the equals logic once, using new values for every property.
+     *
+     * @param coverage records the values used to modify each property. This can be <code>null</code>.
+     *
+     * @throws IllegalArgumentException If the factory does not create logically equivalent objects with equal property values.
+     * @throws BeanInformationException If a problem occurs when trying to obtain information about the type to test.
+     * @throws BeanTestException        If a problem occurs when testing a property, such as an inability to read or write it.
+     * @throws AssertionError           If the test fails.
+     */
+    void verify(ValueCoverage coverage) throws IllegalArgumentException, BeanInformationException, BeanTestException, AssertionError {
+      Object original = factory.create();
+      ValidationHelper.ensureExists("factory-created object", "test equals", original);
+      Object working = createEquivalent(original);
+      for (PropertyInformation property : properties) {
+        if (!verifyProperty(original, working, property, coverage)) {
+          working = createEquivalent(original);
+        }
+      }
+    }
+
+
+    /**
+     * Verify that the equals logic is affected in the expected manner when the specified property of the working copy is changed.
+     *
+     * @return true if the working copy was restored to equal the original
+     */
+    private boolean verifyProperty(Object original, Object working, PropertyInformation property, ValueCoverage coverage) {
+      String propertyName = property.getName();
+      boolean significant = !insignificantPropertyNames.contains(propertyName);
+      try {
+        Object xOriginalValue = property.getReadMethod().invoke(original);
+        Object originalVal = property.getReadMethod().invoke(working);
+        ValidationHelper.ensureExists("factory-created object." + propertyName, "test equals", xOriginalValue);
+        ValidationHelper.ensureExists("factory-created object." + propertyName, "test equals", originalVal);
+        if (!originalVal.equals(xOriginalValue)) {
+          String message = "Cannot test equals if factory does not create objects with same property values.";
+          throw new IllegalArgumentException(message);
+        }
+        Factory<?> propertyFactory = getFactory(property);
+        Object newVal;
+        try ($Event event = $Events.valueCreation(propertyFactory.getClass(), 1)) {
+          newVal = propertyFactory.create();
+        }
+        if (coverage != null) {
+          coverage.record(propertyName, propertyFactory, newVal);
+        }
+        property.getWriteMethod().invoke(working, newVal);
+        if (significant) {
+          significantAsserter.assertConsistent(propertyName, original, working, originalVal, newVal);
+        } else {
+          insignificantAsserter.assertConsistent(propertyName, original, working, originalVal, newVal);
+        }
+        return revert(original, working, property, originalVal);
+      } catch (Exception e) {
+        if (e instanceof IllegalArgumentException) {
+          throw (IllegalArgumentException) e; // re-throw without wrapping
+        }
+        String message =
+            "Failed to test property [" + property.getName() + "] due to Exception [" + e.getClass().getName()
+                + "]: [" + e.getMessage() + "].";
+        throw new BeanTestException(message, e);
+      }
+    }
+
+  }
+
+
+
   /** Factory used to gather information about a given bean and store it in a BeanInformation object. */
   private final BeanInformationFactory beanInformationFactory = BeanInformationFactory.getInstance();
 
@@ -210,6 +363,26 @@ class PropertyBasedEqualsMethodPropertySignificanceVerifier implements EqualsMet
       String... insignificantProperties
   ) throws IllegalArgumentException, BeanInformationException,
            BeanTestException, AssertionError {
+    prepare(factory, customConfiguration, insignificantProperties).verify(null);
+  }
+
+
+  /**
+   * Prepare to verify the equals logic of the type the specified factory creates, repeatedly. The bean information, the properties to test and
+   * their Factories are found once, rather than on every iteration.
+   *
+   * @param factory                 An EquivalentFactory that creates non-null logically equivalent objects.
+   * @param customConfiguration     A custom Configuration, or <code>null</code>.
+   * @param insignificantProperties The names of properties that are not used when deciding whether objects are logically equivalent.
+   *
+   * @return the prepared verification
+   *
+   * @throws IllegalArgumentException If either the specified factory or insignificantProperties are deemed illegal, or if any of the
+   *                                  insignificant properties do not exist on the type.
+   * @throws BeanInformationException If a problem occurs when trying to obtain information about the type to test.
+   */
+  Plan prepare(EquivalentFactory<?> factory, Configuration customConfiguration, String... insignificantProperties)
+      throws IllegalArgumentException, BeanInformationException {
     ValidationHelper.ensureExists("factory", "test equals", factory);
     ValidationHelper.ensureExists("insignificantProperties", "test equals", insignificantProperties);
 
@@ -223,13 +396,8 @@ class PropertyBasedEqualsMethodPropertySignificanceVerifier implements EqualsMet
     ValidationHelper.ensureExists("factory-created object", "test equals", prototype);
     BeanInformation beanInformation = beanInformationFactory.create(prototype.getClass());
     ensureInsignificantPropertiesExist(beanInformation, insignificantPropertyNames);
-    Collection<PropertyInformation> properties = beanInformation.getProperties();
-    properties = PropertyInformationFilter.filter(beanInformation.getProperties(), customConfiguration);
-    for (PropertyInformation property : properties) {
-      verifyEqualsMethodForProperty(beanInformation, factory, customConfiguration, property,
-          !insignificantPropertyNames.contains(property.getName())
-      );
-    }
+    Collection<PropertyInformation> properties = PropertyInformationFilter.filter(beanInformation.getProperties(), customConfiguration);
+    return new Plan(beanInformation, factory, customConfiguration, properties, insignificantPropertyNames);
   }
 
 
@@ -285,94 +453,5 @@ class PropertyBasedEqualsMethodPropertySignificanceVerifier implements EqualsMet
   }
 
 
-  /**
-   * <p>
-   * Verify that the equals logic implemented by the type the specified factory creates is affected in the expected
-   * manner when changes are made to the value of the specified property. <br>
-   * </p>
-   *
-   * <p>
-   * That is:
-   * </p>
-   *
-   * <ul>
-   * <li>the equality of an object should not be affected by properties that are changed, but are not considered in
-   * the equality logic</li>
-   *
-   * <li>the equality of an object should be affected by properties that are changed and are considered in the
-   * equality logic</li>
-   * </ul>
-   *
-   * <p>
-   * To do this, instances of the type are created using the specified factory, the specified property is manipulated
-   * and the equality is reassessed. <br>
-   * </p>
-   *
-   * <p>
-   * For the test to function correctly, you must specify whether the property is used in the equals logic. <br>
-   * </p>
-   *
-   * <p>
-   * If the test fails, an AssertionError is thrown.
-   * </p>
-   *
-   * @param beanInformation Information about the bean the property belongs to.
-   * @param factory         An EquivalentFactory that creates non-null logically equivalent objects that will be used to test the
-   *                        equals logic. The factory must create logically equivalent but different actual instances of the type
-   *                        upon each invocation of <code>create()</code> in order for the test to be meaningful.
-   * @param configuration   A custom Configuration to be used when testing to ignore the testing of named properties or use a
-   *                        custom test data Factory when testing a named property. This Configuration is only used for this
-   *                        individual test and will not be retained for future testing of this or any other type. If no custom
-   *                        Configuration is required, pass <code>null</code>.
-   * @param property        The property to test.
-   * @param significant     Set to <code>true</code> if the property is used when deciding whether objects are logically
-   *                        equivalent; set to <code>false</code> if the property is not used when deciding whether objects are
-   *                        logically equivalent.
-   *
-   * @throws IllegalArgumentException If any of the parameters are deemed illegal. For example, if any are <code>null</code> (except
-   *                                  configuration, which can be <code>null</code>).
-   * @throws BeanInformationException If a problem occurs when trying to obtain information about the type to test.
-   * @throws BeanTestException        If a problem occurs when testing the property, such as an inability to read or write the property.
-   * @throws AssertionError           If the test fails.
-   */
-  protected void verifyEqualsMethodForProperty(
-      BeanInformation beanInformation, EquivalentFactory<?> factory,
-      Configuration configuration, PropertyInformation property, boolean significant
-  )
-      throws IllegalArgumentException, BeanInformationException, BeanTestException, AssertionError {
-    String propertyName = property.getName();
-    Object originalObj = factory.create();
-    Object modifiedObj = factory.create();
-    if (!originalObj.equals(modifiedObj)) {
-      String message = "Cannot test equals if factory does not create logically equivalent objects.";
-      throw new IllegalArgumentException(message);
-    }
-    try {
-      Object xOriginalValue = property.getReadMethod().invoke(originalObj);
-      Object originalVal = property.getReadMethod().invoke(modifiedObj);
-      ValidationHelper.ensureExists("factory-created object." + propertyName, "test equals", xOriginalValue);
-      ValidationHelper.ensureExists("factory-created object." + propertyName, "test equals", originalVal);
-      if (!originalVal.equals(xOriginalValue)) {
-        String message = "Cannot test equals if factory does not create objects with same property values.";
-        throw new IllegalArgumentException(message);
-      }
-      Factory<?> propertyFactory = factoryLookupStrategy.getFactory(beanInformation, property, configuration);
-      Object newVal = propertyFactory.create();
-      property.getWriteMethod().invoke(modifiedObj, newVal);
-      if (significant) {
-        significantAsserter.assertConsistent(propertyName, originalObj, modifiedObj, originalVal, newVal);
-      } else {
-        insignificantAsserter.assertConsistent(propertyName, originalObj, modifiedObj, originalVal, newVal);
-      }
-    } catch (Exception e) {
-      if (e instanceof IllegalArgumentException) {
-        throw (IllegalArgumentException) e; // re-throw without wrapping
-      }
-      String message =
-          "Failed to test property [" + property.getName() + "] due to Exception [" + e.getClass().getName()
-              + "]: [" + e.getMessage() + "].";
-      throw new BeanTestException(message, e);
-    }
-  }
 
 }
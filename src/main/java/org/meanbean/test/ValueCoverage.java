@@ -0,0 +1,177 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.meanbean.lang.Factory;
+
+/**
+ * Tracks how much of each property's value domain a test has used, so an adaptive test can stop once further iterations are unlikely to use new
+ * values. A property is covered once every value its Factory can create has been seen, or once the estimated chance that the next value is one
+ * not yet seen falls below the confidence target:
+ *
+ * <ul>
+ *   <li>If the Factory reports its domain size, the chance is the number of unseen values times the probability that a uniformly chosen value was
+ *   missed by every sample so far.</li>
+ *   <li>Otherwise the Good-Turing estimate is used: the proportion of samples which produced a value seen only once.</li>
+ * </ul>
+ *
+ * <p>A property whose values are all different, such as a random string, is never covered, so a test of its bean runs every iteration. Tracking
+ * stops as soon as any property has too many distinct values to be covered. Samples may be recorded from several threads.</p>
+ */
+final class ValueCoverage {
+
+  /** Coverage of a single property. */
+  private static final class PropertyCoverage {
+
+    /** How many times each distinct value has been seen. */
+    private final Map<Object, Integer> counts = new HashMap<>();
+
+    /** The number of distinct values the property's Factory creates, or -1 if unknown. */
+    private final int domainSize;
+
+    private boolean covered = false;
+
+    private int samples = 0;
+
+    /** The number of values seen exactly once. */
+    private int singletons = 0;
+
+
+    PropertyCoverage(int domainSize) {
+      this.domainSize = domainSize;
+    }
+
+  }
+
+
+
+  /** The most distinct values tracked for a property before it is deemed impossible to cover. */
+  static final int MAX_DISTINCT_VALUES = 1024;
+
+
+  private static int domainSizeOf(Factory<?> factory) {
+    try {
+      return factory.getDomainSize();
+    } catch (RuntimeException e) {
+      // The failure is reported when the Factory is used
+      return -1;
+    }
+  }
+
+
+  /** The acceptable chance that the next value of a covered property has not been seen before. */
+  private final double missingMass;
+
+  /** The minimum samples before the Good-Turing estimate is trusted. */
+  private final int minimumSamples;
+
+  /** Coverage of each property, keyed by property name. */
+  private final Map<String, PropertyCoverage> properties = new HashMap<>();
+
+  /** Set when a property cannot be covered, after which nothing more is tracked. */
+  private boolean uncoverable = false;
+
+  /** The number of properties which have not been covered. */
+  private int uncovered = 0;
+
+
+  /**
+   * New instance.
+   *
+   * @param confidence the confidence required that further samples would not produce unseen values, between zero and one exclusive
+   */
+  ValueCoverage(double confidence) {
+    missingMass = 1 - confidence;
+    minimumSamples = (int) Math.ceil(1 / missingMass);
+  }
+
+
+  /**
+   * Has every property that has been sampled been covered?
+   *
+   * @return true if further samples are unlikely to produce unseen values
+   */
+  synchronized boolean isCovered() {
+    return !uncoverable && uncovered == 0;
+  }
+
+
+  private boolean isCovered(PropertyCoverage coverage) {
+    int distinct = coverage.counts.size();
+    if (coverage.domainSize > 0) {
+      if (distinct >= coverage.domainSize) {
+        return true;
+      }
+      double missed = Math.pow(1 - 1.0 / coverage.domainSize, coverage.samples);
+      return (coverage.domainSize - distinct) * missed <= missingMass;
+    }
+    return coverage.samples >= minimumSamples && coverage.singletons <= missingMass * coverage.samples;
+  }
+
+
+  /**
+   * Record a value used to test a property.
+   *
+   * @param property the name of the property
+   * @param factory  the Factory which created the value
+   * @param value    the value
+   */
+  synchronized void record(String property, Factory<?> factory, Object value) {
+    if (uncoverable) {
+      return;
+    }
+    PropertyCoverage coverage = properties.get(property);
+    if (coverage == null) {
+      coverage = new PropertyCoverage(domainSizeOf(factory));
+      properties.put(property, coverage);
+      uncovered++;
+    }
+
+    int count;
+    try {
+      count = coverage.counts.merge(value, 1, Integer::sum);
+    } catch (RuntimeException e) {
+      // The value cannot be hashed, so it cannot be tracked
+      uncoverable = true;
+      return;
+    }
+    if (count == 1) {
+      coverage.singletons++;
+    } else if (count == 2) {
+      coverage.singletons--;
+    }
+    coverage.samples++;
+    if (coverage.counts.size() > MAX_DISTINCT_VALUES) {
+      uncoverable = true;
+      return;
+    }
+
+    boolean covered = isCovered(coverage);
+    if (covered != coverage.covered) {
+      coverage.covered = covered;
+      uncovered += covered ? -1 : 1;
+    }
+  }
+
+}
@@ -12,12 +12,6 @@ import org.meanbean.util.RandomValueGenerator;
  */
 public interface VerifierSettings {
 
-  BeanVerifier build();
-
-  VerifierSettings copy();
-
-  VerifierSettingsEditor edit();
-
   BeanInformationFactory getBeanInformationFactory();
 
   int getDefaultIterations();
@@ -68,9 +68,47 @@ public interface VerifierSettingsEditor extends VerifierSettings {
    */
   <T> VerifierSettingsEditor registerTypeHierarchyFactory(Class<T> baseType, Factory<T> factory);
 
+  /**
+   * Stop testing before the iterations are complete, once the values of every property have been covered. The number of iterations remains the
+   * maximum.
+   *
+   * @param adaptiveIterations true to adapt the number of iterations to the coverage of property values
+   *
+   * @return this
+   */
+  VerifierSettingsEditor setAdaptiveIterations(boolean adaptiveIterations);
+
   /** Set the bean information factory. */
   VerifierSettingsEditor setBeanInformationFactory(BeanInformationFactory beanInformationFactory);
 
+  /**
+   * Set the number of times equals and hashCode are invoked on the same objects to check they are consistent.
+   *
+   * @param consistencyChecks the number of invocations
+   *
+   * @return this
+   */
+  VerifierSettingsEditor setConsistencyChecks(int consistencyChecks);
+
+  /**
+   * Copy the equivalent beans used to test equals, hashCode and toString from a single template, where the bean has a public copy constructor or
+   * a public clone method.
+   *
+   * @param copyEquivalentBeans true to copy equivalent beans where possible
+   *
+   * @return this
+   */
+  VerifierSettingsEditor setCopyEquivalentBeans(boolean copyEquivalentBeans);
+
+  /**
+   * Set the confidence an adaptive test requires that further iterations would not use property values it has not already used.
+   *
+   * @param confidence the confidence, between zero and one exclusive
+   *
+   * @return this
+   */
+  VerifierSettingsEditor setCoverageConfidence(double confidence);
+
   /**
    * Set the number of times a type should be tested by default
    */
@@ -80,8 +118,55 @@ public interface VerifierSettingsEditor extends VerifierSettings {
 
   VerifierSettingsEditor setFactoryLookupStrategy(FactoryLookupStrategy factoryLookupStrategy);
 
+  /**
+   * Spread the iterations of the getter and setter test over a pool of threads. The default of 1 runs iterations one at a time.
+   *
+   * @param parallelism the number of threads
+   *
+   * @return this
+   */
+  VerifierSettingsEditor setIterationParallelism(int parallelism);
+
+  /**
+   * Set the maximum depth of the graphs of nested beans generated to populate properties.
+   *
+   * @param maxDepth the maximum depth
+   *
+   * @return this
+   */
+  VerifierSettingsEditor setMaxGraphDepth(int maxDepth);
+
+  /**
+   * Set the maximum number of nested beans generated for a single property value.
+   *
+   * @param maxObjects the maximum number of beans
+   *
+   * @return this
+   */
+  VerifierSettingsEditor setMaxGraphObjects(int maxObjects);
+
   VerifierSettingsEditor setRandomValueGenerator(RandomValueGenerator randomValueGenerator);
 
+  /**
+   * Seed the random values used in the test. A failed test reports its seed and the iteration that failed, so setting the seed and that number of
+   * iterations replays the failure.
+   *
+   * @param seed the seed
+   *
+   * @return this
+   */
+  VerifierSettingsEditor setSeed(long seed);
+
+  /**
+   * Check only a sample of the properties for setter side-effects in each iteration. Each iteration checks a different sample, so every property
+   * is still checked during the test.
+   *
+   * @param sampleSize the number of properties to check in each iteration, or zero to check every property
+   *
+   * @return this
+   */
+  VerifierSettingsEditor setSideEffectSampleSize(int sampleSize);
+
   /**
    * Suppress a warning.
    *
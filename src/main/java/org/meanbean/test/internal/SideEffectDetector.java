@@ -12,4 +12,15 @@ public interface SideEffectDetector {
 
   List<PropertyInformation> init(Object bean, List<PropertyInformation> readableWritableProperties);
 
+  /**
+   * Restrict detection to a rotating sample of the properties. Called before {@link #init(Object, List)} for each iteration of a test. Over
+   * consecutive iterations the samples cover every property.
+   *
+   * @param sampleSize the number of properties to check in each iteration, or zero to check every property
+   * @param iteration  the zero based iteration number
+   */
+  default void sample(int sampleSize, int iteration) {
+    // by default every property is checked
+  }
+
 }
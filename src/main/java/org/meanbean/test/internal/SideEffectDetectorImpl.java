@@ -1,7 +1,8 @@
 package org.meanbean.test.internal;
 
-import java.util.Collections;
-import java.util.HashMap;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
@@ -12,28 +13,155 @@ import org.meanbean.logging.$Logger;
 import org.meanbean.logging.$LoggerFactory;
 import org.meanbean.test.BeanTestException;
 import org.meanbean.util.AssertionUtils;
+import org.meanbean.util.RandomValueGenerator;
 
+/**
+ * Detects setters which change other properties. The value of every property is captured once, into a slot indexed by the property's position.
+ * After each property is tested only the other properties are read again and compared with their slots, and only the tested property's slot is
+ * updated. Primitive values are read as bits and held in a long array, so they are neither boxed nor compared by calling equals. Other properties
+ * are always compared logically.
+ */
 @MetaInfServices
 public class SideEffectDetectorImpl implements SideEffectDetector {
 
+  /** Slot holds a reference compared with equals. */
+  private static final byte KIND_REFERENCE = 0;
+
+  /** Slot holds a boolean, char or integral primitive. */
+  private static final byte KIND_INTEGRAL = 1;
+
+  /** Slot holds a float, compared as Float.equals does. */
+  private static final byte KIND_FLOAT = 2;
+
+  /** Slot holds a double, compared as Double.equals does. */
+  private static final byte KIND_DOUBLE = 3;
+
   private static final $Logger logger = $LoggerFactory.getLogger(SideEffectDetectorImpl.class);
 
-  private final Map<PropertyInformation, EqualityTest> equalityTestsByProperty = new HashMap<>();
+
+  private static byte kindOf(Type type) {
+    if (!(type instanceof Class<?>) || !((Class<?>) type).isPrimitive()) {
+      return KIND_REFERENCE;
+    }
+    if (type == float.class) {
+      return KIND_FLOAT;
+    }
+    if (type == double.class) {
+      return KIND_DOUBLE;
+    }
+    return KIND_INTEGRAL;
+  }
+
+
+  private static BeanTestException readFailed(PropertyInformation property, Exception e) {
+    String message = "Failed to test property [" + property.getName() + "] due to Exception [" + e.getClass().getName()
+        + "]: [" + e.getMessage() + "].";
+    return new BeanTestException(message, e);
+  }
+
 
   private Object bean;
 
-  private Map<String, Object> beforeValues;
+  /** Have the slots been filled for the current bean? */
+  private boolean captured = false;
+
+  /** Is each slot checked in this iteration? */
+  private boolean[] checked = new boolean[0];
+
+  /** The slot index of each property. */
+  private final Map<PropertyInformation, Integer> indexes = new IdentityHashMap<>();
+
+  private int iteration = 0;
+
+  /** How each slot's value is held and compared. */
+  private byte[] kinds = new byte[0];
+
+  /** Primitive values, as bits. */
+  private long[] primitives = new long[0];
+
+  /** The property held in each slot, in the order they were supplied to init. */
+  private PropertyInformation[] properties = new PropertyInformation[0];
+
+  /** Source of the random order properties are tested in. */
+  private final RandomValueGenerator randomValueGenerator = RandomValueGenerator.getInstance();
+
+  /** Reference values. */
+  private Object[] references = new Object[0];
 
-  private PropertyInformation propertyUnderTest;
+  private int sampleSize = 0;
 
-  private List<PropertyInformation> readableWritableProperties;
+  /** The number of slots in use. */
+  private int size = 0;
+
+  /** The slot of the property being tested. */
+  private int underTest = -1;
 
 
   @Override
   public void beforeTestProperty(PropertyInformation property, EqualityTest equalityTest) {
-    propertyUnderTest = property;
-    equalityTestsByProperty.put(property, equalityTest);
-    beforeValues = saveValues();
+    Integer index = indexes.get(property);
+    underTest = index != null ? index : -1;
+    if (!captured) {
+      for (int i = 0; i < size; i++) {
+        if (checked[i]) {
+          capture(i);
+        }
+      }
+      captured = true;
+    }
+  }
+
+
+  private void capture(int index) {
+    if (kinds[index] == KIND_REFERENCE) {
+      references[index] = read(index);
+    } else {
+      primitives[index] = readBits(index);
+    }
+  }
+
+
+  /** Describe the captured values, for logging. */
+  Map<String, Object> describe() {
+    Map<String, Object> values = new TreeMap<>();
+    for (int i = 0; i < size; i++) {
+      if (checked[i]) {
+        values.put(properties[i].getName(), getCaptured(i));
+      }
+    }
+    return values;
+  }
+
+
+  /** Get the value captured in a slot, decoding primitive bits back to the property's value. */
+  private Object getCaptured(int index) {
+    long bits = primitives[index];
+    switch (kinds[index]) {
+      case KIND_INTEGRAL:
+        Class<?> type = (Class<?>) properties[index].getReadMethodReturnType();
+        if (type == boolean.class) {
+          return bits != 0;
+        }
+        if (type == char.class) {
+          return (char) bits;
+        }
+        if (type == byte.class) {
+          return (byte) bits;
+        }
+        if (type == short.class) {
+          return (short) bits;
+        }
+        if (type == int.class) {
+          return (int) bits;
+        }
+        return bits;
+      case KIND_FLOAT:
+        return Float.intBitsToFloat((int) bits);
+      case KIND_DOUBLE:
+        return Double.longBitsToDouble(bits);
+      default:
+        return references[index];
+    }
   }
 
 
@@ -42,58 +170,125 @@ public class SideEffectDetectorImpl implements SideEffectDetector {
    */
   @Override
   public void detectAfterTestProperty() {
-    Map<String, Object> afterValues = saveValues();
-
-    // ignore value set by the property just tested.
-    beforeValues.remove(propertyUnderTest.getName());
-    afterValues.remove(propertyUnderTest.getName());
-
-    for (Map.Entry<String, Object> beforeEntry : beforeValues.entrySet()) {
-      String otherProperty = beforeEntry.getKey();
-
-      Object beforeValue = beforeEntry.getValue();
-      Object afterValue = afterValues.get(otherProperty);
-
-      EqualityTest equalityTest = equalityTestsByProperty.getOrDefault(otherProperty, EqualityTest.LOGICAL);
-      if (beforeValue != null && !equalityTest.test(beforeValue, afterValue)) {
+    for (int i = 0; i < size; i++) {
+      // ignore value set by the property just tested.
+      if (i == underTest || !checked[i]) {
+        continue;
+      }
+      if (!isUnchanged(i)) {
         if (logger.isDebugEnabled()) {
-          logger.debug("Side-effect detected.\nBefore={}\nAfter={}", beforeValues, afterValues);
+          logger.debug("Side-effect detected.\nBefore={}\nAfter[{}]={}", describe(), properties[i].getName(), read(i));
         }
         String message = String
             .format("Property [%s] appears to have a side-effect on another property [%s]",
-                propertyUnderTest.getName(), otherProperty
+                properties[underTest].getName(), properties[i].getName()
             );
         AssertionUtils.fail(message);
       }
     }
+
+    // The tested property's slot is the only one that should have changed
+    if (underTest != -1 && checked[underTest]) {
+      capture(underTest);
+    }
   }
 
 
   @Override
   public List<PropertyInformation> init(Object bean, List<PropertyInformation> readableWritableProperties) {
     this.bean = bean;
-    this.readableWritableProperties = readableWritableProperties;
+    captured = false;
+    underTest = -1;
+
+    if (!isSameProperties(readableWritableProperties)) {
+      size = readableWritableProperties.size();
+      if (properties.length < size) {
+        properties = new PropertyInformation[size];
+        kinds = new byte[size];
+        checked = new boolean[size];
+        primitives = new long[size];
+        references = new Object[size];
+      }
+      indexes.clear();
+      for (int i = 0; i < size; i++) {
+        PropertyInformation property = readableWritableProperties.get(i);
+        properties[i] = property;
+        kinds[i] = kindOf(property.getReadMethodReturnType());
+        indexes.put(property, i);
+      }
+    }
+    Arrays.fill(references, null);
 
-    Collections.shuffle(readableWritableProperties); // shuffle to detect ordering side-effects
+    // Select the properties checked in this iteration. Consecutive iterations check consecutive blocks of properties.
+    if (sampleSize <= 0 || sampleSize >= size) {
+      Arrays.fill(checked, 0, size, true);
+    } else {
+      Arrays.fill(checked, 0, size, false);
+      int start = (int) (((long) iteration * sampleSize) % size);
+      for (int i = 0; i < sampleSize; i++) {
+        checked[(start + i) % size] = true;
+      }
+    }
+
+    randomValueGenerator.shuffle(readableWritableProperties); // shuffle to detect ordering side-effects
     return readableWritableProperties;
   }
 
 
-  private Map<String, Object> saveValues() {
-
-    Map<String, Object> values = new TreeMap<>();
-    for (PropertyInformation property : readableWritableProperties) {
-      try {
-        Object value = property.getReadMethod().invoke(bean);
-        values.put(property.getName(), value);
-      } catch (Exception e) {
-        String propertyName = property.getName();
-        String message = "Failed to test property [" + propertyName + "] due to Exception [" + e.getClass().getName()
-            + "]: [" + e.getMessage() + "].";
-        throw new BeanTestException(message, e);
+  private boolean isSameProperties(List<PropertyInformation> readableWritableProperties) {
+    if (readableWritableProperties.size() != size) {
+      return false;
+    }
+    for (int i = 0; i < size; i++) {
+      if (readableWritableProperties.get(i) != properties[i]) {
+        return false;
       }
     }
-    return values;
+    return true;
+  }
+
+
+  private boolean isUnchanged(int index) {
+    if (kinds[index] != KIND_REFERENCE) {
+      // The bits of equal primitive values are equal, so no value is boxed
+      return primitives[index] == readBits(index);
+    }
+    Object value = read(index);
+    Object before = references[index];
+    if (before == null) {
+      // nothing to compare against, so compare with the new value next time
+      references[index] = value;
+      return true;
+    }
+    return EqualityTest.LOGICAL.test(before, value);
+  }
+
+
+  private Object read(int index) {
+    PropertyInformation property = properties[index];
+    try {
+      return property.getReadMethod().invoke(bean);
+    } catch (Exception e) {
+      throw readFailed(property, e);
+    }
+  }
+
+
+  private long readBits(int index) {
+    PropertyInformation property = properties[index];
+    try {
+      return property.getReadMethod().invokeAsBits(bean);
+    } catch (Exception e) {
+      throw readFailed(property, e);
+    }
+  }
+
+
+
+  @Override
+  public void sample(int sampleSize, int iteration) {
+    this.sampleSize = sampleSize;
+    this.iteration = iteration;
   }
 
 }
@@ -0,0 +1,114 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util;
+
+import static java.lang.Thread.currentThread;
+
+import java.lang.ref.SoftReference;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Holds one value per class loader. Class loaders are held weakly so they can be unloaded. Values are held softly because they typically
+ * reference classes defined by the class loader they are stored against, which would otherwise keep that class loader reachable.
+ *
+ * @param <V> the type of cached value
+ */
+public final class ClassLoaderCache<V> {
+
+  /**
+   * Get the class loader used to discover services for the current thread: the thread's context class loader if set, otherwise the loader
+   * of this library.
+   *
+   * @return the class loader
+   */
+  public static ClassLoader getServiceClassLoader() {
+    return Stream.of(currentThread().getContextClassLoader(), ClassLoaderCache.class.getClassLoader())
+        .filter(Objects::nonNull)
+        .findFirst()
+        .orElse(ClassLoader.getSystemClassLoader());
+  }
+
+
+  private final Map<ClassLoader, SoftReference<V>> values = new WeakHashMap<>();
+
+
+  /**
+   * Discard all cached values.
+   */
+  public void clear() {
+    synchronized (values) {
+      values.clear();
+    }
+  }
+
+
+  /**
+   * Get the value for the specified class loader, creating it if necessary. The value is created without holding any lock, so two threads
+   * may create a value concurrently. In that case only the first one stored is returned to either thread.
+   *
+   * @param classLoader the class loader
+   * @param supplier    supplier of the value if it is not cached
+   *
+   * @return the cached value
+   */
+  public V get(ClassLoader classLoader, Supplier<V> supplier) {
+    V value = getIfPresent(classLoader);
+    if (value != null) {
+      return value;
+    }
+
+    V created = Objects.requireNonNull(supplier.get(), "cached value");
+    synchronized (values) {
+      SoftReference<V> ref = values.get(classLoader);
+      value = ref != null ? ref.get() : null;
+      if (value == null) {
+        value = created;
+        values.put(classLoader, new SoftReference<>(value));
+      }
+      return value;
+    }
+  }
+
+
+  /**
+   * Get the value for the {@linkplain #getServiceClassLoader() service class loader}, creating it if necessary.
+   *
+   * @param supplier supplier of the value if it is not cached
+   *
+   * @return the cached value
+   */
+  public V get(Supplier<V> supplier) {
+    return get(getServiceClassLoader(), supplier);
+  }
+
+
+  private V getIfPresent(ClassLoader classLoader) {
+    synchronized (values) {
+      SoftReference<V> ref = values.get(classLoader);
+      return ref != null ? ref.get() : null;
+    }
+  }
+
+}
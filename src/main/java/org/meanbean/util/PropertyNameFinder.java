@@ -1,12 +1,11 @@
 package org.meanbean.util;
 
-import java.beans.BeanInfo;
-import java.beans.Introspector;
-import java.beans.PropertyDescriptor;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.stream.Stream;
 
+import org.meanbean.bean.info.BeanPropertyScanner;
+import org.meanbean.bean.info.BeanPropertyScanner.Property;
 import org.meanbean.mirror.Executables;
 import org.meanbean.mirror.SerializableLambdas.SerializableFunction1;
 
@@ -15,9 +14,8 @@ public class PropertyNameFinder {
   public static <T, S> String findPropertyName(Class<T> beanClass, SerializableFunction1<T, S> beanGetter) {
     Method method = Executables.findGetter(beanGetter);
     try {
-      BeanInfo beanInfo = Introspector.getBeanInfo(beanClass);
-      PropertyDescriptor property = Stream.of(beanInfo.getPropertyDescriptors())
-          .filter(pd -> methodsEqual(method, pd.getReadMethod()))
+      Property property = BeanPropertyScanner.scan(beanClass).values().stream()
+          .filter(p -> methodsEqual(method, p.getReadMethod()))
           .findFirst()
           .orElseThrow(() -> new IllegalArgumentException("Invalid bean getter method:" + method));
       return property.getName();
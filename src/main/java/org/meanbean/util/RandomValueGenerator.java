@@ -20,6 +20,10 @@
 
 package org.meanbean.util;
 
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
 /**
  * Defines an object that generates random values.
  *
@@ -84,6 +88,17 @@ public interface RandomValueGenerator {
    */
   int nextInt();
 
+  /**
+   * Fill an array with random ints.
+   *
+   * @param out the array to fill
+   */
+  default void nextInts(int[] out) {
+    for (int i = 0; i < out.length; i++) {
+      out[i] = nextInt();
+    }
+  }
+
   /**
    * Generate a random long.
    *
@@ -91,4 +106,70 @@ public interface RandomValueGenerator {
    */
   long nextLong();
 
+  /**
+   * Fill an array with random longs.
+   *
+   * @param out the array to fill
+   */
+  default void nextLongs(long[] out) {
+    for (int i = 0; i < out.length; i++) {
+      out[i] = nextLong();
+    }
+  }
+
+  /**
+   * Generate a random version 4 UUID. Unlike {@link UUID#randomUUID()}, this does not use a SecureRandom, so it never blocks waiting for entropy.
+   *
+   * @return A randomly generated UUID.
+   */
+  default UUID nextUUID() {
+    long mostSigBits = (nextLong() & ~0xf000L) | 0x4000L;
+    long leastSigBits = (nextLong() & 0x3fffffffffffffffL) | 0x8000000000000000L;
+    return new UUID(mostSigBits, leastSigBits);
+  }
+
+  /**
+   * Seed the values generated on the current thread, so they can be generated again. Generators which cannot be seeded ignore this.
+   *
+   * @param seed the seed
+   *
+   * @return true if the generator was seeded
+   */
+  default boolean seed(long seed) {
+    return false;
+  }
+
+  /**
+   * Seed the values generated on the current thread, as {@link #seed(long)} does, until the returned action is run. The action restores the values
+   * the thread would have generated without the seed, so other generators which share the thread's values are not left drawing from the seed.
+   *
+   * @param seed the seed
+   *
+   * @return the action which restores the previous values, or null if the generator cannot be seeded
+   */
+  default Runnable seedTemporarily(long seed) {
+    return null;
+  }
+
+  /**
+   * Randomly permute a list, drawing from this generator.
+   *
+   * @param list the list to shuffle
+   */
+  default void shuffle(List<?> list) {
+    for (int i = list.size() - 1; i > 0; i--) {
+      Collections.swap(list, i, nextInt(i + 1));
+    }
+  }
+
+  /**
+   * Create a generator with an independent stream of values, for use by one worker thread or for one bean. Generators which cannot be split
+   * return themselves.
+   *
+   * @return the generator
+   */
+  default RandomValueGenerator split() {
+    return this;
+  }
+
 }
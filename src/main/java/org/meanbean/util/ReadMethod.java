@@ -20,4 +20,30 @@ public interface ReadMethod {
    */
   Object invoke(Object target) throws IllegalAccessException, InvocationTargetException;
 
+  /**
+   * Reads the value of a primitive property from the specified object as bits, which are equal exactly when the values are equal by
+   * <code>equals</code>. A boolean is 1 or 0, a float or double is converted by <code>Float.floatToIntBits</code> or
+   * <code>Double.doubleToLongBits</code>, and any other primitive is widened to a long. Implementations may read the value without boxing it.
+   *
+   * @param target the object to read the property value from
+   *
+   * @return the bits of the value of the property
+   */
+  default long invokeAsBits(Object target) throws IllegalAccessException, InvocationTargetException {
+    Object value = invoke(target);
+    if (value instanceof Boolean) {
+      return ((Boolean) value) ? 1 : 0;
+    }
+    if (value instanceof Character) {
+      return (Character) value;
+    }
+    if (value instanceof Float) {
+      return Float.floatToIntBits((Float) value);
+    }
+    if (value instanceof Double) {
+      return Double.doubleToLongBits((Double) value);
+    }
+    return ((Number) value).longValue();
+  }
+
 }
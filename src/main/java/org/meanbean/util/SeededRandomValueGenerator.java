@@ -0,0 +1,222 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util;
+
+import java.util.SplittableRandom;
+
+import org.kohsuke.MetaInfServices;
+import org.meanbean.logging.$Logger;
+import org.meanbean.logging.$LoggerFactory;
+
+/**
+ * A RandomValueGenerator based on {@link SplittableRandom}, which can be seeded so a test can be replayed.
+ *
+ * <p>Each thread draws from its own stream, split from a root stream when the thread first uses a generator. If the "meanbean.seed" system
+ * property is set, the root stream is seeded from it, so a whole run can be repeated. Seeding replaces the stream of the current thread, which is
+ * shared by every generator created with the public constructor. Factories created in other service contexts therefore draw from the seeded
+ * stream too.</p>
+ *
+ * <p>A generator returned by {@link #split()} has its own stream, and is intended for use by a single worker.</p>
+ *
+ * <p>The values generated are not suitable for cryptographic purposes.</p>
+ */
+@MetaInfServices
+@Order(1000)
+public class SeededRandomValueGenerator implements RandomValueGenerator {
+
+  /** System property which sets the seed of the root stream. */
+  public static final String PROPERTY_SEED = "meanbean.seed";
+
+  private static final $Logger logger = $LoggerFactory.getLogger(SeededRandomValueGenerator.class);
+
+  /** The stream every thread's stream is split from. */
+  private static final SplittableRandom ROOT = createRoot();
+
+  /** The stream of each thread. */
+  private static final ThreadLocal<SplittableRandom> THREAD_STREAM = ThreadLocal.withInitial(SeededRandomValueGenerator::splitRoot);
+
+
+  private static SplittableRandom createRoot() {
+    String seed = System.getProperty(PROPERTY_SEED);
+    if (seed != null) {
+      try {
+        return new SplittableRandom(Long.decode(seed.trim()));
+      } catch (NumberFormatException e) {
+        logger.warn("Ignoring invalid random seed [{}] in system property {}", seed, PROPERTY_SEED);
+      }
+    }
+    return new SplittableRandom();
+  }
+
+
+  private static SplittableRandom splitRoot() {
+    synchronized (ROOT) {
+      return ROOT.split();
+    }
+  }
+
+
+  /** This generator's own stream, or null if it uses the current thread's stream. */
+  private SplittableRandom stream;
+
+
+  /**
+   * Create a generator which uses the current thread's stream.
+   */
+  public SeededRandomValueGenerator() {
+    stream = null;
+  }
+
+
+  private SeededRandomValueGenerator(SplittableRandom stream) {
+    this.stream = stream;
+  }
+
+
+  @Override
+  public boolean nextBoolean() {
+    return random().nextInt() < 0;
+  }
+
+
+  @Override
+  public byte nextByte() {
+    return (byte) random().nextInt();
+  }
+
+
+  @Override
+  public byte[] nextBytes(int size) throws IllegalArgumentException {
+    if (size < 0) {
+      throw new IllegalArgumentException("Cannot generate a random array of bytes of negative length.");
+    }
+    SplittableRandom random = random();
+    byte[] bytes = new byte[size];
+    int i = 0;
+    while (i < size) {
+      long value = random.nextLong();
+      for (int n = Math.min(size - i, Long.BYTES); n > 0; n--) {
+        bytes[i++] = (byte) value;
+        value >>>= Byte.SIZE;
+      }
+    }
+    return bytes;
+  }
+
+
+  @Override
+  public double nextDouble() {
+    return random().nextDouble();
+  }
+
+
+  @Override
+  public float nextFloat() {
+    // 24 random bits, as Random.nextFloat uses
+    return (random().nextInt() >>> 8) * 0x1.0p-24f;
+  }
+
+
+  @Override
+  public int nextInt(int bound) {
+    return random().nextInt(bound);
+  }
+
+
+  @Override
+  public int nextInt() {
+    return random().nextInt();
+  }
+
+
+  @Override
+  public void nextInts(int[] out) {
+    SplittableRandom random = random();
+    for (int i = 0; i < out.length; i++) {
+      out[i] = random.nextInt();
+    }
+  }
+
+
+  @Override
+  public long nextLong() {
+    return random().nextLong();
+  }
+
+
+  @Override
+  public void nextLongs(long[] out) {
+    SplittableRandom random = random();
+    for (int i = 0; i < out.length; i++) {
+      out[i] = random.nextLong();
+    }
+  }
+
+
+  private SplittableRandom random() {
+    SplittableRandom random = stream;
+    return random != null ? random : THREAD_STREAM.get();
+  }
+
+
+  /**
+   * Seed this generator. If this generator uses the current thread's stream, that stream is replaced, which affects every generator which uses
+   * it.
+   *
+   * @param seed the seed
+   *
+   * @return true
+   */
+  @Override
+  public boolean seed(long seed) {
+    if (stream != null) {
+      stream = new SplittableRandom(seed);
+    } else {
+      THREAD_STREAM.set(new SplittableRandom(seed));
+    }
+    return true;
+  }
+
+
+  @Override
+  public Runnable seedTemporarily(long seed) {
+    if (stream != null) {
+      SplittableRandom previous = stream;
+      stream = new SplittableRandom(seed);
+      return () -> stream = previous;
+    }
+    SplittableRandom previous = THREAD_STREAM.get();
+    THREAD_STREAM.set(new SplittableRandom(seed));
+    return () -> THREAD_STREAM.set(previous);
+  }
+
+
+  /**
+   * Create a generator with its own stream, split from this generator's stream. The new generator is not thread-safe.
+   *
+   * @return the new generator
+   */
+  @Override
+  public RandomValueGenerator split() {
+    return new SeededRandomValueGenerator(random().split());
+  }
+
+}
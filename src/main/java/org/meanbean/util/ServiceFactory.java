@@ -20,87 +20,170 @@
 
 package org.meanbean.util;
 
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
-import java.lang.reflect.Method;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.WeakHashMap;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
 
+import org.meanbean.logging.$Event;
+import org.meanbean.logging.$Events;
+
 /**
  * Loads service through META-INF/services mechanism, additionally providing caching and ordering behavior
  */
 public class ServiceFactory<T> {
 
-  private static final ServiceContextMap serviceContextMap = new ServiceContextMap();
+  /**
+   * The services loaded for a single context. The context remains usable for as long as its key is strongly reachable.
+   */
+  private static final class ServiceContext extends WeakReference<Object> {
+
+    private final Map<Class<?>, ServiceSlot<?>> slots = new ConcurrentHashMap<>();
 
 
-  /** The context key for the current thread. When this is garbage-collected, the context is cleared. */
-  public static class ContextId {
-    private ContextId() {
-      // only created here
+    ServiceContext(Object key, ReferenceQueue<Object> queue) {
+      super(key, queue);
     }
+
+
+    @SuppressWarnings("unchecked")
+    <T> ServiceSlot<T> getSlot(ServiceDefinition<T> definition) {
+      ServiceSlot<?> slot = slots.get(definition.getServiceType());
+      if (slot == null) {
+        slot = slots.computeIfAbsent(definition.getServiceType(), type -> new ServiceSlot<>());
+      }
+      return (ServiceSlot<T>) slot;
+    }
+
   }
 
 
+
   private static class ServiceContextMap {
 
-    private static final ThreadLocal<WeakReference<ContextId>> currentKey = new ThreadLocal<>();
+    private final Set<ServiceContext> contexts = ConcurrentHashMap.newKeySet();
 
-    private final WeakHashMap<ContextId, Map<String, Object>> contextMapByKeys = new WeakHashMap<>();
+    private final ThreadLocal<ServiceContext> currentContext = new ThreadLocal<>();
 
+    private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
 
-    public synchronized void clear() {
-      contextMapByKeys.clear();
-      currentKey.remove();
-    }
 
-    private synchronized ContextId createContext(boolean overwrite) {
-      WeakReference<ContextId> keyRef = currentKey.get();
-      ContextId key = keyRef != null ? keyRef.get() : null;
-      if (key == null) {
-        key = new ContextId();
-        currentKey.set(new WeakReference<>(key));
-      } else if( overwrite ) {
-        contextMapByKeys.remove(key);
-        key = new ContextId();
-        currentKey.set(new WeakReference<>(key));
+    public void clear() {
+      for (ServiceContext context : contexts) {
+        context.slots.clear();
       }
-      return key;
+      currentContext.remove();
     }
 
-    public synchronized ContextId createContext() {
-      return createContext(true);
+
+    public void createContext(Object key) {
+      Objects.requireNonNull(key, "context key cannot be null");
+      try ($Event event = $Events.serviceContext(key.getClass())) {
+        expungeStaleContexts();
+        ServiceContext context = new ServiceContext(key, queue);
+        contexts.add(context);
+        currentContext.set(context);
+      }
     }
 
 
-    public ContextId createContextIfNeeded() {
-      return createContext(false);
+    public void createContextIfNeeded(Object key) {
+      if (!hasContext()) {
+        createContext(key);
+      }
     }
 
 
-    public synchronized Map<String, Object> getContextMap() {
-      WeakReference<ContextId> ref = currentKey.get();
-      Objects.requireNonNull(ref, "context key not set");
+    private void expungeStaleContexts() {
+      Reference<?> ref;
+      while ((ref = queue.poll()) != null) {
+        ServiceContext context = (ServiceContext) ref;
+        context.slots.clear();
+        contexts.remove(context);
+      }
+    }
+
 
-      ContextId key = ref.get();
-      Objects.requireNonNull(key, "context key not available");
-      return contextMapByKeys.computeIfAbsent(key, any -> new ConcurrentHashMap<>());
+    public ServiceContext getContext() {
+      ServiceContext context = currentContext.get();
+      Objects.requireNonNull(context, "context key not set");
+      Objects.requireNonNull(context.get(), "context key not available");
+      return context;
     }
 
 
     public boolean hasContext() {
-      WeakReference<ContextId> ref = currentKey.get();
-      return ref != null && ref.get() != null;
+      ServiceContext context = currentContext.get();
+      return context != null && context.get() != null;
+    }
+
+
+    public <T> Callable<T> inContext(Callable<T> task) {
+      ServiceContext context = getContext();
+      return () -> {
+        ServiceContext previous = currentContext.get();
+        currentContext.set(context);
+        try {
+          return task.call();
+        } finally {
+          if (previous != null) {
+            currentContext.set(previous);
+          } else {
+            currentContext.remove();
+          }
+        }
+      };
     }
 
   }
 
 
+
+  /**
+   * Holds the services of one type within a context. The services are created once, and thereafter read without locking.
+   */
+  private static final class ServiceSlot<T> {
+
+    private Thread loadingThread;
+
+    private volatile ServiceFactory<T> serviceFactory;
+
+
+    ServiceFactory<T> get(ServiceDefinition<T> definition) {
+      ServiceFactory<T> result = serviceFactory;
+      if (result != null) {
+        return result;
+      }
+
+      synchronized (this) {
+        if (serviceFactory == null) {
+          if (loadingThread == Thread.currentThread()) {
+            throw new IllegalStateException("Load of " + definition.getServiceType().getName() + " already in progress");
+          }
+          loadingThread = Thread.currentThread();
+          try {
+            serviceFactory = ServiceFactory.create(definition);
+          } finally {
+            loadingThread = null;
+          }
+        }
+        return serviceFactory;
+      }
+    }
+
+  }
+
+
+  private static final ServiceContextMap serviceContextMap = new ServiceContextMap();
+
+
   public static void clear() {
     serviceContextMap.clear();
   }
@@ -112,17 +195,46 @@ public class ServiceFactory<T> {
   }
 
 
-  public static ContextId createContext() {
-    return serviceContextMap.createContext();
+  /**
+   * Create a new service context for the current thread. The context remains active for as long as the key is strongly
+   * reachable, or until another context is created on this thread.
+   *
+   * @param key the object that owns the context
+   * @param <T> the (unused) type of the return value, allowing this to be used as a field initializer
+   *
+   * @return null
+   */
+  public static <T> T createContext(Object key) {
+    serviceContextMap.createContext(key);
+    return null;
+  }
+
+
+  /**
+   * Create a new service context for the current thread if there is not already an active one.
+   *
+   * @param key the object that owns the context if a new one is created
+   */
+  public static void createContextIfNeeded(Object key) {
+    serviceContextMap.createContextIfNeeded(key);
   }
 
 
-  public static ContextId createContextIfNeeded() {
-    return serviceContextMap.createContextIfNeeded();
+  /**
+   * Wrap a task so that it uses the current thread's service context, whichever thread it is run on. This allows work to be shared with other
+   * threads without them loading their own services. The context's key must remain strongly reachable until the task is complete.
+   *
+   * @param task the task
+   * @param <T>  the task's result type
+   *
+   * @return the wrapped task
+   */
+  public static <T> Callable<T> inCurrentContext(Callable<T> task) {
+    return serviceContextMap.inContext(task);
   }
 
 
-  private static synchronized <T> List<T> doLoad(ServiceDefinition<T> serviceDefinition) {
+  private static <T> List<T> doLoad(ServiceDefinition<T> serviceDefinition) {
     ServiceLoader<T> loader = new ServiceLoader<>(
         serviceDefinition.getServiceType(),
         serviceDefinition.getConstructorTypes()
@@ -138,29 +250,18 @@ public class ServiceFactory<T> {
   }
 
 
-  @SuppressWarnings("unchecked")
-  static synchronized <T> ServiceFactory<T> getInstance(ServiceDefinition<T> definition) {
-    String inprogressKey = "Load of " + definition.getServiceType().getName() + " already in progress";
+  static <T> ServiceFactory<T> getInstance(ServiceDefinition<T> definition) {
+    return serviceContextMap.getContext().getSlot(definition).get(definition);
+  }
 
-    Map<String, Object> contextMap = serviceContextMap.getContextMap();
-    if (contextMap.containsKey(inprogressKey)) {
-      throw new IllegalStateException(inprogressKey);
-    }
 
-    contextMap.put(inprogressKey, inprogressKey);
-    try {
-      return (ServiceFactory<T>) contextMap.computeIfAbsent(
-          definition.getServiceType().getName(),
-          key -> ServiceFactory.create(definition)
-      );
-    } finally {
-      contextMap.remove(inprogressKey);
-    }
+  private static <T> int getOrder(T obj) {
+    return getOrder(obj.getClass());
   }
 
 
-  private static <T> int getOrder(T obj) {
-    Order order = obj.getClass().getAnnotation(Order.class);
+  static int getOrder(Class<?> type) {
+    Order order = type.getAnnotation(Order.class);
     if (order == null) {
       return Order.LOWEST_PRECEDENCE;
     }
@@ -170,7 +271,6 @@ public class ServiceFactory<T> {
 
   public static boolean hasContext() {
     return serviceContextMap.hasContext();
-    //ServiceContextMap.currentKey.get() != null;
   }
 
 
@@ -0,0 +1,181 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.meanbean.logging.$LoggerFactory;
+
+/**
+ * Index of the service providers shipped with this library. The index is generated at build time by the {@link ServiceIndexProcessor}
+ * from the {@code @MetaInfServices} and {@link Order} annotations, so that the built-in providers can be ordered and created without
+ * reflection.
+ *
+ * <p>The index is an accelerator only. The service files remain authoritative: providers that are not in the index, such as those added
+ * by third parties, are still resolved reflectively.</p>
+ */
+final class ServiceIndex {
+
+  /**
+   * Creates a provider instance from constructor arguments.
+   */
+  @FunctionalInterface
+  interface Creator {
+
+    Object create(Object[] arguments) throws Exception;
+
+  }
+
+
+
+  /**
+   * A provider known to the index.
+   */
+  static final class Provider {
+
+    /** Creators keyed by the comma separated names of the constructor's parameter types. */
+    private final Map<String, Creator> creators = new HashMap<>();
+
+    private final int order;
+
+
+    Provider(int order) {
+      this.order = order;
+    }
+
+
+    /**
+     * Get the creator which invokes the constructor with the specified parameter types.
+     *
+     * @param argumentTypes the constructor's parameter types
+     *
+     * @return the creator, or null if the constructor is not indexed
+     */
+    Creator getCreator(Class<?>[] argumentTypes) {
+      return creators.get(toKey(argumentTypes));
+    }
+
+
+    int getOrder() {
+      return order;
+    }
+
+  }
+
+
+  /** System property which can be set to "false" to disable the index. */
+  static final String PROPERTY_ENABLED = "meanbean.serviceIndex";
+
+  private static final ServiceIndex INSTANCE = load();
+
+
+  /**
+   * Get the index of this library's providers. If the index was not generated, or it has been disabled, the returned index is empty.
+   *
+   * @return the index
+   */
+  static ServiceIndex getInstance() {
+    return INSTANCE;
+  }
+
+
+  @SuppressWarnings("unchecked")
+  private static ServiceIndex load() {
+    ServiceIndex index = new ServiceIndex();
+    if (!Boolean.parseBoolean(System.getProperty(PROPERTY_ENABLED, "true"))) {
+      return index;
+    }
+    try {
+      Class<?> generated = Class.forName(ServiceIndexProcessor.GENERATED_CLASS, true, ServiceIndex.class.getClassLoader());
+      ((Consumer<ServiceIndex>) generated.getDeclaredConstructor().newInstance()).accept(index);
+    } catch (ClassNotFoundException e) {
+      // The library was built without the processor, so every provider is resolved reflectively.
+      return index;
+    } catch (ReflectiveOperationException | LinkageError e) {
+      $LoggerFactory.getLogger(ServiceIndex.class).warn("Unable to load generated service index", e);
+      return new ServiceIndex();
+    }
+    return index;
+  }
+
+
+  static String toKey(Class<?>[] argumentTypes) {
+    StringBuilder builder = new StringBuilder();
+    for (Class<?> type : argumentTypes) {
+      if (builder.length() > 0) {
+        builder.append(',');
+      }
+      builder.append(type.getName());
+    }
+    return builder.toString();
+  }
+
+
+  /** Providers keyed by service name and then by provider class name. */
+  private final Map<String, Map<String, Provider>> providers = new HashMap<>();
+
+
+  private ServiceIndex() {
+    // only created by load()
+  }
+
+
+  /**
+   * Add a provider constructor to this index. Invoked by the generated index class.
+   *
+   * @param service       the binary name of the service
+   * @param provider      the binary name of the provider class
+   * @param order         the provider's order
+   * @param argumentTypes the comma separated binary names of the constructor's parameter types
+   * @param creator       the creator which invokes the constructor
+   */
+  void add(String service, String provider, int order, String argumentTypes, Creator creator) {
+    providers.computeIfAbsent(service, s -> new HashMap<>())
+        .computeIfAbsent(provider, p -> new Provider(order))
+        .creators.put(argumentTypes, creator);
+  }
+
+
+  /**
+   * Find an indexed provider. Only providers of services defined by this library's class loader are returned, as the indexed creators
+   * instantiate this library's copy of each provider class.
+   *
+   * @param service   the service
+   * @param className the provider class name
+   *
+   * @return the provider, or null if it is not indexed
+   */
+  Provider find(Class<?> service, String className) {
+    if (service.getClassLoader() != ServiceIndex.class.getClassLoader()) {
+      return null;
+    }
+    return providers.getOrDefault(service.getName(), Collections.emptyMap()).get(className);
+  }
+
+
+  boolean isEmpty() {
+    return providers.isEmpty();
+  }
+
+}
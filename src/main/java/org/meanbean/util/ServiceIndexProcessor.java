@@ -0,0 +1,271 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+
+/**
+ * Annotation processor which generates the {@link ServiceIndex} for the providers annotated with {@code @MetaInfServices}. It mirrors
+ * the contract inference of the {@code metainf-services} processor, so the index describes exactly the providers written to the service
+ * files.
+ *
+ * <p>Only public constructors of public, top-level or static nested, providers are indexed. Anything else is left to the reflective
+ * service loader.</p>
+ */
+public class ServiceIndexProcessor extends AbstractProcessor {
+
+  /** Name of the generated index class. */
+  static final String GENERATED_CLASS = "org.meanbean.util.GeneratedServiceIndex";
+
+  private static final String META_INF_SERVICES = "org.kohsuke.MetaInfServices";
+
+  /** Name of the {@link Order} annotation. The processor is compiled before the rest of the library, so it cannot use the class itself. */
+  private static final String ORDER = "org.meanbean.util.Order";
+
+
+  /** Arguments to ServiceIndex.add(), after the service name, keyed by service name and then provider binary name. */
+  private final Map<String, Map<String, List<String>>> entries = new TreeMap<>();
+
+  private boolean written = false;
+
+
+  private void addProvider(TypeElement provider) {
+    if (!isAccessible(provider)) {
+      return;
+    }
+    String providerName = processingEnv.getElementUtils().getBinaryName(provider).toString();
+    int order = getOrder(provider);
+
+    List<String> statements = new ArrayList<>();
+    for (ExecutableElement constructor : ElementFilter.constructorsIn(provider.getEnclosedElements())) {
+      if (!constructor.getModifiers().contains(Modifier.PUBLIC)) {
+        continue;
+      }
+      String statement = createStatement(provider, providerName, order, constructor);
+      if (statement != null) {
+        statements.add(statement);
+      }
+    }
+
+    for (TypeElement contract : getContracts(provider)) {
+      String serviceName = processingEnv.getElementUtils().getBinaryName(contract).toString();
+      entries.computeIfAbsent(serviceName, s -> new TreeMap<>()).put(providerName, statements);
+    }
+  }
+
+
+  private String createStatement(TypeElement provider, String providerName, int order, ExecutableElement constructor) {
+    StringBuilder key = new StringBuilder();
+    StringBuilder arguments = new StringBuilder();
+    List<? extends VariableElement> parameters = constructor.getParameters();
+    for (int i = 0; i < parameters.size(); i++) {
+      TypeMirror type = processingEnv.getTypeUtils().erasure(parameters.get(i).asType());
+      String name;
+      if (type.getKind().isPrimitive()) {
+        name = type.toString();
+      } else if (type.getKind() == TypeKind.DECLARED) {
+        name = processingEnv.getElementUtils().getBinaryName((TypeElement) ((DeclaredType) type).asElement()).toString();
+      } else {
+        // Arrays and type variables do not have a simple runtime name, so leave them to the reflective loader
+        return null;
+      }
+      if (i > 0) {
+        key.append(',');
+        arguments.append(", ");
+      }
+      key.append(name);
+      arguments.append('(').append(type).append(") a[").append(i).append(']');
+    }
+
+    return String.format("\"%s\", %d, \"%s\", a -> new %s(%s)",
+        providerName, order, key, provider.getQualifiedName(), arguments);
+  }
+
+
+  private Collection<TypeElement> getContracts(TypeElement provider) {
+    for (AnnotationMirror mirror : provider.getAnnotationMirrors()) {
+      if (!isAnnotation(mirror, META_INF_SERVICES)) {
+        continue;
+      }
+      for (Entry<? extends ExecutableElement, ? extends AnnotationValue> e : mirror.getElementValues().entrySet()) {
+        if (!e.getKey().getSimpleName().contentEquals("value")) {
+          continue;
+        }
+        // The value is an array of classes, but a single class may be specified without braces
+        Object value = e.getValue().getValue();
+        List<?> values = value instanceof List ? (List<?>) value : Collections.singletonList(e.getValue());
+        List<TypeElement> contracts = new ArrayList<>();
+        for (Object element : values) {
+          TypeMirror type = (TypeMirror) ((AnnotationValue) element).getValue();
+          if (type.getKind() == TypeKind.DECLARED) {
+            contracts.add((TypeElement) ((DeclaredType) type).asElement());
+          }
+        }
+        if (!contracts.isEmpty()) {
+          return contracts;
+        }
+      }
+    }
+
+    // The contract is inferred from either the single super class or all the interfaces, exactly as metainf-services does.
+    TypeMirror superclass = provider.getSuperclass();
+    boolean hasBaseClass = superclass.getKind() == TypeKind.DECLARED && !superclass.toString().equals("java.lang.Object");
+    boolean hasInterfaces = !provider.getInterfaces().isEmpty();
+    if (hasBaseClass == hasInterfaces) {
+      // metainf-services reports this as an error
+      return Collections.emptyList();
+    }
+    List<TypeElement> contracts = new ArrayList<>();
+    if (hasBaseClass) {
+      contracts.add((TypeElement) ((DeclaredType) superclass).asElement());
+    } else {
+      for (TypeMirror type : provider.getInterfaces()) {
+        contracts.add((TypeElement) ((DeclaredType) type).asElement());
+      }
+    }
+    return contracts;
+  }
+
+
+  private int getOrder(TypeElement provider) {
+    for (AnnotationMirror mirror : provider.getAnnotationMirrors()) {
+      if (isAnnotation(mirror, ORDER)) {
+        for (AnnotationValue value : processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).values()) {
+          return (Integer) value.getValue();
+        }
+      }
+    }
+    return Integer.MAX_VALUE;
+  }
+
+
+  @Override
+  public Set<String> getSupportedAnnotationTypes() {
+    return Collections.singleton(META_INF_SERVICES);
+  }
+
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+
+  private boolean isAccessible(TypeElement type) {
+    if (type.getModifiers().contains(Modifier.ABSTRACT)) {
+      return false;
+    }
+    TypeElement element = type;
+    while (element.getModifiers().contains(Modifier.PUBLIC)) {
+      if (element.getNestingKind() == NestingKind.TOP_LEVEL) {
+        return true;
+      }
+      if (element.getNestingKind() != NestingKind.MEMBER || !element.getModifiers().contains(Modifier.STATIC)) {
+        return false;
+      }
+      element = (TypeElement) element.getEnclosingElement();
+    }
+    return false;
+  }
+
+
+  private boolean isAnnotation(AnnotationMirror mirror, String name) {
+    return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(name);
+  }
+
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    if (written || roundEnv.processingOver()) {
+      return false;
+    }
+    for (TypeElement annotation : annotations) {
+      for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+        if (element.getKind() == ElementKind.CLASS) {
+          addProvider((TypeElement) element);
+        }
+      }
+    }
+    if (!entries.isEmpty()) {
+      // Providers generated in later rounds are not indexed, and are resolved reflectively instead.
+      write();
+      written = true;
+    }
+    return false;
+  }
+
+
+  private void write() {
+    String packageName = GENERATED_CLASS.substring(0, GENERATED_CLASS.lastIndexOf('.'));
+    String simpleName = GENERATED_CLASS.substring(packageName.length() + 1);
+    try (Writer writer = processingEnv.getFiler().createSourceFile(GENERATED_CLASS).openWriter();
+        PrintWriter out = new PrintWriter(writer)) {
+      out.println("package " + packageName + ";");
+      out.println();
+      out.println("/** Generated by " + ServiceIndexProcessor.class.getName() + ". Do not edit. */");
+      out.println("public final class " + simpleName + " implements java.util.function.Consumer<ServiceIndex> {");
+      out.println();
+      out.println("  @Override");
+      out.println("  @SuppressWarnings({\"rawtypes\", \"unchecked\"})");
+      out.println("  public void accept(ServiceIndex index) {");
+      for (Entry<String, Map<String, List<String>>> service : entries.entrySet()) {
+        for (List<String> statements : service.getValue().values()) {
+          for (String statement : statements) {
+            out.println("    index.add(\"" + service.getKey() + "\", " + statement + ");");
+          }
+        }
+      }
+      out.println("  }");
+      out.println();
+      out.println("}");
+    } catch (IOException e) {
+      processingEnv.getMessager().printMessage(Kind.ERROR, "Unable to write " + GENERATED_CLASS + ": " + e);
+    }
+  }
+
+}
@@ -33,7 +33,6 @@
 
 package org.meanbean.util;
 
-import static java.lang.Thread.currentThread;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
 import java.io.BufferedReader;
@@ -41,26 +40,95 @@ import java.io.IOException;
 import java.io.InputStreamReader;
 import java.lang.reflect.Constructor;
 import java.net.URL;
+import java.util.AbstractMap.SimpleImmutableEntry;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.Enumeration;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Map;
 import java.util.ServiceConfigurationError;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.meanbean.util.ServiceIndex.Creator;
 
 /**
  * Alternative service loader that supports constructors with arguments in opposite to {@link java.util.ServiceLoader}.
  *
+ * <p>The service files are read and their constructors resolved once per class loader. Subsequent loads of the same
+ * service only invoke the cached constructors. Providers in the build-time generated {@link ServiceIndex} are ordered and created
+ * without reflection.</p>
+ *
  * @param <T> Service interface
  */
 public final class ServiceLoader<T> {
 
+  /**
+   * Cache of resolved provider constructors for a single class loader.
+   */
+  private static class ProviderCache {
+
+    /** The resolved creators, sorted by their {@link Order}, keyed by service name and constructor argument types. */
+    private final Map<ProviderKey, List<Creator>> creators = new ConcurrentHashMap<>();
+
+  }
+
+
+
+  /**
+   * Key identifying a service and the constructor signature used to create it.
+   */
+  private static final class ProviderKey {
+
+    private final Class<?>[] argumentTypes;
+
+    private final String serviceName;
+
+
+    ProviderKey(String serviceName, Class<?>[] argumentTypes) {
+      this.serviceName = serviceName;
+      this.argumentTypes = argumentTypes;
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof ProviderKey)) {
+        return false;
+      }
+      ProviderKey that = (ProviderKey) o;
+      return serviceName.equals(that.serviceName) && Arrays.equals(argumentTypes, that.argumentTypes);
+    }
+
+
+    @Override
+    public int hashCode() {
+      return 31 * serviceName.hashCode() + Arrays.hashCode(argumentTypes);
+    }
+
+  }
+
+
+  /** Provider caches for each class loader. */
+  private static final ClassLoaderCache<ProviderCache> PROVIDER_CACHES = new ClassLoaderCache<>();
+
   private static final String SERVICE_PREFIX = "META-INF/services/";
 
 
+  /**
+   * Discard all cached providers so that the next load re-reads the service files.
+   */
+  static void clearCache() {
+    PROVIDER_CACHES.clear();
+  }
+
+
   private static <T> Collection<String> findClassNames(ClassLoader classLoader, Class<? extends T> service) throws IOException {
     String name = SERVICE_PREFIX + service.getName();
     Enumeration<URL> urls = classLoader.getResources(name);
@@ -94,21 +162,17 @@ public final class ServiceLoader<T> {
   public ServiceLoader(Class<? extends T> service, Class<?>... argumentTypes) {
     this.service = service;
     this.argumentTypes = argumentTypes;
-    this.classLoader = Stream.of(currentThread().getContextClassLoader(), getClass().getClassLoader())
-        .filter(Objects::nonNull)
-        .findFirst()
-        .orElse(ClassLoader.getSystemClassLoader());
+    this.classLoader = ClassLoaderCache.getServiceClassLoader();
   }
 
 
   public List<T> createAll(Object... arguments) {
     try {
-      Collection<String> classNames = findClassNames(classLoader, service);
-      List<T> services = new ArrayList<>(classNames.size());
-      for (String className : classNames) {
-        services.add(createInstance(className, arguments));
+      List<Creator> creators = getCreators();
+      List<T> services = new ArrayList<>(creators.size());
+      for (Creator creator : creators) {
+        services.add(service.cast(creator.create(arguments)));
       }
-      Collections.sort(services, ServiceFactory.getComparator());
       return services;
     } catch (Exception ex) {
       throw new ServiceConfigurationError("Cannot create service instance for " + service.getName(), ex);
@@ -116,11 +180,42 @@ public final class ServiceLoader<T> {
   }
 
 
-  private T createInstance(String className, Object... arguments) throws Exception {
-    Class<?> implementation = Class.forName(className, false, classLoader);
-    Constructor<?> constructor = implementation.getDeclaredConstructor(argumentTypes);
-    Object newInstance = constructor.newInstance(arguments);
-    return service.cast(newInstance);
+  private List<Creator> getCreators() throws Exception {
+    ProviderCache cache = PROVIDER_CACHES.get(classLoader, ProviderCache::new);
+    ProviderKey key = new ProviderKey(service.getName(), argumentTypes.clone());
+    List<Creator> creators = cache.creators.get(key);
+    if (creators == null) {
+      // Resolution failures are not cached, so a broken provider is reported on every attempt.
+      creators = resolveCreators();
+      cache.creators.putIfAbsent(key, creators);
+    }
+    return creators;
+  }
+
+
+  private List<Creator> resolveCreators() throws Exception {
+    Collection<String> classNames = findClassNames(classLoader, service);
+    ServiceIndex index = ServiceIndex.getInstance();
+    List<Map.Entry<Integer, Creator>> ordered = new ArrayList<>(classNames.size());
+    for (String className : classNames) {
+      ServiceIndex.Provider provider = index.find(service, className);
+      Creator creator = provider != null ? provider.getCreator(argumentTypes) : null;
+      if (creator != null) {
+        ordered.add(new SimpleImmutableEntry<>(provider.getOrder(), creator));
+      } else {
+        Class<?> implementation = Class.forName(className, false, classLoader);
+        Constructor<?> constructor = implementation.getDeclaredConstructor(argumentTypes);
+        ordered.add(new SimpleImmutableEntry<>(ServiceFactory.getOrder(implementation), constructor::newInstance));
+      }
+    }
+
+    // The sort is stable, so providers with the same order remain in the order they were listed
+    ordered.sort(Comparator.comparingInt(entry -> entry.getKey()));
+    List<Creator> creators = new ArrayList<>(ordered.size());
+    for (Map.Entry<Integer, Creator> entry : ordered) {
+      creators.add(entry.getValue());
+    }
+    return Collections.unmodifiableList(creators);
   }
 
 }
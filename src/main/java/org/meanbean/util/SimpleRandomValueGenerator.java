@@ -114,6 +114,20 @@ public class SimpleRandomValueGenerator implements RandomValueGenerator {
   }
 
 
+  /**
+   * Fill an array with random ints.
+   *
+   * @param out the array to fill
+   */
+  @Override
+  public void nextInts(int[] out) {
+    Random random = random();
+    for (int i = 0; i < out.length; i++) {
+      out[i] = random.nextInt();
+    }
+  }
+
+
   /**
    * Generate a random long.
    *
@@ -125,6 +139,15 @@ public class SimpleRandomValueGenerator implements RandomValueGenerator {
   }
 
 
+  @Override
+  public void nextLongs(long[] out) {
+    Random random = random();
+    for (int i = 0; i < out.length; i++) {
+      out[i] = random.nextLong();
+    }
+  }
+
+
   private Random random() {
     return ThreadLocalRandom.current();
   }
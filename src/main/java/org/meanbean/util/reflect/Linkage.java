@@ -0,0 +1,63 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util.reflect;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.reflect.Modifier;
+
+/**
+ * Decides whether classes generated by the {@link LambdaMetafactory} on behalf of this library can refer to a type directly.
+ */
+public final class Linkage {
+
+  /**
+   * A generated lambda class is defined by this library's class loader and refers to the types it uses directly, so each type must be public and
+   * visible from this library. Arrays are linkable if their component type is, and primitives always are.
+   *
+   * @param type the type to check
+   *
+   * @return true if generated code can refer to the type
+   */
+  public static boolean isLinkable(Class<?> type) {
+    while (type.isArray()) {
+      type = type.getComponentType();
+    }
+    if (type.isPrimitive()) {
+      return true;
+    }
+    for (Class<?> c = type; c != null; c = c.getEnclosingClass()) {
+      if (!Modifier.isPublic(c.getModifiers())) {
+        return false;
+      }
+    }
+    try {
+      return Class.forName(type.getName(), false, Linkage.class.getClassLoader()) == type;
+    } catch (ClassNotFoundException | LinkageError e) {
+      return false;
+    }
+  }
+
+
+  private Linkage() {
+    // not instantiable
+  }
+
+}
@@ -0,0 +1,100 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Member;
+
+import org.meanbean.logging.$Logger;
+import org.meanbean.logging.$LoggerFactory;
+
+/**
+ * An implementation of {@link ReflectionAccessor} for Java 9 and later, which does not need {@code sun.misc.Unsafe}.
+ * <p>
+ * {@code MethodHandles.privateLookupIn} succeeds exactly when a class's package is open to this library, which is also when
+ * {@link AccessibleObject#setAccessible(boolean)} will succeed. Every package on the class path is open, so beans can always be accessed. The
+ * answer is remembered for each class. Members of a class in a closed package are left as they are, without trying to make them accessible, so
+ * no exception is raised and caught. Public members of exported packages can still be used, and any other use fails with an
+ * IllegalAccessException. A closed package is logged once, at debug level.
+ * <p>
+ * {@code privateLookupIn} is found at run time, so this class can be compiled for Java 8.
+ */
+final class LookupReflectionAccessor extends ReflectionAccessor {
+
+  private static final $Logger logger = $LoggerFactory.getLogger(LookupReflectionAccessor.class);
+
+
+  /**
+   * Create the accessor, if the current Java version supports it.
+   *
+   * @return the accessor, or null
+   */
+  static LookupReflectionAccessor create() {
+    try {
+      MethodHandle privateLookupIn = MethodHandles.publicLookup().findStatic(MethodHandles.class, "privateLookupIn",
+          MethodType.methodType(Lookup.class, Class.class, Lookup.class)
+      );
+      return new LookupReflectionAccessor(privateLookupIn);
+    } catch (NoSuchMethodException | IllegalAccessException e) {
+      return null;
+    }
+  }
+
+
+  /** Whether each class's package is open to this library. */
+  private final ClassValue<Boolean> isOpen = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      try {
+        Lookup lookup = (Lookup) privateLookupIn.invokeExact(type, MethodHandles.lookup());
+        return lookup != null;
+      } catch (Throwable e) {
+        logger.debug("Package {} is not open to meanbean. Open it with the \"--add-opens\" command line option.", type.getPackage());
+        return Boolean.FALSE;
+      }
+    }
+  };
+
+  private final MethodHandle privateLookupIn;
+
+
+  private LookupReflectionAccessor(MethodHandle privateLookupIn) {
+    this.privateLookupIn = privateLookupIn;
+  }
+
+
+  /** {@inheritDoc} */
+  @Override
+  void setAccessible(AccessibleObject ao) {
+    if (isOpen.get(((Member) ao).getDeclaringClass())) {
+      try {
+        ao.setAccessible(true);
+      } catch (RuntimeException e) {
+        // Using the object will report the problem, for example a security manager refusing access
+      }
+    }
+  }
+
+}
@@ -27,7 +27,7 @@ final class PreJava9ReflectionAccessor extends ReflectionAccessor {
 
   /** {@inheritDoc} */
   @Override
-  public void makeAccessible(AccessibleObject ao) {
+  void setAccessible(AccessibleObject ao) {
     ao.setAccessible(true);
   }
 
@@ -31,7 +31,16 @@ import java.lang.reflect.AccessibleObject;
 public abstract class ReflectionAccessor {
 
   // the singleton instance, use getInstance() to obtain
-  private static final ReflectionAccessor instance = JavaVersion.getMajorJavaVersion() < 9 ? new PreJava9ReflectionAccessor() : new UnsafeReflectionAccessor();
+  private static final ReflectionAccessor instance = createInstance();
+
+
+  private static ReflectionAccessor createInstance() {
+    if (JavaVersion.getMajorJavaVersion() < 9) {
+      return new PreJava9ReflectionAccessor();
+    }
+    ReflectionAccessor lookupAccessor = LookupReflectionAccessor.create();
+    return lookupAccessor != null ? lookupAccessor : new UnsafeReflectionAccessor();
+  }
 
 
   /**
@@ -48,8 +57,20 @@ public abstract class ReflectionAccessor {
 
   /**
    * Does the same as {@code ao.setAccessible(true)}, but never throws
-   * java.lang.reflect.InaccessibleObjectException
+   * java.lang.reflect.InaccessibleObjectException. An object which is already accessible is left alone.
+   */
+  @SuppressWarnings("deprecation")
+  public void makeAccessible(AccessibleObject ao) {
+    // The accessible flag is held by the object itself, so it records which objects have been processed
+    if (!ao.isAccessible()) {
+      setAccessible(ao);
+    }
+  }
+
+
+  /**
+   * Make an object which is not yet accessible, accessible.
    */
-  public abstract void makeAccessible(AccessibleObject ao);
+  abstract void setAccessible(AccessibleObject ao);
 
 }
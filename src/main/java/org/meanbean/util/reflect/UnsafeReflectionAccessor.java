@@ -15,51 +15,51 @@
  */
 package org.meanbean.util.reflect;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 
 /**
  * An implementation of {@link ReflectionAccessor} based on {@link Unsafe}.
  * <p>
  * NOTE: This implementation is designed for Java 9. Although it should work with earlier Java releases, it is better to
  * use {@link PreJava9ReflectionAccessor} for them.
+ * <p>
+ * The offset of the override flag and a handle to {@code Unsafe.putBoolean} are resolved once, when the class is initialised.
  */
-@SuppressWarnings({"unchecked", "rawtypes"})
 final class UnsafeReflectionAccessor extends ReflectionAccessor {
 
-  private static Class unsafeClass;
-
-
-  private static Field getOverrideField() {
-    try {
-      return AccessibleObject.class.getDeclaredField("override");
-    } catch (NoSuchFieldException e) {
-      return null;
-    }
-  }
+  /** Sets the override flag of an AccessibleObject, or null if Unsafe or the flag could not be found. */
+  private static final MethodHandle SET_OVERRIDE = createSetOverride();
 
 
-  private static Object getUnsafeInstance() {
+  private static MethodHandle createSetOverride() {
     try {
-      unsafeClass = Class.forName("sun.misc.Unsafe");
+      Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
       Field unsafeField = unsafeClass.getDeclaredField("theUnsafe");
       unsafeField.setAccessible(true);
-      return unsafeField.get(null);
-    } catch (Exception e) {
+      Object theUnsafe = unsafeField.get(null);
+      Field overrideField = AccessibleObject.class.getDeclaredField("override");
+
+      MethodHandles.Lookup lookup = MethodHandles.lookup();
+      MethodHandle objectFieldOffset = lookup.findVirtual(unsafeClass, "objectFieldOffset", MethodType.methodType(long.class, Field.class));
+      long overrideOffset = (long) objectFieldOffset.invoke(theUnsafe, overrideField); // theUnsafe.objectFieldOffset(overrideField)
+
+      // (AccessibleObject) -> theUnsafe.putBoolean(ao, overrideOffset, true)
+      MethodHandle putBoolean = lookup.findVirtual(unsafeClass, "putBoolean", MethodType.methodType(void.class, Object.class, long.class, boolean.class));
+      putBoolean = MethodHandles.insertArguments(putBoolean, 2, overrideOffset, true);
+      return putBoolean.bindTo(theUnsafe).asType(MethodType.methodType(void.class, AccessibleObject.class));
+    } catch (Throwable e) {
       return null;
     }
   }
 
 
-  private final Field overrideField = getOverrideField();
-
-  private final Object theUnsafe = getUnsafeInstance();
-
-
   /** {@inheritDoc} */
   @Override
-  public void makeAccessible(AccessibleObject ao) {
+  void setAccessible(AccessibleObject ao) {
     boolean success = makeAccessibleWithUnsafe(ao);
     if (!success) {
       try {
@@ -74,14 +74,11 @@ final class UnsafeReflectionAccessor extends ReflectionAccessor {
 
   // Visible for testing only
   boolean makeAccessibleWithUnsafe(AccessibleObject ao) {
-    if (theUnsafe != null && overrideField != null) {
+    if (SET_OVERRIDE != null) {
       try {
-        Method method = unsafeClass.getMethod("objectFieldOffset", Field.class);
-        long overrideOffset = (Long) method.invoke(theUnsafe, overrideField);  // long overrideOffset = theUnsafe.objectFieldOffset(overrideField);
-        Method putBooleanMethod = unsafeClass.getMethod("putBoolean", Object.class, long.class, boolean.class);
-        putBooleanMethod.invoke(theUnsafe, ao, overrideOffset, true); // theUnsafe.putBoolean(ao, overrideOffset, true);
+        SET_OVERRIDE.invokeExact(ao);
         return true;
-      } catch (Exception ignored) { // do nothing
+      } catch (Throwable ignored) { // do nothing
       }
     }
     return false;
@@ -0,0 +1,460 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.junit.Test;
+import org.meanbean.bean.info.BeanPropertyScanner.Property;
+import org.meanbean.util.ClassPath;
+import org.meanbean.util.ClassPath.ClassInfo;
+
+public class BeanPropertyScannerTest {
+
+  /** Beans for which the Introspector's result depends on the Java version. */
+  private static final Set<Class<?>> VERSION_DEPENDENT = new HashSet<>(Arrays.asList(MixedBean.class, OverloadedSetterBean.class));
+
+
+  public static class BooleanBean {
+
+    public boolean getActive() {
+      return true;
+    }
+
+
+    public Boolean isEnabled() {
+      return Boolean.TRUE;
+    }
+
+
+    public boolean isActive() {
+      return true;
+    }
+
+
+    public void setActive(boolean active) {
+      // do nothing
+    }
+
+
+    public void setEnabled(Boolean enabled) {
+      // do nothing
+    }
+
+  }
+
+
+
+  public static class GenericBase<T extends Number> {
+
+    public T getValue() {
+      return null;
+    }
+
+
+    public void setValue(T value) {
+      // do nothing
+    }
+
+  }
+
+
+
+  public static class GenericChild extends GenericBase<Integer> {
+
+    @Override
+    public void setValue(Integer value) {
+      // do nothing
+    }
+
+  }
+
+
+
+  public static class CovariantBase {
+
+    public Number getNumber() {
+      return null;
+    }
+
+
+    public void setNumber(Number number) {
+      // do nothing
+    }
+
+  }
+
+
+
+  public static class CovariantChild extends CovariantBase {
+
+    @Override
+    public Integer getNumber() {
+      return null;
+    }
+
+  }
+
+
+
+  public static class NarrowSetterBean {
+
+    public Number getNumber() {
+      return null;
+    }
+
+
+    public void setNumber(Integer number) {
+      // do nothing
+    }
+
+  }
+
+
+
+  public static class OverloadedSetterBean extends CovariantBase {
+
+    @Override
+    public void setNumber(Number number) {
+      // do nothing
+    }
+
+
+    public void setNumber(Integer number) {
+      // do nothing
+    }
+
+
+    public void setNumber(Object number) {
+      // do nothing
+    }
+
+  }
+
+
+
+  public static class WideSetterBean {
+
+    public Integer getNumber() {
+      return null;
+    }
+
+
+    public void setNumber(Number number) {
+      // do nothing
+    }
+
+  }
+
+
+
+  public static class WideSetterChild extends CovariantBase {
+
+    @Override
+    public Integer getNumber() {
+      return null;
+    }
+
+
+    @Override
+    public void setNumber(Number number) {
+      // do nothing
+    }
+
+  }
+
+
+
+  public static class WriteOnlyBase {
+
+    public void setNumber(Number number) {
+      // do nothing
+    }
+
+  }
+
+
+
+  public static class WriteOnlyChild extends WriteOnlyBase {
+
+    public Integer getNumber() {
+      return null;
+    }
+
+  }
+
+
+
+  public interface DefaultGetter {
+
+    default String getDefaulted() {
+      return "default";
+    }
+
+  }
+
+
+
+  public static class MixedBean implements DefaultGetter {
+
+    public static String getStatic() {
+      return "static";
+    }
+
+
+    public String get() {
+      return "";
+    }
+
+
+    public String getName() {
+      return "";
+    }
+
+
+    public URL getURL() {
+      return null;
+    }
+
+
+    public String getX(int index) {
+      return null;
+    }
+
+
+    public void setDate(Date date) {
+      // do nothing
+    }
+
+
+    public MixedBean setFluent(String fluent) {
+      return this;
+    }
+
+
+    public String getFluent() {
+      return null;
+    }
+
+
+    public void setName(Object name) {
+      // do nothing
+    }
+
+
+    public void setName(String name) {
+      // do nothing
+    }
+
+
+    public void setURL(URL url) {
+      // do nothing
+    }
+
+
+    public void setX(int index, String value) {
+      // do nothing
+    }
+
+  }
+
+
+  private static String describe(Method method) {
+    if (method == null) {
+      return "none";
+    }
+    return method.getName() + Arrays.toString(method.getParameterTypes()) + ":" + method.getReturnType().getName();
+  }
+
+
+  private static Map<String, String> describeIntrospector(Class<?> beanClass) throws IntrospectionException {
+    BeanInfo beanInfo = Introspector.getBeanInfo(beanClass);
+    Map<String, String> result = new TreeMap<>();
+    for (PropertyDescriptor pd : beanInfo.getPropertyDescriptors()) {
+      result.put(pd.getName(), describe(pd.getReadMethod()) + " / " + describe(pd.getWriteMethod()) + " / " + pd.getPropertyType());
+    }
+    return result;
+  }
+
+
+  private static Map<String, String> describeInformation(BeanInformation beanInformation) {
+    Map<String, String> result = new TreeMap<>();
+    for (PropertyInformation information : beanInformation.getProperties()) {
+      result.put(information.getName(), information.isReadable() + " " + information.getReadMethodReturnType() + " / "
+          + information.isWritable() + " " + (information.isWritable() ? information.getWriteMethod().getName() + " " + information.getWriteMethodParameterType()
+          : ""));
+    }
+    return result;
+  }
+
+
+  private static Map<String, String> describeScanner(Class<?> beanClass) {
+    Map<String, String> result = new TreeMap<>();
+    for (Property property : BeanPropertyScanner.scan(beanClass).values()) {
+      result.put(property.getName(), describe(property.getReadMethod()) + " / " + describe(property.getWriteMethod()) + " / " + property.getPropertyType());
+    }
+    return result;
+  }
+
+
+  private static Set<Class<?>> findCorpus() {
+    Set<Class<?>> corpus = new LinkedHashSet<>(Arrays.asList(Object.class, String.class, Date.class, Thread.class, ArrayList.class, URL.class));
+    for (ClassInfo classInfo : ClassPath.from(BeanPropertyScannerTest.class).getAllClasses()) {
+      if (classInfo.getPackageName().startsWith("org.meanbean")) {
+        try {
+          Class<?> beanClass = classInfo.load();
+          if (!VERSION_DEPENDENT.contains(beanClass)) {
+            corpus.add(beanClass);
+          }
+        } catch (LinkageError e) {
+          // not a usable class
+        }
+      }
+    }
+    return corpus;
+  }
+
+
+  @Test
+  public void decapitalizeShouldMatchIntrospector() {
+    for (String name : new String[]{"", "a", "A", "Name", "name", "URL", "UName", "uName", "X1", "_x"}) {
+      assertEquals(name, Introspector.decapitalize(name), BeanPropertyScanner.decapitalize(name));
+    }
+  }
+
+
+  @Test
+  public void scanShouldMatchIntrospector() throws Exception {
+    List<String> mismatches = new ArrayList<>();
+    for (Class<?> beanClass : findCorpus()) {
+      Map<String, String> expected = describeIntrospector(beanClass);
+      Map<String, String> actual = describeScanner(beanClass);
+      if (!expected.equals(actual)) {
+        mismatches.add(beanClass.getName() + "\n  expected: " + expected + "\n  actual:   " + actual);
+      }
+    }
+    assertTrue(String.join("\n", mismatches), mismatches.isEmpty());
+  }
+
+
+  @Test
+  public void scannedInformationShouldMatchJavaBeanInformation() {
+    List<String> mismatches = new ArrayList<>();
+    for (Class<?> beanClass : findCorpus()) {
+      Map<String, String> expected = describeInformation(new JavaBeanInformation(beanClass));
+      Map<String, String> actual = describeInformation(new ScannedBeanInformation(beanClass));
+      if (!expected.equals(actual)) {
+        mismatches.add(beanClass.getName() + "\n  expected: " + expected + "\n  actual:   " + actual);
+      }
+    }
+    assertTrue(String.join("\n", mismatches), mismatches.isEmpty());
+  }
+
+
+  @Test
+  public void shouldFindFluentWriteMethod() {
+    Property property = BeanPropertyScanner.scan(MixedBean.class).get("fluent");
+    assertThat(property.getWriteMethod(), is(nullValue()));
+    assertThat(property.getFluentWriteMethod().getName(), is("setFluent"));
+  }
+
+
+  @Test
+  public void shouldIgnoreInvalidAccessors() {
+    Map<String, Property> properties = BeanPropertyScanner.scan(MixedBean.class);
+    assertThat(new TreeSet<>(properties.keySet()), contains("URL", "class", "date", "fluent", "name", "x"));
+  }
+
+
+  @Test
+  public void shouldOnlyUseSimpleAccessorsForIndexedProperty() {
+    Property property = BeanPropertyScanner.scan(MixedBean.class).get("x");
+    assertThat(property.getReadMethod(), is(nullValue()));
+    assertThat(property.getWriteMethod(), is(nullValue()));
+    assertThat(property.getPropertyType(), is(nullValue()));
+  }
+
+
+  @Test
+  public void shouldPreferIsGetter() {
+    Property property = BeanPropertyScanner.scan(BooleanBean.class).get("active");
+    assertThat(property.getReadMethod().getName(), is("isActive"));
+    assertThat(property.getWriteMethod(), is(notNullValue()));
+    Property wrapper = BeanPropertyScanner.scan(BooleanBean.class).get("enabled");
+    assertThat(wrapper.getReadMethod(), is(nullValue()));
+  }
+
+
+  @Test
+  public void shouldRequireWriteMethodToMatchReadMethod() {
+    Property property = BeanPropertyScanner.scan(MixedBean.class).get("name");
+    assertThat(property.getWriteMethod().getParameterTypes()[0], is((Object) String.class));
+    property = BeanPropertyScanner.scan(WideSetterBean.class).get("number");
+    assertThat(property.getWriteMethod(), is(nullValue()));
+    property = BeanPropertyScanner.scan(NarrowSetterBean.class).get("number");
+    assertThat(property.getWriteMethod().getParameterTypes()[0], is((Object) Integer.class));
+    assertThat(property.getPropertyType(), is((Object) Number.class));
+  }
+
+
+  @Test
+  public void shouldRetainWriteMethodWhenReadMethodIsNarrowed() {
+    Property property = BeanPropertyScanner.scan(CovariantChild.class).get("number");
+    assertThat(property.getReadMethod().getReturnType(), is((Object) Integer.class));
+    assertThat(property.getWriteMethod().getDeclaringClass(), is((Object) CovariantBase.class));
+    assertThat(property.getPropertyType(), is((Object) Number.class));
+    property = BeanPropertyScanner.scan(WriteOnlyChild.class).get("number");
+    assertThat(property.getWriteMethod(), is(nullValue()));
+  }
+
+
+  @Test
+  public void shouldResolveGenericAccessors() {
+    Property property = BeanPropertyScanner.scan(GenericChild.class).get("value");
+    assertThat(property.getPropertyType(), is((Object) Integer.class));
+    assertThat(Objects.requireNonNull(property.getWriteMethod()).getDeclaringClass(), is((Object) GenericChild.class));
+  }
+
+}
@@ -21,6 +21,7 @@
 package org.meanbean.bean.info;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import org.junit.Test;
 
@@ -38,6 +39,38 @@ public class JavaBeanInformationFactoryTest {
   }
 
 
+  @Test
+  public void shouldIntrospectEachClassOnlyOnce() throws Exception {
+    // Given
+    class LocalBean {
+
+      public String getName() {
+        return "name";
+      }
+
+    }
+    BeanInformation first = new JavaBeanInformationFactory().create(LocalBean.class);
+    long misses = JavaBeanInformationFactory.getCacheMisses();
+    long hits = JavaBeanInformationFactory.getCacheHits();
+    // When
+    BeanInformation second = new JavaBeanInformationFactory().create(LocalBean.class);
+    // Then
+    assertSame("BeanInformation should be shared.", first, second);
+    assertEquals("Bean should not be introspected again.", misses, JavaBeanInformationFactory.getCacheMisses());
+    assertEquals("Second request should be a cache hit.", hits + 1, JavaBeanInformationFactory.getCacheHits());
+  }
+
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void shouldPreventModificationOfSharedInformation() throws Exception {
+    // Given
+    BeanInformation beanInformation = new JavaBeanInformationFactory().create(PropertyInformationBean.class);
+    // When
+    beanInformation.getProperties().clear();
+    // Then - throws UnsupportedOperationException
+  }
+
+
   @Test(expected = IllegalArgumentException.class)
   public void shouldPreventNullBeanClass() throws Exception {
     // Given
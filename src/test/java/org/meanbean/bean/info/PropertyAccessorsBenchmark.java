@@ -0,0 +1,108 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.meanbean.bean.info.PropertyDescriptorPropertyInformation.ReadMethodAdapter;
+import org.meanbean.bean.info.PropertyDescriptorPropertyInformation.WriteMethodAdapter;
+import org.meanbean.bean.info.PropertyAccessorsTest.PublicBean;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares reading and writing a primitive property through a cached compiled adapter against the previous approach of creating a new
+ * adapter and calling {@link Method#invoke} for every access.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PropertyAccessorsBenchmark {
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(PropertyAccessorsBenchmark.class.getSimpleName()).build()).run();
+  }
+
+
+  private final PublicBean bean = new PublicBean();
+
+  private Method getter;
+
+  private ReadMethodAdapter reader;
+
+  private Method setter;
+
+  private Long value = 42L;
+
+  private WriteMethodAdapter writer;
+
+
+  @Benchmark
+  public Object readCompiled() throws Exception {
+    return reader.invoke(bean);
+  }
+
+
+  @Benchmark
+  public Object readReflective() throws Exception {
+    getter.setAccessible(true);
+    return getter.invoke(bean);
+  }
+
+
+  @Setup
+  public void setUp() throws Exception {
+    getter = PublicBean.class.getMethod("getCount");
+    setter = PublicBean.class.getMethod("setCount", long.class);
+    reader = new ReadMethodAdapter(getter);
+    writer = new WriteMethodAdapter(setter);
+  }
+
+
+  @Benchmark
+  public Object writeCompiled() throws Exception {
+    return writer.invoke(bean, value);
+  }
+
+
+  @Benchmark
+  public Object writeReflective() throws Exception {
+    setter.setAccessible(true);
+    setter.invoke(bean, value);
+    return bean;
+  }
+
+}
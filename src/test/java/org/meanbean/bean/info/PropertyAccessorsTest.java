@@ -0,0 +1,196 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.InvocationTargetException;
+
+import org.junit.Test;
+import org.meanbean.bean.info.PropertyDescriptorPropertyInformation.ReadMethodAdapter;
+import org.meanbean.bean.info.PropertyDescriptorPropertyInformation.WriteMethodAdapter;
+import org.meanbean.test.beans.FluentPropertyBean;
+
+public class PropertyAccessorsTest {
+
+  public static class PrimitiveBean {
+
+    public boolean getBoolean() {
+      return true;
+    }
+
+
+    public byte getByte() {
+      return -3;
+    }
+
+
+    public char getChar() {
+      return '\uffff';
+    }
+
+
+    public double getDouble() {
+      return Double.NaN;
+    }
+
+
+    public float getFloat() {
+      return -0.0f;
+    }
+
+  }
+
+
+
+  public static class PublicBean {
+
+    private long count;
+
+
+    public long getCount() {
+      return count;
+    }
+
+
+    public String getFailure() {
+      throw new IllegalStateException("failure");
+    }
+
+
+    public void setCount(long count) {
+      this.count = count;
+    }
+
+  }
+
+
+
+  static class PrivateBean {
+
+    private int count;
+
+
+    public int getCount() {
+      return count;
+    }
+
+
+    public void setCount(int count) {
+      this.count = count;
+    }
+
+  }
+
+
+  @Test
+  public void fluentSetterShouldReturnTarget() throws Exception {
+    FluentPropertyBean bean = new FluentPropertyBean();
+    WriteMethodAdapter adapter = new WriteMethodAdapter(FluentPropertyBean.class.getMethod("setData", String.class));
+
+    assertThat(adapter.invoke(bean, "value"), is(sameInstance(bean)));
+    assertThat(bean.getData(), is("value"));
+  }
+
+
+  @Test
+  public void nonPublicBeanShouldBeAccessed() throws Exception {
+    PrivateBean bean = new PrivateBean();
+    ReadMethodAdapter reader = new ReadMethodAdapter(PrivateBean.class.getMethod("getCount"));
+    WriteMethodAdapter writer = new WriteMethodAdapter(PrivateBean.class.getMethod("setCount", int.class));
+
+    writer.invoke(bean, 5);
+
+    assertThat(reader.invoke(bean), is(5));
+  }
+
+
+  @Test
+  public void publicBeanShouldBeAccessed() throws Exception {
+    PublicBean bean = new PublicBean();
+    ReadMethodAdapter reader = new ReadMethodAdapter(PublicBean.class.getMethod("getCount"));
+    WriteMethodAdapter writer = new WriteMethodAdapter(PublicBean.class.getMethod("setCount", long.class));
+
+    writer.invoke(bean, 7L);
+
+    assertThat(reader.invoke(bean), is(7L));
+  }
+
+
+  @Test
+  public void setterShouldWidenPrimitives() throws Exception {
+    PublicBean bean = new PublicBean();
+    WriteMethodAdapter writer = new WriteMethodAdapter(PublicBean.class.getMethod("setCount", long.class));
+
+    writer.invoke(bean, 3);
+
+    assertThat(bean.getCount(), is(3L));
+  }
+
+
+  @Test
+  public void primitiveShouldBeReadAsBits() throws Exception {
+    PrimitiveBean bean = new PrimitiveBean();
+
+    assertThat(new ReadMethodAdapter(PrimitiveBean.class.getMethod("getBoolean")).invokeAsBits(bean), is(1L));
+    assertThat(new ReadMethodAdapter(PrimitiveBean.class.getMethod("getByte")).invokeAsBits(bean), is(-3L));
+    assertThat(new ReadMethodAdapter(PrimitiveBean.class.getMethod("getChar")).invokeAsBits(bean), is(0xffffL));
+    assertThat(new ReadMethodAdapter(PrimitiveBean.class.getMethod("getDouble")).invokeAsBits(bean),
+        is(Double.doubleToLongBits(Double.NaN)));
+    assertThat(new ReadMethodAdapter(PrimitiveBean.class.getMethod("getFloat")).invokeAsBits(bean),
+        is((long) Float.floatToIntBits(-0.0f)));
+  }
+
+
+  @Test
+  public void nonPublicPrimitiveShouldBeReadAsBits() throws Exception {
+    PrivateBean bean = new PrivateBean();
+    bean.setCount(-9);
+
+    assertThat(new ReadMethodAdapter(PrivateBean.class.getMethod("getCount")).invokeAsBits(bean), is(-9L));
+  }
+
+
+  @Test(expected = IllegalArgumentException.class)
+  public void setterShouldRejectNullPrimitive() throws Exception {
+    WriteMethodAdapter writer = new WriteMethodAdapter(PublicBean.class.getMethod("setCount", long.class));
+
+    writer.invoke(new PublicBean(), null);
+  }
+
+
+  @Test
+  public void exceptionsShouldBeWrapped() throws Exception {
+    ReadMethodAdapter reader = new ReadMethodAdapter(PublicBean.class.getMethod("getFailure"));
+
+    try {
+      reader.invoke(new PublicBean());
+      fail("Expected InvocationTargetException");
+    } catch (InvocationTargetException e) {
+      assertThat(e.getCause(), is(instanceOf(IllegalStateException.class)));
+    }
+  }
+
+}
@@ -23,6 +23,7 @@ package org.meanbean.bean.info;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertEquals;
 
 import java.beans.IntrospectionException;
@@ -113,6 +114,17 @@ public class PropertyDescriptorPropertyInformationTest {
   }
 
 
+  @Test
+  public void getReadMethodShouldReuseAdapter() throws Exception {
+    PropertyDescriptorPropertyInformation propertyInformation =
+        new PropertyDescriptorPropertyInformation(propertyDescriptor);
+    assertThat("Property read method should be reused.", propertyInformation.getReadMethod(),
+        is(sameInstance(propertyInformation.getReadMethod())));
+    assertThat("Property write method should be reused.", propertyInformation.getWriteMethod(),
+        is(sameInstance(propertyInformation.getWriteMethod())));
+  }
+
+
   @Test
   public void constructorShouldSetReadMethodEvenWhenNull() throws Exception {
     PropertyDescriptor propertyDescriptor = new PropertyDescriptor(PROPERTY_NAME, null, writeMethod);
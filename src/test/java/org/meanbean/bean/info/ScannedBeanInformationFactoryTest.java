@@ -0,0 +1,74 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.bean.info;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+public class ScannedBeanInformationFactoryTest {
+
+  @Test
+  public void shouldCreateCorrectBeanInformation() throws Exception {
+    // Given
+    ScannedBeanInformationFactory factory = new ScannedBeanInformationFactory();
+    // When
+    BeanInformation beanInformation = factory.create(PropertyInformationBean.class);
+    // Then
+    assertEquals("Incorrect BeanInformation.", PropertyInformationBean.class, beanInformation.getBeanClass());
+    assertEquals("Incorrect properties.", new JavaBeanInformation(PropertyInformationBean.class).getPropertyNames().size(),
+        beanInformation.getPropertyNames().size());
+  }
+
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldPreventNullBeanClass() throws Exception {
+    // Given
+    ScannedBeanInformationFactory factory = new ScannedBeanInformationFactory();
+    // When
+    factory.create(null);
+    // Then - throws IllegalArgumentException
+  }
+
+
+  @Test
+  public void shouldScanEachClassOnlyOnce() throws Exception {
+    // Given
+    class LocalBean {
+
+      public String getName() {
+        return "name";
+      }
+
+    }
+    BeanInformation first = new ScannedBeanInformationFactory().create(LocalBean.class);
+    long misses = ScannedBeanInformationFactory.getCacheMisses();
+    long hits = ScannedBeanInformationFactory.getCacheHits();
+    // When
+    BeanInformation second = new ScannedBeanInformationFactory().create(LocalBean.class);
+    // Then
+    assertSame("BeanInformation should be shared.", first, second);
+    assertEquals("Bean should not be scanned again.", misses, ScannedBeanInformationFactory.getCacheMisses());
+    assertEquals("Second request should be a cache hit.", hits + 1, ScannedBeanInformationFactory.getCacheHits());
+  }
+
+}
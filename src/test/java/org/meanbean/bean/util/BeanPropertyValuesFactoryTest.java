@@ -27,7 +27,11 @@ import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.util.Map;
 
@@ -37,6 +41,7 @@ import org.junit.runner.RunWith;
 import org.meanbean.bean.info.BeanInformation;
 import org.meanbean.bean.info.BeanInformationFactory;
 import org.meanbean.bean.info.JavaBeanInformationFactory;
+import org.meanbean.bean.info.PropertyInformation;
 import org.meanbean.factories.ObjectCreationException;
 import org.meanbean.factories.basic.LongFactory;
 import org.meanbean.factories.util.BasicFactoryLookupStrategy;
@@ -128,6 +133,18 @@ public class BeanPropertyValuesFactoryTest {
   }
 
 
+  @Test
+  public void createShouldLookUpFactoriesOnce() throws Exception {
+    FactoryLookupStrategy factoryLookupStrategy = spy(factoryLookupStrategyReal);
+    BeanPropertyValuesFactory beanPropertyValuesFactory =
+        new BeanPropertyValuesFactory(complexBeanInformationReal, factoryLookupStrategy, newConfiguration());
+    beanPropertyValuesFactory.create();
+    beanPropertyValuesFactory.create();
+    verify(factoryLookupStrategy, times(5))
+        .getFactory(any(BeanInformation.class), any(PropertyInformation.class), any(Configuration.class));
+  }
+
+
   @Test
   public void createShouldReturnNewMapEachInvocation() throws Exception {
     BeanPropertyValuesFactory beanPropertyValuesFactory =
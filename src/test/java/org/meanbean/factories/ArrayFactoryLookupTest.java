@@ -22,6 +22,9 @@ package org.meanbean.factories;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.Array;
 
 import java.util.UUID;
 
@@ -66,6 +69,51 @@ public class ArrayFactoryLookupTest {
   }
 
 
+  @Test
+  public void getFactoryForPrimitiveArrays() throws Exception {
+    Class<?>[] arrayTypes = {
+        boolean[].class, byte[].class, char[].class, short[].class, int[].class, long[].class, float[].class, double[].class
+    };
+    for (Class<?> arrayType : arrayTypes) {
+      Object array = arrayFactoryCollection.getFactory(arrayType).create();
+      assertThat(array)
+          .isInstanceOf(arrayType);
+    }
+  }
+
+
+  @Test
+  public void getFactoryHonoursLengthDistribution() throws Exception {
+    arrayFactoryCollection.setLengthDistribution(random -> 100 + random.nextInt(10));
+    for (Class<?> arrayType : new Class<?>[]{byte[].class, int[].class, short[].class, String[].class}) {
+      Object array = arrayFactoryCollection.getFactory(arrayType).create();
+      assertThat(Array.getLength(array))
+          .isBetween(100, 109);
+    }
+  }
+
+
+  @Test
+  public void getFactoryHonoursRegisteredComponentFactory() throws Exception {
+    FactoryCollection.getInstance().addFactory(int.class, () -> 42);
+    arrayFactoryCollection.setLengthDistribution(random -> 5);
+    Factory<int[]> factory = arrayFactoryCollection.getFactory(int[].class);
+
+    assertThat(factory.create())
+        .containsOnly(42);
+  }
+
+
+  @Test
+  public void getFactoryRejectsNegativeLength() throws Exception {
+    arrayFactoryCollection.setLengthDistribution(random -> -1);
+    Factory<long[]> factory = arrayFactoryCollection.getFactory(long[].class);
+
+    assertThatThrownBy(factory::create)
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+
   @Test
   public void hasFactory() throws Exception {
     assertThat(arrayFactoryCollection.hasFactory(UUID[][].class))
@@ -25,6 +25,7 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.fail;
 
 import org.junit.Test;
 import org.meanbean.test.beans.Bean;
@@ -34,6 +35,16 @@ import org.meanbean.test.beans.PrivateConstructorObject;
 
 public class BasicNewObjectInstanceFactoryTest {
 
+  public static class FailingConstructorObject {
+
+    public FailingConstructorObject() {
+      throw new IllegalStateException("cannot construct");
+    }
+
+  }
+
+
+
   @Test(expected = IllegalArgumentException.class)
   public void constructorShouldPreventNullRandomNumberGenerator() throws Exception {
     new BasicNewObjectInstanceFactory(null);
@@ -63,6 +74,29 @@ public class BasicNewObjectInstanceFactoryTest {
   }
 
 
+  @Test
+  public void createShouldReturnInstanceOfClass() throws Exception {
+    Object createdObject = new BasicNewObjectInstanceFactory(Bean.class).create();
+    assertThat("Factory created wrong type.", createdObject.getClass(), is(sameInstance((Object) Bean.class)));
+  }
+
+
+  @Test
+  public void createShouldWrapExceptionThrownByConstructor() throws Exception {
+    BasicNewObjectInstanceFactory factory = new BasicNewObjectInstanceFactory(FailingConstructorObject.class);
+    for (int i = 0; i < 2; i++) {
+      try {
+        factory.create();
+        fail("Constructor exception was not reported.");
+      } catch (ObjectCreationException e) {
+        assertThat(e.getMessage(), is("Failed to instantiate object of type [" + FailingConstructorObject.class.getName()
+            + "] due to InvocationTargetException."));
+        assertThat(e.getCause().getCause().getMessage(), is("cannot construct"));
+      }
+    }
+  }
+
+
   @Test(expected = ObjectCreationException.class)
   public void createWillThrowObjectCreationExceptionWhenClassDoesNotHaveNoArgConstructor() throws Exception {
     new BasicNewObjectInstanceFactory(NonBean.class).create();
@@ -20,12 +20,76 @@
 
 package org.meanbean.factories;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
 import org.junit.Test;
+import org.meanbean.lang.Factory;
 import org.meanbean.test.BeanTester;
 import org.meanbean.test.beans.CollectionPropertyBean;
+import org.meanbean.util.ServiceFactory;
+import org.meanbean.util.Types;
 
 public class CollectionFactoryLookupTest {
 
+  public static class GraphBean {
+
+    private Map<String, List<Long[]>> graph;
+
+
+    public Map<String, List<Long[]>> getGraph() {
+      return graph;
+    }
+
+
+    public void setGraph(Map<String, List<Long[]>> graph) {
+      this.graph = graph;
+    }
+
+  }
+
+  private FactoryCollection factoryCollection;
+
+
+  private static Type listOfString() {
+    return Types.newParameterizedTypeWithOwner(null, List.class, String.class);
+  }
+
+
+  @Test
+  public void compiledFactoryIsReused() throws Exception {
+    Type graphType = GraphBean.class.getMethod("getGraph").getGenericReturnType();
+    Factory<?> factory = factoryCollection.getFactory(graphType);
+
+    assertThat(factoryCollection.<Object>getFactory(graphType)).isSameAs(factory);
+    assertThat(factoryCollection.<Object>getFactory(listOfString())).isSameAs(factoryCollection.getFactory(listOfString()));
+    assertThat(factory.create()).isInstanceOf(Map.class);
+  }
+
+
+  @Test
+  public void compiledFactoryUsesNewlyRegisteredFactories() {
+    Factory<List<String>> before = factoryCollection.getFactory(listOfString());
+    factoryCollection.addFactory(String.class, () -> "constant");
+    Factory<List<String>> after = factoryCollection.getFactory(listOfString());
+
+    assertThat(after).isNotSameAs(before);
+    for (int i = 0; i < 10; i++) {
+      assertThat(after.create()).allMatch("constant"::equals);
+    }
+  }
+
+
+  @Before
+  public void setUp() {
+    ServiceFactory.createContext(this);
+    factoryCollection = FactoryCollection.getInstance();
+  }
+
   @Test
   public void test() throws Exception {
     BeanTester tester = new BeanTester();
@@ -0,0 +1,83 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.factories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.meanbean.lang.Factory;
+import org.meanbean.util.ServiceFactory;
+
+public class CompiledFactoriesTest {
+
+  private final CompiledFactories compiledFactories = new CompiledFactories();
+
+
+  @Before
+  public void setUp() {
+    ServiceFactory.createContext(this);
+  }
+
+
+  @Test
+  public void factoryIsRemembered() {
+    AtomicInteger compiled = new AtomicInteger();
+    Factory<?> first = compiledFactories.get(String.class, type -> {
+      compiled.incrementAndGet();
+      return () -> "first";
+    });
+    Factory<?> second = compiledFactories.get(String.class, type -> {
+      compiled.incrementAndGet();
+      return () -> "second";
+    });
+
+    assertThat(second).isSameAs(first);
+    assertThat(compiled.get()).isEqualTo(1);
+  }
+
+
+  @Test
+  public void factoryCompiledBeforeChangeIsNotRemembered() {
+    Factory<?> stale = compiledFactories.get(String.class, type -> {
+      // The collection changes, and another lookup sees the change, while this factory is being compiled
+      FactoryCollection.getInstance().addFactory(Integer.class, () -> 1);
+      compiledFactories.get(Long.class, other -> () -> 2L);
+      return () -> "stale";
+    });
+    Factory<?> fresh = compiledFactories.get(String.class, type -> () -> "fresh");
+
+    assertThat(stale.create()).isEqualTo("stale");
+    assertThat(fresh.create()).isEqualTo("fresh");
+  }
+
+
+  @Test
+  public void factoriesAreDiscardedWhenCollectionChanges() {
+    compiledFactories.get(String.class, type -> () -> "old");
+    FactoryCollection.getInstance().addFactory(Integer.class, () -> 1);
+
+    assertThat(compiledFactories.get(String.class, type -> () -> "new").create()).isEqualTo("new");
+  }
+
+}
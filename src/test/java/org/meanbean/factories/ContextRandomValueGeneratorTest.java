@@ -0,0 +1,60 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.factories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.After;
+import org.junit.Test;
+import org.meanbean.util.RandomValueGenerator;
+import org.meanbean.util.ServiceFactory;
+
+public class ContextRandomValueGeneratorTest {
+
+  private final RandomValueGenerator fallback = mock(RandomValueGenerator.class);
+
+
+  @After
+  public void tearDown() {
+    ServiceFactory.clear();
+  }
+
+
+  @Test
+  public void currentContextGeneratorIsUsed() {
+    ServiceFactory.createContext(this);
+    new ContextRandomValueGenerator(fallback).nextInt();
+    verify(fallback, never()).nextInt();
+  }
+
+
+  @Test
+  public void fallbackIsUsedOutsideContext() {
+    ServiceFactory.clear();
+    when(fallback.nextInt()).thenReturn(42);
+    assertThat(new ContextRandomValueGenerator(fallback).nextInt()).isEqualTo(42);
+  }
+
+}
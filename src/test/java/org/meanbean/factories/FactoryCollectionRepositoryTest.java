@@ -0,0 +1,96 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.factories;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.lang.reflect.Type;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.meanbean.factories.basic.StringFactory;
+import org.meanbean.lang.Factory;
+import org.meanbean.util.ServiceFactory;
+
+public class FactoryCollectionRepositoryTest {
+
+  public static class Thing {
+
+  }
+
+  private FactoryCollectionRepository repository;
+
+
+  @Test
+  public void addFactoryIsSeenByLaterLookups() {
+    assertThat(repository.hasFactory(Thing.class)).isFalse();
+    long count = repository.getModificationCount();
+
+    Factory<Thing> factory = Thing::new;
+    repository.addFactory(Thing.class, factory);
+
+    assertThat(repository.getModificationCount()).isNotEqualTo(count);
+    assertThat(repository.hasFactory(Thing.class)).isTrue();
+    assertThat(repository.<Thing>getFactory(Thing.class)).isSameAs(factory);
+  }
+
+
+  @Test
+  public void addFactoryLookupTakesPrecedence() {
+    assertThat(repository.getFactory(String.class)).isInstanceOf(StringFactory.class);
+    long count = repository.getModificationCount();
+
+    Factory<String> factory = () -> "constant";
+    repository.addFactoryLookup(new FactoryLookup() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public <T> Factory<T> getFactory(Type type) {
+        return (Factory<T>) factory;
+      }
+
+
+      @Override
+      public boolean hasFactory(Type type) {
+        return type == String.class;
+      }
+    });
+
+    assertThat(repository.getModificationCount()).isNotEqualTo(count);
+    assertThat(repository.<String>getFactory(String.class)).isSameAs(factory);
+  }
+
+
+  @Test
+  public void getFactoryForUnknownTypeFails() {
+    assertThat(repository.hasFactory(Thing.class)).isFalse();
+    assertThatThrownBy(() -> repository.getFactory(Thing.class))
+        .isInstanceOf(NoSuchFactoryException.class);
+  }
+
+
+  @Before
+  public void setUp() {
+    ServiceFactory.createContext(this);
+    repository = (FactoryCollectionRepository) FactoryCollection.getInstance();
+  }
+
+}
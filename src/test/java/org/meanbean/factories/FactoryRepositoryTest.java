@@ -23,7 +23,9 @@ package org.meanbean.factories;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 
 import java.lang.reflect.Type;
 import java.util.Map;
@@ -104,6 +106,28 @@ public class FactoryRepositoryTest {
   }
 
 
+  @Test
+  public void addFactoryShouldNotAffectOtherRepositories() throws Exception {
+    Factory<String> overrideFactory = () -> "override";
+    factoryRepository.addFactory(String.class, overrideFactory);
+    factoryRepository.addFactory(RegisteredTestClass.class, new RegisteredFactory());
+
+    FactoryRepository other = new FactoryRepository();
+    assertThat("Override leaked into other repository.", other.getFactory(String.class), is(not(sameInstance(overrideFactory))));
+    assertThat("Factory leaked into other repository.", other.hasFactory(RegisteredTestClass.class), is(false));
+    assertThat("Override not used.", factoryRepository.getFactory(String.class), is(sameInstance(overrideFactory)));
+  }
+
+
+  @Test
+  public void constructorShouldShareFactoriesRegisteredByPlugins() throws Exception {
+    FactoryRepository other = new FactoryRepository();
+    assertThat("Plugin factories should be shared.", other.getFactory(String.class),
+        is(sameInstance(factoryRepository.getFactory(String.class)))
+    );
+  }
+
+
   @Test
   public void constructorShouldRegisterObjectFactoriesWithFactoryRepository() throws Exception {
     for (Class<?> clazz : ObjectFactoryPluginTest.FACTORY_CLASSES) {
@@ -55,4 +55,17 @@ public class ByteFactoryTest extends BasicFactoryTestBase<Byte> {
     assertThat("Incorrect random Byte.", factory.create(), is(RANDOM_BYTE_2));
   }
 
+
+  @Test
+  public void createBatchShouldUnpackBytesFromLongs() throws Exception {
+    RandomValueGenerator generator = new ArrayBasedRandomValueGenerator(null, null,
+        new long[]{0x0807060504030201L, 0x09L}, null, null, null
+    );
+    Object[] values = new Object[9];
+    new ByteFactory(generator).createBatch(9, values);
+    for (int i = 0; i < 9; i++) {
+      assertThat("Incorrect random Byte.", values[i], is((Object) (byte) (i + 1)));
+    }
+  }
+
 }
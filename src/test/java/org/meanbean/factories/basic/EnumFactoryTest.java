@@ -98,9 +98,9 @@ public class EnumFactoryTest extends BasicFactoryTestBase<Enum<?>> {
 
   @Test
   public void createShouldReturnEachEnum() throws Exception {
-    double RED_DOUBLE = 1.0 / Color.values().length;
-    double GREEN_DOUBLE = 2.0 / Color.values().length;
-    double BLUE_DOUBLE = 3.0 / Color.values().length;
+    double RED_DOUBLE = 0.0;
+    double GREEN_DOUBLE = 1.0 / Color.values().length;
+    double BLUE_DOUBLE = 2.0 / Color.values().length;
     RandomValueGenerator randomValueGenerator =
         new ArrayBasedRandomValueGenerator(null, null, null, null, new double[]{
             RED_DOUBLE, GREEN_DOUBLE,
@@ -113,6 +113,12 @@ public class EnumFactoryTest extends BasicFactoryTestBase<Enum<?>> {
   }
 
 
+  @Test
+  public void domainSizeShouldBeNumberOfConstants() throws Exception {
+    assertThat(createFactory(createRandomNumberGenerator()).getDomainSize(), is(Color.values().length));
+  }
+
+
   @Test
   public void verifyBean() {
     forClass(ColorModel.class).verifyGettersAndSetters();
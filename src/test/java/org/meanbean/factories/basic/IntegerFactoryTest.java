@@ -21,6 +21,7 @@
 package org.meanbean.factories.basic;
 
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertThat;
 
 import org.junit.Test;
@@ -55,4 +56,15 @@ public class IntegerFactoryTest extends BasicFactoryTestBase<Integer> {
     assertThat("Incorrect random Integer.", factory.create(), is(RANDOM_INT_2));
   }
 
+
+  @Test
+  public void createBatchShouldReturnExpectedIntegers() throws Exception {
+    Factory<Integer> factory = createFactory(createRandomNumberGenerator());
+    Object[] values = new Object[3];
+    factory.createBatch(2, values);
+    assertThat("Incorrect random Integer.", values[0], is(RANDOM_INT_1));
+    assertThat("Incorrect random Integer.", values[1], is(RANDOM_INT_2));
+    assertThat("Value beyond batch should be untouched.", values[2], is(nullValue()));
+  }
+
 }
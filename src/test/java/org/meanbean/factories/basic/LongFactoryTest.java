@@ -55,4 +55,14 @@ public class LongFactoryTest extends BasicFactoryTestBase<Long> {
     assertThat("Incorrect random Long.", factory.create(), is(RANDOM_LONG_2));
   }
 
+
+  @Test
+  public void createBatchShouldReturnExpectedLongs() throws Exception {
+    Factory<Long> factory = createFactory(createRandomNumberGenerator());
+    Object[] values = new Object[2];
+    factory.createBatch(2, values);
+    assertThat("Incorrect random Long.", values[0], is(RANDOM_LONG_1));
+    assertThat("Incorrect random Long.", values[1], is(RANDOM_LONG_2));
+  }
+
 }
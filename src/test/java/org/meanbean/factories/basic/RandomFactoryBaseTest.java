@@ -24,6 +24,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
 
 import org.junit.Test;
 import org.meanbean.util.RandomValueGenerator;
@@ -59,4 +60,22 @@ public class RandomFactoryBaseTest {
     assertThat("RandomNumberGenerator should not be null.", factory.getRandomValueGenerator(), is(not(nullValue())));
   }
 
+
+  @Test
+  public void intBufferShouldBeReusedForSameLength() throws Exception {
+    int[] buffer = RandomFactoryBase.intBuffer(5);
+    assertThat(buffer.length, is(5));
+    assertThat(RandomFactoryBase.intBuffer(5), is(sameInstance(buffer)));
+    assertThat(RandomFactoryBase.intBuffer(3).length, is(3));
+  }
+
+
+  @Test
+  public void longBufferShouldBeReusedForSameLength() throws Exception {
+    long[] buffer = RandomFactoryBase.longBuffer(5);
+    assertThat(buffer.length, is(5));
+    assertThat(RandomFactoryBase.longBuffer(5), is(sameInstance(buffer)));
+    assertThat(RandomFactoryBase.longBuffer(3).length, is(3));
+  }
+
 }
@@ -51,6 +51,80 @@ import org.mockito.runners.MockitoJUnitRunner;
 @RunWith(MockitoJUnitRunner.class)
 public class EquivalentPopulatedBeanFactoryTest {
 
+  public static class CloneableBean implements Cloneable {
+
+    private boolean copy;
+
+    private String name;
+
+
+    @Override
+    public CloneableBean clone() {
+      try {
+        CloneableBean clone = (CloneableBean) super.clone();
+        clone.copy = true;
+        return clone;
+      } catch (CloneNotSupportedException e) {
+        throw new AssertionError(e);
+      }
+    }
+
+
+    public String getName() {
+      return name;
+    }
+
+
+    public boolean isCopy() {
+      return copy;
+    }
+
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+  }
+
+
+
+  public static class CopyableBean {
+
+    private final boolean copy;
+
+    private String name;
+
+
+    public CopyableBean() {
+      copy = false;
+    }
+
+
+    public CopyableBean(CopyableBean original) {
+      copy = true;
+      name = original.name;
+    }
+
+
+    public String getName() {
+      return name;
+    }
+
+
+    public boolean isCopy() {
+      return copy;
+    }
+
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+  }
+
+
+
+
   private static final String DATE_OF_BIRTH_KEY = "dateOfBirth";
 
   private static final String FAVOURITE_NUMBER_KEY = "favouriteNumber";
@@ -100,6 +174,34 @@ public class EquivalentPopulatedBeanFactoryTest {
   }
 
 
+  @Test
+  public void createShouldCloneTemplateWhenEnabled() throws Exception {
+    Configuration configuration = new ConfigurationBuilder().copyEquivalentBeans(true).build();
+    EquivalentPopulatedBeanFactory factory = new EquivalentPopulatedBeanFactory(new JavaBeanInformationFactory().create(CloneableBean.class),
+        factoryLookupStrategyReal, configuration
+    );
+    CloneableBean bean1 = (CloneableBean) factory.create();
+    CloneableBean bean2 = (CloneableBean) factory.create();
+    assertThat(bean1.isCopy(), is(true));
+    assertThat(bean1, is(not(sameInstance(bean2))));
+    assertThat(bean1.getName(), is(bean2.getName()));
+  }
+
+
+  @Test
+  public void createShouldCopyTemplateWhenEnabled() throws Exception {
+    Configuration configuration = new ConfigurationBuilder().copyEquivalentBeans(true).build();
+    EquivalentPopulatedBeanFactory factory = new EquivalentPopulatedBeanFactory(new JavaBeanInformationFactory().create(CopyableBean.class),
+        factoryLookupStrategyReal, configuration
+    );
+    CopyableBean bean1 = (CopyableBean) factory.create();
+    CopyableBean bean2 = (CopyableBean) factory.create();
+    assertThat(bean1.isCopy(), is(true));
+    assertThat(bean1, is(not(sameInstance(bean2))));
+    assertThat(bean1.getName(), is(bean2.getName()));
+  }
+
+
   @Test
   public void createShouldCreateLogicallyEquivalentObjects() throws Exception {
     EquivalentPopulatedBeanFactory factory =
@@ -112,6 +214,18 @@ public class EquivalentPopulatedBeanFactoryTest {
   }
 
 
+  @Test
+  public void createShouldNotCopyUnlessEnabled() throws Exception {
+    EquivalentPopulatedBeanFactory factory = newEquivalentPopulatedBeanFactory(new JavaBeanInformationFactory().create(CopyableBean.class),
+        factoryLookupStrategyReal
+    );
+    CopyableBean bean1 = (CopyableBean) factory.create();
+    CopyableBean bean2 = (CopyableBean) factory.create();
+    assertThat(bean1.isCopy(), is(false));
+    assertThat(bean1.getName(), is(bean2.getName()));
+  }
+
+
   @Test
   public void createShouldReturnNewObjectEachInvocation() throws Exception {
     EquivalentPopulatedBeanFactory factory = newEquivalentPopulatedBeanFactory(
@@ -0,0 +1,223 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.factories.beans;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.meanbean.bean.info.BeanInformationFactory;
+import org.meanbean.factories.FactoryCollection;
+import org.meanbean.factories.util.BasicFactoryLookupStrategy;
+import org.meanbean.factories.util.FactoryLookupStrategy;
+import org.meanbean.test.BeanVerifier;
+import org.meanbean.test.Configuration;
+import org.meanbean.test.ConfigurationBuilder;
+import org.meanbean.test.beans.Bean;
+import org.meanbean.util.RandomValueGenerator;
+import org.meanbean.util.ServiceFactory;
+
+public class PopulatedBeanFactoryTest {
+
+  public static class Inner {
+
+    private String name;
+
+
+    public String getName() {
+      return name;
+    }
+
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+  }
+
+
+
+  public static class Left {
+
+    private Right right;
+
+
+    public Right getRight() {
+      return right;
+    }
+
+
+    public void setRight(Right right) {
+      this.right = right;
+    }
+
+  }
+
+
+
+  public static class Middle {
+
+    private Inner inner;
+
+
+    public Inner getInner() {
+      return inner;
+    }
+
+
+    public void setInner(Inner inner) {
+      this.inner = inner;
+    }
+
+  }
+
+
+
+  public static class Outer {
+
+    private Middle middle;
+
+
+    public Middle getMiddle() {
+      return middle;
+    }
+
+
+    public void setMiddle(Middle middle) {
+      this.middle = middle;
+    }
+
+  }
+
+
+
+  public static class Pair {
+
+    private Bean first;
+
+    private Bean second;
+
+
+    public Bean getFirst() {
+      return first;
+    }
+
+
+    public Bean getSecond() {
+      return second;
+    }
+
+
+    public void setFirst(Bean first) {
+      this.first = first;
+    }
+
+
+    public void setSecond(Bean second) {
+      this.second = second;
+    }
+
+  }
+
+
+
+  public static class Right {
+
+    private Left left;
+
+
+    public Left getLeft() {
+      return left;
+    }
+
+
+    public void setLeft(Left left) {
+      this.left = left;
+    }
+
+  }
+
+
+
+  private FactoryLookupStrategy factoryLookupStrategy;
+
+
+  private Object create(Class<?> beanClass, Configuration configuration) {
+    return new PopulatedBeanFactory(BeanInformationFactory.getInstance().create(beanClass), factoryLookupStrategy, configuration).create();
+  }
+
+
+  @Test
+  public void createDetachedIsNotCutOffByCurrentGraph() {
+    Configuration configuration = new ConfigurationBuilder().build();
+    PopulatedBeanFactory factory =
+        new PopulatedBeanFactory(BeanInformationFactory.getInstance().create(Left.class), factoryLookupStrategy, configuration);
+
+    // Within a graph which is generating a Left, another Left is cut off
+    assertThat(BeanGraph.create(Left.class, configuration, factory::create)).isNull();
+    assertThat(BeanGraph.create(Left.class, configuration, factory::createDetached)).isInstanceOf(Left.class);
+  }
+
+
+  @Test
+  public void graphDepthIsLimited() {
+    Outer outer = (Outer) create(Outer.class, new ConfigurationBuilder().maxGraphDepth(2).build());
+    assertThat(outer.getMiddle()).isNotNull();
+    assertThat(outer.getMiddle().getInner()).isNull();
+
+    outer = (Outer) create(Outer.class, new ConfigurationBuilder().build());
+    assertThat(outer.getMiddle().getInner()).isNotNull();
+  }
+
+
+  @Test
+  public void graphObjectsAreLimited() {
+    Pair pair = (Pair) create(Pair.class, new ConfigurationBuilder().maxGraphObjects(2).build());
+    assertThat(pair.getFirst()).isNotNull();
+    assertThat(pair.getSecond()).isSameAs(pair.getFirst());
+
+    pair = (Pair) create(Pair.class, new ConfigurationBuilder().build());
+    assertThat(pair.getSecond()).isNotSameAs(pair.getFirst());
+  }
+
+
+  @Test
+  public void mutuallyRecursiveTypesAreCutOff() {
+    Left left = (Left) create(Left.class, new ConfigurationBuilder().build());
+    assertThat(left.getRight()).isNotNull();
+    assertThat(left.getRight().getLeft()).isNull();
+  }
+
+
+  @Test
+  public void mutuallyRecursiveTypesCanBeVerified() {
+    BeanVerifier.forClass(Left.class).verifyGettersAndSetters();
+    BeanVerifier.forClass(Right.class).verifyGettersAndSetters();
+  }
+
+
+  @Before
+  public void setUp() {
+    ServiceFactory.createContext(this);
+    factoryLookupStrategy = new BasicFactoryLookupStrategy(FactoryCollection.getInstance(), RandomValueGenerator.getInstance());
+  }
+
+}
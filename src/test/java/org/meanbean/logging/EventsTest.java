@@ -0,0 +1,84 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.logging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.Test;
+import org.meanbean.test.BeanVerifier;
+import org.meanbean.test.beans.Bean;
+import org.meanbean.util.ServiceFactory;
+
+public class EventsTest {
+
+  @Test
+  public void eventsAreNotCreatedWhenNotRecorded() {
+    assertThat($Events.propertyTest(Bean.class, "name")).isSameAs($Event.NONE);
+    assertThat($Events.equalsContract("reflexive")).isSameAs($Event.NONE);
+  }
+
+
+  @Test
+  public void eventsAreRecorded() throws Exception {
+    Path file = Files.createTempFile("meanbean", ".jfr");
+    try {
+      try (Recording recording = new Recording()) {
+        recording.enable("org.meanbean.BeanInformation");
+        recording.enable("org.meanbean.EqualsContract");
+        recording.enable("org.meanbean.FactoryLookup");
+        recording.enable("org.meanbean.PropertyTest");
+        recording.enable("org.meanbean.ServiceContext");
+        recording.enable("org.meanbean.SideEffectCheck");
+        recording.enable("org.meanbean.ValueCreation");
+        recording.start();
+        ServiceFactory.createContext(this);
+        BeanVerifier.forClass(Bean.class).verifyGettersAndSetters().verifyEqualsAndHashCode();
+        recording.stop();
+        recording.dump(file);
+      }
+
+      Set<String> names = RecordingFile.readAllEvents(file).stream()
+          .map(RecordedEvent::getEventType)
+          .map(type -> type.getName())
+          .collect(Collectors.toSet());
+      assertThat(names).contains(
+          "org.meanbean.BeanInformation",
+          "org.meanbean.EqualsContract",
+          "org.meanbean.FactoryLookup",
+          "org.meanbean.PropertyTest",
+          "org.meanbean.ServiceContext",
+          "org.meanbean.SideEffectCheck",
+          "org.meanbean.ValueCreation"
+      );
+    } finally {
+      Files.deleteIfExists(file);
+    }
+  }
+
+}
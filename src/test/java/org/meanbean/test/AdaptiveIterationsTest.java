@@ -0,0 +1,180 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.meanbean.factories.basic.BooleanFactory;
+import org.meanbean.lang.Factory;
+import org.meanbean.util.RandomValueGenerator;
+
+public class AdaptiveIterationsTest {
+
+  public enum Mode {
+    ON, OFF, AUTO
+  }
+
+
+
+  public static class NamedBean {
+
+    private String name;
+
+
+    public String getName() {
+      return name;
+    }
+
+
+    public void setName(String name) {
+      SETS.incrementAndGet();
+      this.name = name;
+    }
+
+  }
+
+
+
+  public static class SwitchBean {
+
+    private boolean enabled;
+
+    private Mode mode;
+
+
+    @Override
+    public boolean equals(Object o) {
+      if (!(o instanceof SwitchBean)) {
+        return false;
+      }
+      SwitchBean other = (SwitchBean) o;
+      return enabled == other.enabled && mode == other.mode;
+    }
+
+
+    public Mode getMode() {
+      return mode;
+    }
+
+
+    @Override
+    public int hashCode() {
+      return Boolean.hashCode(enabled) * 31 + (mode != null ? mode.hashCode() : 0);
+    }
+
+
+    public boolean isEnabled() {
+      return enabled;
+    }
+
+
+    public void setEnabled(boolean enabled) {
+      this.enabled = enabled;
+    }
+
+
+    public void setMode(Mode mode) {
+      SETS.incrementAndGet();
+      this.mode = mode;
+    }
+
+  }
+
+
+
+  static final AtomicInteger SETS = new AtomicInteger();
+
+
+  @Test
+  public void adaptiveTestOfSmallDomainsStopsEarly() {
+    BeanVerifier.forClass(SwitchBean.class)
+        .withSettings(settings -> settings.setAdaptiveIterations(true))
+        .verifyGettersAndSetters();
+
+    assertThat(SETS.get()).isGreaterThan(0).isLessThan(BeanTester.TEST_ITERATIONS_PER_BEAN / 2);
+  }
+
+
+  @Test
+  public void adaptiveTestOfUnboundedDomainRunsEveryIteration() {
+    BeanVerifier.forClass(NamedBean.class)
+        .withSettings(settings -> settings.setAdaptiveIterations(true))
+        .verifyGettersAndSetters();
+
+    assertThat(SETS.get()).isEqualTo(BeanTester.TEST_ITERATIONS_PER_BEAN);
+  }
+
+
+  @Test
+  public void adaptiveTestStopsAtIterations() {
+    BeanVerifier.forClass(SwitchBean.class)
+        .withSettings(settings -> settings.setDefaultIterations(3).setAdaptiveIterations(true).setCoverageConfidence(0.999999))
+        .verifyGettersAndSetters();
+
+    assertThat(SETS.get()).isEqualTo(3);
+  }
+
+
+  @Test
+  public void adaptiveEqualsTestStopsEarly() {
+    AtomicInteger created = new AtomicInteger();
+    BooleanFactory booleans = new BooleanFactory(RandomValueGenerator.getInstance());
+    Factory<Boolean> counting = new Factory<Boolean>() {
+      @Override
+      public Boolean create() {
+        created.incrementAndGet();
+        return booleans.create();
+      }
+
+
+      @Override
+      public int getDomainSize() {
+        return booleans.getDomainSize();
+      }
+    };
+
+    BeanVerifier.forClass(SwitchBean.class)
+        .withSettings(settings -> settings.addOverridePropertyFactory(SwitchBean::isEnabled, counting).setAdaptiveIterations(true))
+        .verifyEqualsAndHashCode();
+
+    assertThat(created.get()).isLessThan(BeanTester.TEST_ITERATIONS_PER_BEAN / 2);
+  }
+
+
+  @Test
+  public void fixedTestRunsEveryIteration() {
+    BeanVerifier.forClass(SwitchBean.class)
+        .verifyGettersAndSetters();
+
+    assertThat(SETS.get()).isEqualTo(BeanTester.TEST_ITERATIONS_PER_BEAN);
+  }
+
+
+  @Before
+  public void setUp() {
+    SETS.set(0);
+  }
+
+}
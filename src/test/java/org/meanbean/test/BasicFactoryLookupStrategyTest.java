@@ -21,7 +21,17 @@
 package org.meanbean.test;
 
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -31,6 +41,8 @@ import org.meanbean.bean.info.BeanInformationFactory;
 import org.meanbean.bean.info.JavaBeanInformationFactory;
 import org.meanbean.bean.info.PropertyInformationBean;
 import org.meanbean.factories.BasicNewObjectInstanceFactory;
+import org.meanbean.factories.FactoryCollection;
+import org.meanbean.factories.FactoryLookup;
 import org.meanbean.factories.FactoryRepository;
 import org.meanbean.factories.NoSuchFactoryException;
 import org.meanbean.factories.basic.EnumFactory;
@@ -38,9 +50,11 @@ import org.meanbean.factories.basic.StringFactory;
 import org.meanbean.factories.util.BasicFactoryLookupStrategy;
 import org.meanbean.factories.util.FactoryLookupStrategy;
 import org.meanbean.lang.Factory;
+import org.meanbean.test.beans.Bean;
 import org.meanbean.test.beans.NonBean;
 import org.meanbean.test.beans.NullFactory;
 import org.meanbean.util.RandomValueGenerator;
+import org.meanbean.util.ServiceFactory;
 import org.meanbean.util.SimpleRandomValueGenerator;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
@@ -62,6 +76,57 @@ public class BasicFactoryLookupStrategyTest {
 
   }
 
+
+
+  /** A bean whose constructor can be made to wait, so a test of its factory can be held in progress. */
+  public static class BlockingBean {
+
+    static final AtomicBoolean block = new AtomicBoolean();
+
+    static final CountDownLatch release = new CountDownLatch(1);
+
+    static final CountDownLatch started = new CountDownLatch(1);
+
+    private String name;
+
+
+    public BlockingBean() throws InterruptedException {
+      if (block.compareAndSet(true, false)) {
+        started.countDown();
+        release.await();
+      }
+    }
+
+
+    public String getName() {
+      return name;
+    }
+
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+  }
+
+
+
+  public static class NamedBean {
+
+    private String name;
+
+
+    public String getName() {
+      return name;
+    }
+
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+  }
+
   private final BeanInformationFactory beanInformationFactory = new JavaBeanInformationFactory();
 
   private final BeanInformation beanInformationReal = beanInformationFactory.create(BasicBean.class);
@@ -78,6 +143,7 @@ public class BasicFactoryLookupStrategyTest {
 
   @Before
   public void before() {
+    ServiceFactory.createContext(this);
     randomValueGenerator = new SimpleRandomValueGenerator();
     factoryCollection = new FactoryRepository();
     factoryLookupStrategy = new BasicFactoryLookupStrategy(factoryCollection, randomValueGenerator);
@@ -191,4 +257,162 @@ public class BasicFactoryLookupStrategyTest {
     factoryLookupStrategy.getFactory(beanInformationReal, propertyInformationBean, null);
   }
 
+
+
+  private NoSuchFactoryException getFailure(FactoryLookupStrategy strategy, PropertyInformationBean propertyInformationBean) {
+    try {
+      strategy.getFactory(beanInformationReal, propertyInformationBean, null);
+    } catch (NoSuchFactoryException e) {
+      return e;
+    }
+    fail("Expected NoSuchFactoryException");
+    return null;
+  }
+
+
+  @Test
+  public void getFactoryShouldEvictLeastRecentlyUsedResolution() throws Exception {
+    factoryLookupStrategy = new BasicFactoryLookupStrategy(factoryCollection, randomValueGenerator, 1);
+    PropertyInformationBean first = new PropertyInformationBean();
+    first.setName("first");
+    first.setReadMethodReturnType(NamedBean.class);
+    PropertyInformationBean second = new PropertyInformationBean();
+    second.setName("second");
+    // a different type, so the first type's shared template is also evicted
+    second.setReadMethodReturnType(Bean.class);
+
+    Configuration configuration = new ConfigurationBuilder().build();
+
+    Factory<?> factory = factoryLookupStrategy.getFactory(beanInformationReal, first, configuration);
+    factoryLookupStrategy.getFactory(beanInformationReal, second, configuration);
+    assertThat(factoryLookupStrategy.getFactory(beanInformationReal, first, configuration), is(not(sameInstance(factory))));
+  }
+
+
+  @Test
+  public void getFactoryShouldShareNestedBeanTemplates() throws Exception {
+    PropertyInformationBean first = new PropertyInformationBean();
+    first.setName("first");
+    first.setReadMethodReturnType(NamedBean.class);
+    PropertyInformationBean second = new PropertyInformationBean();
+    second.setName("second");
+    second.setReadMethodReturnType(NamedBean.class);
+
+    Configuration configuration = new ConfigurationBuilder().build();
+
+    Factory<?> factory = factoryLookupStrategy.getFactory(beanInformationReal, first, configuration);
+    assertThat(factoryLookupStrategy.getFactory(beanInformationReal, second, configuration), is(sameInstance(factory)));
+  }
+
+
+  @Test
+  public void getFactoryShouldForgetResolutionsWhenFactoryAdded() throws Exception {
+    PropertyInformationBean propertyInformationBean = new PropertyInformationBean();
+    propertyInformationBean.setName(IRRELEVANT_PROPERTY_NAME);
+    propertyInformationBean.setReadMethodReturnType(NonBean.class);
+    getFailure(factoryLookupStrategy, propertyInformationBean);
+
+    factoryCollection.addFactory(NonBean.class, new NullFactory());
+    Factory<?> factory = factoryLookupStrategy.getFactory(beanInformationReal, propertyInformationBean, null);
+    assertThat("Incorrect factory.", factory.getClass().getName(), is(NullFactory.class.getName()));
+  }
+
+
+  @Test
+  public void getFactoryShouldForgetResolutionsWhenFactoryLookupAdded() throws Exception {
+    FactoryCollection repository = FactoryCollection.getInstance();
+    factoryLookupStrategy = new BasicFactoryLookupStrategy(repository, randomValueGenerator);
+    PropertyInformationBean propertyInformationBean = new PropertyInformationBean();
+    propertyInformationBean.setName(IRRELEVANT_PROPERTY_NAME);
+    propertyInformationBean.setReadMethodReturnType(NonBean.class);
+    getFailure(factoryLookupStrategy, propertyInformationBean);
+
+    repository.addFactoryLookup(new FactoryLookup() {
+      @Override
+      @SuppressWarnings("unchecked")
+      public <T> Factory<T> getFactory(Type type) {
+        return (Factory<T>) new NullFactory();
+      }
+
+
+      @Override
+      public boolean hasFactory(Type type) {
+        return type == NonBean.class;
+      }
+    });
+    Factory<?> factory = factoryLookupStrategy.getFactory(beanInformationReal, propertyInformationBean, null);
+    assertThat("Incorrect factory.", factory.getClass().getName(), is(NullFactory.class.getName()));
+  }
+
+
+  @Test
+  public void getFactoryShouldRememberResolutionsWhenEnumFactoryRegistered() throws Exception {
+    PropertyInformationBean named = new PropertyInformationBean();
+    named.setName("named");
+    named.setReadMethodReturnType(NamedBean.class);
+    PropertyInformationBean color = new PropertyInformationBean();
+    color.setName("color");
+    color.setReadMethodReturnType(Color.class);
+    Configuration configuration = new ConfigurationBuilder().build();
+
+    Factory<?> factory = factoryLookupStrategy.getFactory(beanInformationReal, named, configuration);
+    factoryLookupStrategy.getFactory(beanInformationReal, color, configuration);
+    assertThat(factoryCollection.hasFactory(Color.class), is(true));
+    assertThat(factoryLookupStrategy.getFactory(beanInformationReal, named, configuration), is(sameInstance(factory)));
+  }
+
+
+  @Test
+  public void getFactoryShouldNotShareTemplateBeingTestedByAnotherThread() throws Exception {
+    PropertyInformationBean first = new PropertyInformationBean();
+    first.setName("first");
+    first.setReadMethodReturnType(BlockingBean.class);
+    PropertyInformationBean second = new PropertyInformationBean();
+    second.setName("second");
+    second.setReadMethodReturnType(BlockingBean.class);
+    Configuration configuration = new ConfigurationBuilder().build();
+
+    BlockingBean.block.set(true);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<Factory<?>> testing = executor.submit(() -> {
+        ServiceFactory.createContext(new Object());
+        return factoryLookupStrategy.getFactory(beanInformationReal, first, configuration);
+      });
+      BlockingBean.started.await();
+
+      // The first thread is still testing its template, so this thread must test its own
+      Factory<?> factory = factoryLookupStrategy.getFactory(beanInformationReal, second, configuration);
+      BlockingBean.release.countDown();
+      assertThat(testing.get(), is(not(sameInstance(factory))));
+    } finally {
+      BlockingBean.release.countDown();
+      executor.shutdown();
+    }
+  }
+
+
+  @Test
+  public void getFactoryShouldRememberFailures() throws Exception {
+    PropertyInformationBean propertyInformationBean = new PropertyInformationBean();
+    propertyInformationBean.setName(IRRELEVANT_PROPERTY_NAME);
+    propertyInformationBean.setReadMethodReturnType(NonBean.class);
+    NoSuchFactoryException failure = getFailure(factoryLookupStrategy, propertyInformationBean);
+    assertThat(getFailure(factoryLookupStrategy, propertyInformationBean), is(sameInstance(failure)));
+  }
+
+
+  @Test
+  public void getFactoryShouldRememberResolvedFactory() throws Exception {
+    PropertyInformationBean propertyInformationBean = new PropertyInformationBean();
+    propertyInformationBean.setName(IRRELEVANT_PROPERTY_NAME);
+    propertyInformationBean.setReadMethodReturnType(NamedBean.class);
+    Configuration configuration = new ConfigurationBuilder().build();
+    Factory<?> factory = factoryLookupStrategy.getFactory(beanInformationReal, propertyInformationBean, configuration);
+    assertThat(factoryLookupStrategy.getFactory(beanInformationReal, propertyInformationBean, configuration), is(sameInstance(factory)));
+    assertThat(factoryLookupStrategy.getFactory(beanInformationReal, propertyInformationBean, new ConfigurationBuilder().build()),
+        is(not(sameInstance(factory)))
+    );
+  }
+
 }
@@ -52,6 +52,17 @@ public class BeanTesterDualWritingBeanTest {
   }
 
 
+  @Test
+  public void testDualWriteSampledFails() {
+    thrown.expect(AssertionError.class);
+    thrown.expectMessage("Property [name] appears to have a side-effect on another property [title]");
+
+    BeanVerifier.forClass(DualWritingSetterBean.class)
+        .withSettings(settings -> settings.setSideEffectSampleSize(1))
+        .verifyGettersAndSetters();
+  }
+
+
   @Test
   public void testDualWriteSuppressed() {
     BeanVerifier.forClass(DualWritingSetterBean.class)
@@ -0,0 +1,143 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+import org.meanbean.test.beans.Bean;
+import org.meanbean.util.RandomValueGenerator;
+import org.meanbean.util.SeededRandomValueGenerator;
+
+public class BeanTesterSeedTest {
+
+  public static class OddBean {
+
+    private int value;
+
+
+    public int getValue() {
+      return value;
+    }
+
+
+    // drops the lowest bit of odd values
+    public void setValue(int value) {
+      this.value = value & ~1;
+    }
+
+  }
+
+  private static final Pattern REPLAY = Pattern.compile("with random seed (-?\\d+)\\. Set this seed and (\\d+) iterations");
+
+
+  @Test
+  public void failureCanBeReplayed() {
+    Throwable failure = catchThrowable(() -> BeanVerifier.forClass(OddBean.class)
+        .withSettings(settings -> settings.setDefaultIterations(1000))
+        .verifyGettersAndSetters());
+    assertThat(failure).isInstanceOf(AssertionError.class);
+
+    Matcher matcher = REPLAY.matcher(failure.getMessage());
+    assertThat(matcher.find()).isTrue();
+    long seed = Long.parseLong(matcher.group(1));
+    int iterations = Integer.parseInt(matcher.group(2));
+
+    Throwable replay = catchThrowable(() -> BeanVerifier.forClass(OddBean.class)
+        .withSettings(settings -> settings.setSeed(seed).setDefaultIterations(iterations))
+        .verifyGettersAndSetters());
+    assertThat(replay).hasMessage(failure.getMessage());
+  }
+
+
+  @Test
+  public void concurrentFailureCanBeReplayedSequentially() {
+    Throwable failure = catchThrowable(() -> BeanVerifier.forClass(OddBean.class)
+        .withSettings(settings -> settings.setDefaultIterations(1000).setIterationParallelism(4))
+        .verifyGettersAndSetters());
+    assertThat(failure).isInstanceOf(AssertionError.class);
+
+    Matcher matcher = REPLAY.matcher(failure.getMessage());
+    assertThat(matcher.find()).isTrue();
+    long seed = Long.parseLong(matcher.group(1));
+    int iterations = Integer.parseInt(matcher.group(2));
+
+    Throwable replay = catchThrowable(() -> BeanVerifier.forClass(OddBean.class)
+        .withSettings(settings -> settings.setSeed(seed).setDefaultIterations(iterations))
+        .verifyGettersAndSetters());
+    assertThat(replay).hasMessage(failure.getMessage());
+  }
+
+
+  @Test
+  public void concurrentIterationsPass() {
+    BeanVerifier.forClass(Bean.class)
+        .withSettings(settings -> settings.setDefaultIterations(1000).setIterationParallelism(4))
+        .verifyGettersAndSetters();
+  }
+
+
+  @Test
+  public void concurrentTestReportsSameFailureAsSequential() {
+    Throwable sequential = catchThrowable(() -> BeanVerifier.forClass(OddBean.class)
+        .withSettings(settings -> settings.setSeed(5L).setDefaultIterations(500))
+        .verifyGettersAndSetters());
+    Throwable concurrent = catchThrowable(() -> BeanVerifier.forClass(OddBean.class)
+        .withSettings(settings -> settings.setSeed(5L).setDefaultIterations(500).setIterationParallelism(4))
+        .verifyGettersAndSetters());
+
+    assertThat(sequential).isInstanceOf(AssertionError.class);
+    assertThat(concurrent).hasMessage(sequential.getMessage());
+  }
+
+
+  @Test
+  public void seededTestDoesNotChangeThreadValues() {
+    RandomValueGenerator random = new SeededRandomValueGenerator();
+    random.seed(3L);
+    long expected = random.nextLong();
+
+    random.seed(3L);
+    BeanVerifier.forClass(Bean.class)
+        .withSettings(settings -> settings.setSeed(5L).setDefaultIterations(10))
+        .verifyGettersAndSetters();
+    assertThat(random.nextLong()).isEqualTo(expected);
+  }
+
+
+  @Test
+  public void seededTestIsRepeatable() {
+    Throwable first = catchThrowable(() -> BeanVerifier.forClass(OddBean.class)
+        .withSettings(settings -> settings.setSeed(5L))
+        .verifyGettersAndSetters());
+    Throwable second = catchThrowable(() -> BeanVerifier.forClass(OddBean.class)
+        .withSettings(settings -> settings.setSeed(5L))
+        .verifyGettersAndSetters());
+
+    assertThat(first).isInstanceOf(AssertionError.class);
+    assertThat(second).hasMessage(first.getMessage());
+  }
+
+}
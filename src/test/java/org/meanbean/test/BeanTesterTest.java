@@ -25,8 +25,13 @@ import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.nullValue;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -34,7 +39,9 @@ import org.junit.runner.RunWith;
 import org.meanbean.bean.info.BeanInformation;
 import org.meanbean.bean.info.BeanInformationFactory;
 import org.meanbean.bean.info.JavaBeanInformationFactory;
+import org.meanbean.bean.info.PropertyInformation;
 import org.meanbean.factories.FactoryCollection;
+import org.meanbean.factories.util.FactoryLookupStrategy;
 import org.meanbean.lang.Factory;
 import org.meanbean.test.beans.ArrayPropertyBeanWithConstructor;
 import org.meanbean.test.beans.Bean;
@@ -196,6 +203,36 @@ public class BeanTesterTest {
   }
 
 
+  @Test
+  public void testBeanShouldLookUpFactoriesOncePerTest() throws Exception {
+    FactoryLookupStrategy factoryLookupStrategy = spy(FactoryLookupStrategy.getInstance());
+    BeanTester beanTester = new BeanTester(RandomValueGenerator.getInstance(), FactoryCollection.getInstance(), factoryLookupStrategy,
+        beanInformationFactory, new BeanPropertyTester(), Configuration.defaultConfigurationProvider(), 1);
+
+    beanTester.testBean(Bean.class);
+
+    verify(factoryLookupStrategy, times(1))
+        .getFactory(any(BeanInformation.class), any(PropertyInformation.class), any(Configuration.class));
+  }
+
+
+  @Test
+  public void testBeanShouldCallOverriddenIterationMethodOncePerIteration() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    BeanTester overridden = new BeanTester() {
+      @Override
+      protected void testBean(BeanInformation beanInformation, Configuration configuration) {
+        calls.incrementAndGet();
+        super.testBean(beanInformation, configuration);
+      }
+    };
+
+    overridden.testBean(Bean.class, new ConfigurationBuilder().iterations(7).build());
+
+    assertThat(calls.get(), is(7));
+  }
+
+
   @Test
   public void verifyCustomFactoriesFirst() {
     verifyCustomFactory();
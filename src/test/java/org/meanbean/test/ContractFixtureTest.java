@@ -0,0 +1,83 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.meanbean.lang.EquivalentFactory;
+import org.meanbean.test.beans.BeanFactory;
+import org.meanbean.test.beans.NullEquivalentFactory;
+
+public class ContractFixtureTest {
+
+  @Test
+  public void objectsAreCreatedOnce() {
+    AtomicInteger created = new AtomicInteger();
+    BeanFactory factory = new BeanFactory();
+    ContractFixture fixture = new ContractFixture(() -> {
+      created.incrementAndGet();
+      return factory.create();
+    });
+
+    Object x = fixture.getX("test");
+    assertThat(created.get()).isEqualTo(1);
+    Object y = fixture.getY("test");
+    Object z = fixture.getZ("test");
+    assertThat(created.get()).isEqualTo(3);
+
+    assertThat(fixture.getX("test")).isSameAs(x);
+    assertThat(fixture.getY("test")).isSameAs(y);
+    assertThat(fixture.getZ("test")).isSameAs(z);
+    assertThat(x).isNotSameAs(y).isNotSameAs(z);
+    assertThat(created.get()).isEqualTo(3);
+  }
+
+
+  @Test
+  public void sharedFactoryReturnsFixtureObjects() {
+    ContractFixture fixture = new ContractFixture(new BeanFactory());
+    Object y = fixture.getY("test");
+
+    EquivalentFactory<?> shared = fixture.getSharedFactory();
+    Object x = shared.create();
+    assertThat(shared.create()).isSameAs(y);
+    Object z = shared.create();
+    assertThat(shared.create()).isNotSameAs(x).isNotSameAs(y).isNotSameAs(z);
+
+    assertThat(fixture.getX("test")).isSameAs(x);
+    assertThat(fixture.getZ("test")).isSameAs(z);
+    assertThat(fixture.getSharedFactory().create()).isSameAs(x);
+  }
+
+
+  @Test
+  public void nullObjectIsReportedForOperation() {
+    ContractFixture fixture = new ContractFixture(new NullEquivalentFactory());
+    assertThatThrownBy(() -> fixture.getY("test equals symmetric item"))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("test equals symmetric item");
+  }
+
+}
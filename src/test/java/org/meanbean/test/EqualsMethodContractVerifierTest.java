@@ -20,6 +20,11 @@
 
 package org.meanbean.test;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.Test;
 import org.meanbean.lang.EquivalentFactory;
 import org.meanbean.test.beans.BeanFactory;
@@ -141,6 +146,28 @@ public class EqualsMethodContractVerifierTest {
   }
 
 
+  @Test
+  public void verifyEqualsShouldCreateThreeObjects() throws Exception {
+    AtomicInteger created = new AtomicInteger();
+    BeanFactory factory = new BeanFactory();
+    verifier.verifyEqualsMethod(() -> {
+      created.incrementAndGet();
+      return factory.create();
+    });
+    assertThat(created.get()).isEqualTo(3);
+  }
+
+
+  @Test
+  public void verifyEqualsShouldUseConfiguredConsistencyChecks() throws Exception {
+    // The first inconsistent result is after the configured checks
+    verifier.verifyEqualsMethod(new ContractFixture(new CounterDrivenEqualsBeanFactory(97)), 50);
+    assertThatThrownBy(() -> verifier.verifyEqualsMethod(new ContractFixture(new CounterDrivenEqualsBeanFactory(97)), 100))
+        .isInstanceOf(AssertionError.class)
+        .hasMessageStartingWith("equals is not consistent on invocation [");
+  }
+
+
   @Test
   public void verifyEqualsShouldNotThrowAssertionErrorWhenEqualsIsCorrect() throws Exception {
     verifier.verifyEqualsMethod(new BeanFactory());
@@ -20,6 +20,10 @@
 
 package org.meanbean.test;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.Test;
 import org.meanbean.factories.ObjectCreationException;
 import org.meanbean.lang.EquivalentFactory;
@@ -88,6 +92,43 @@ public class HashCodeMethodTesterTest {
   }
 
 
+  @Test
+  public void testHashCodeMethodShouldCreateTwoObjects() throws Exception {
+    AtomicInteger created = new AtomicInteger();
+    BeanFactory factory = new BeanFactory();
+    tester.testHashCodeMethod(() -> {
+      created.incrementAndGet();
+      return factory.create();
+    });
+    assertThat(created.get()).isEqualTo(2);
+  }
+
+
+  @Test
+  public void testHashCodeMethodShouldUseOverriddenChecks() throws Exception {
+    AtomicInteger checks = new AtomicInteger();
+    HashCodeMethodTester overridden = new HashCodeMethodTester() {
+      @Override
+      protected void testHashCodeConsistent(EquivalentFactory<?> factory) {
+        checks.incrementAndGet();
+        super.testHashCodeConsistent(factory);
+      }
+
+
+      @Override
+      protected void testHashCodesEqual(EquivalentFactory<?> factory) {
+        checks.incrementAndGet();
+        super.testHashCodesEqual(factory);
+      }
+    };
+    overridden.testHashCodeMethod(new BeanFactory());
+    assertThat(checks.get()).isEqualTo(2);
+    checks.set(0);
+    overridden.testHashCodeMethod(Bean.class);
+    assertThat(checks.get()).isEqualTo(2);
+  }
+
+
   @Test
   public void testHashCodeMethodShouldNotThrowAssertionErrorWhenHashCodeIsCorrect() throws Exception {
     tester.testHashCodeMethod(new BeanFactory());
@@ -36,6 +36,7 @@ import org.meanbean.bean.info.PropertyInformation;
 import org.meanbean.factories.OptionalFactoryLookup;
 import org.meanbean.factories.util.FactoryLookupStrategy;
 import org.meanbean.lang.Factory;
+import org.meanbean.util.ServiceFactory;
 
 public class OptionalPropertyBeanTest {
 
@@ -113,6 +114,8 @@ public class OptionalPropertyBeanTest {
     BeanVerifier.forClass(OptionalPropertyBean.class)
         .verifyGettersAndSetters();
 
+    // The verifier's service context may already have been collected, so use one owned by this test
+    ServiceFactory.createContext(this);
     BeanInformation beanInformation = beanInformationFactory.create(OptionalPropertyBean.class);
     Collection<PropertyInformation> properties = beanInformation.getProperties();
     for (PropertyInformation propertyInformation : properties) {
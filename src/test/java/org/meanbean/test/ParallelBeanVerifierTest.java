@@ -0,0 +1,163 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.meanbean.test.beans.Bean;
+import org.meanbean.test.beans.NonBean;
+import org.meanbean.test.beans.domain.Company;
+import org.meanbean.test.beans.domain.EmployeeId;
+import org.meanbean.test.beans.scan.ScanBean;
+
+public class ParallelBeanVerifierTest {
+
+  /** Fails as soon as the slow bean has started. */
+  public static class FastFailingBean {
+
+    public String getName() {
+      try {
+        SLOW_STARTED.await(10, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      throw new IllegalStateException("fast");
+    }
+
+
+    public void setName(String name) {
+      // ignored
+    }
+
+  }
+
+
+
+  public static class OverflowingBean {
+
+    public String getName() {
+      throw new StackOverflowError();
+    }
+
+
+    public void setName(String name) {
+      // ignored
+    }
+
+  }
+
+
+  /** Fails after the fast bean has already failed. */
+  public static class SlowFailingBean {
+
+    public String getName() {
+      SLOW_STARTED.countDown();
+      try {
+        Thread.sleep(200);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      throw new IllegalStateException("slow");
+    }
+
+
+    public void setName(String name) {
+      // ignored
+    }
+
+  }
+
+
+
+  private static final CountDownLatch SLOW_STARTED = new CountDownLatch(1);
+
+
+  @Test
+  public void errorsAreAggregated() {
+    assertThatThrownBy(() -> BeanVerifier.inParallel().setParallelism(2).verifyBeans(OverflowingBean.class, Bean.class))
+        .isInstanceOf(AssertionError.class)
+        .hasMessage("Cannot verify 1 of 2 bean types: " + OverflowingBean.class.getName())
+        .hasRootCauseInstanceOf(StackOverflowError.class);
+  }
+
+
+  @Test
+  public void failFastSkipsRemainingBeans() {
+    Class<?>[] beans = new Class<?>[20];
+    beans[0] = Company.class;
+    for (int i = 1; i < beans.length; i++) {
+      beans[i] = NonBean.class;
+    }
+    assertThatThrownBy(() -> BeanVerifier.inParallel().setParallelism(1).setFailFast(true).verifyBeans(beans))
+        .isInstanceOf(AssertionError.class)
+        .hasMessageStartingWith("Cannot verify 1 of 20 bean types (19 skipped): " + Company.class.getName());
+  }
+
+
+  @Test
+  public void failFastFinishesStartedBeans() {
+    assertThatThrownBy(() -> BeanVerifier.inParallel().setParallelism(2).setFailFast(true)
+        .verifyBeans(FastFailingBean.class, SlowFailingBean.class))
+        .isInstanceOf(AssertionError.class)
+        .hasMessage("Cannot verify 2 of 2 bean types: " + FastFailingBean.class.getName() + ", " + SlowFailingBean.class.getName());
+  }
+
+
+  @Test
+  public void failuresAreAggregated() {
+    Throwable thrown = null;
+    try {
+      BeanVerifier.inParallel().setParallelism(2).verifyBeans(EmployeeId.class, Company.class, Bean.class, NonBean.class);
+    } catch (AssertionError e) {
+      thrown = e;
+    }
+    assertThat(thrown)
+        .hasMessage("Cannot verify 2 of 4 bean types: " + Company.class.getName() + ", " + NonBean.class.getName())
+        .hasCauseInstanceOf(AssertionError.class);
+    assertThat(thrown.getCause()).hasMessage("Cannot verify bean type " + Company.class.getName());
+    assertThat(thrown.getSuppressed()).hasSize(1);
+    assertThat(thrown.getSuppressed()[0]).hasMessage("Cannot verify bean type " + NonBean.class.getName());
+  }
+
+
+  @Test(expected = IllegalArgumentException.class)
+  public void parallelismMustBePositive() {
+    BeanVerifier.inParallel().setParallelism(0);
+  }
+
+
+  @Test
+  public void verifyBeans() {
+    BeanVerifier.inParallel().setParallelism(2).verifyBeans(EmployeeId.class, Bean.class);
+  }
+
+
+  @Test
+  public void verifyPackage() {
+    BeanVerifier.inParallel().verifyBeansIn(ScanBean.class.getPackage());
+  }
+
+}
@@ -56,14 +56,69 @@ import org.meanbean.util.ServiceFactory;
 
 public class PropertyBasedEqualsMethodPropertySignificanceVerifierTest {
 
-  private final FactoryCollection factoryCollection = FactoryCollection.getInstance();
+  /** A bean whose setter normalizes the code, so writing back the value read from a new instance does not restore it. */
+  public static class NormalizingBean {
+
+    private String code;
+
+    private String note;
+
+
+    public NormalizingBean() {
+      // empty
+    }
+
+
+    NormalizingBean(String code, String note) {
+      this.code = code;
+      this.note = note;
+    }
+
+
+    @Override
+    public boolean equals(Object o) {
+      return o instanceof NormalizingBean && code.equals(((NormalizingBean) o).code);
+    }
+
+
+    public String getCode() {
+      return code;
+    }
+
+
+    public String getNote() {
+      return note;
+    }
+
+
+    @Override
+    public int hashCode() {
+      return code.hashCode();
+    }
 
-  private final PropertyBasedEqualsMethodPropertySignificanceVerifier verifier =
-      new PropertyBasedEqualsMethodPropertySignificanceVerifier();
 
+    public void setCode(String code) {
+      this.code = code.toUpperCase();
+    }
+
+
+    public void setNote(String note) {
+      this.note = note;
+    }
+
+  }
+
+
+
+  // The context must be created before the other fields are initialised
   @SuppressWarnings("unused")
   private final Void voidRef = ServiceFactory.createContext(this);
 
+  private final FactoryCollection factoryCollection = FactoryCollection.getInstance();
+
+  private final PropertyBasedEqualsMethodPropertySignificanceVerifier verifier =
+      new PropertyBasedEqualsMethodPropertySignificanceVerifier();
+
 
   @Test
   public void ensureInsignificantPropertiesExistShouldThrowExceptionForMultipleUnrecognisedProperties()
@@ -252,6 +307,35 @@ public class PropertyBasedEqualsMethodPropertySignificanceVerifierTest {
   }
 
 
+  @Test
+  public void verifyEqualsMethodShouldReplaceWorkingCopyThatCannotBeRestored() throws Exception {
+    int[] count = new int[1];
+    verifier.verifyEqualsMethod(() -> {
+      count[0]++;
+      return new NormalizingBean("code", "note");
+    }, "note");
+    // one to find the bean information, the original, the working copy, and its replacement after the code was changed
+    assertThat(count[0], is(4));
+  }
+
+
+  @Test
+  public void verifyEqualsMethodShouldReuseWorkingCopy() throws Exception {
+    int[] count = new int[1];
+    MultiPropertyBeanFactory beanFactory = new MultiPropertyBeanFactory();
+    PropertyBasedEqualsMethodPropertySignificanceVerifier.Plan plan = verifier.prepare(() -> {
+      count[0]++;
+      return beanFactory.create();
+    }, null);
+    assertThat(count[0], is(1));
+    for (int i = 0; i < 10; i++) {
+      plan.verify(null);
+    }
+    // an original and a working copy per iteration, however many properties there are
+    assertThat(count[0], is(21));
+  }
+
+
   @Test(expected = AssertionError.class)
   public void verifyEqualsMethodShouldThrowAssertionErrorWhenEqualityShouldHaveChangedButDidNot() throws Exception {
     verifier.verifyEqualsMethod(new EquivalentFactory<BrokenEqualsMultiPropertyBean>() {
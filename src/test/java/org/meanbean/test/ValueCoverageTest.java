@@ -0,0 +1,109 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+import org.meanbean.lang.Factory;
+
+public class ValueCoverageTest {
+
+  private static final Factory<Object> UNKNOWN = () -> null;
+
+
+  private static Factory<Object> domainOf(int size) {
+    return new Factory<Object>() {
+      @Override
+      public Object create() {
+        return null;
+      }
+
+
+      @Override
+      public int getDomainSize() {
+        return size;
+      }
+    };
+  }
+
+
+  @Test
+  public void constantValuesAreCoveredOnceConfident() {
+    ValueCoverage coverage = new ValueCoverage(0.95);
+    for (int i = 1; i < 20; i++) {
+      coverage.record("a", UNKNOWN, "x");
+      assertThat(coverage.isCovered()).isFalse();
+    }
+    coverage.record("a", UNKNOWN, "x");
+    assertThat(coverage.isCovered()).isTrue();
+  }
+
+
+  @Test
+  public void distinctValuesAreNeverCovered() {
+    ValueCoverage coverage = new ValueCoverage(0.95);
+    for (int i = 0; i <= ValueCoverage.MAX_DISTINCT_VALUES; i++) {
+      coverage.record("a", UNKNOWN, i);
+      assertThat(coverage.isCovered()).isFalse();
+    }
+    coverage.record("a", UNKNOWN, 0);
+    assertThat(coverage.isCovered()).isFalse();
+  }
+
+
+  @Test
+  public void domainIsCoveredWhenEveryValueSeen() {
+    ValueCoverage coverage = new ValueCoverage(0.95);
+    Factory<Object> factory = domainOf(2);
+    coverage.record("a", factory, true);
+    assertThat(coverage.isCovered()).isFalse();
+    coverage.record("a", factory, false);
+    assertThat(coverage.isCovered()).isTrue();
+  }
+
+
+  @Test
+  public void domainIsCoveredWhenUnseenValuesAreUnlikely() {
+    ValueCoverage coverage = new ValueCoverage(0.95);
+    Factory<Object> factory = domainOf(2);
+    // 0.5 ^ 5 is below 0.05
+    for (int i = 1; i < 5; i++) {
+      coverage.record("a", factory, true);
+      assertThat(coverage.isCovered()).isFalse();
+    }
+    coverage.record("a", factory, true);
+    assertThat(coverage.isCovered()).isTrue();
+  }
+
+
+  @Test
+  public void everyPropertyMustBeCovered() {
+    ValueCoverage coverage = new ValueCoverage(0.95);
+    coverage.record("a", domainOf(1), "x");
+    assertThat(coverage.isCovered()).isTrue();
+    coverage.record("b", domainOf(2), "x");
+    assertThat(coverage.isCovered()).isFalse();
+    coverage.record("b", domainOf(2), "y");
+    assertThat(coverage.isCovered()).isTrue();
+  }
+
+}
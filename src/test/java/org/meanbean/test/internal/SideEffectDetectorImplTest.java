@@ -0,0 +1,192 @@
+package org.meanbean.test.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.meanbean.bean.info.PropertyInformation;
+import org.meanbean.bean.info.ScannedBeanInformationFactory;
+import org.meanbean.util.ServiceFactory;
+
+public class SideEffectDetectorImplTest {
+
+  public static class CountingBean {
+
+    private double ratio = Double.NaN;
+
+    private int reads = 0;
+
+    private int size;
+
+    private String title;
+
+
+    public double getRatio() {
+      reads++;
+      return ratio;
+    }
+
+
+    public int getSize() {
+      reads++;
+      return size;
+    }
+
+
+    public String getTitle() {
+      reads++;
+      return title;
+    }
+
+
+    public void setRatio(double ratio) {
+      this.ratio = ratio;
+    }
+
+
+    public void setSize(int size) {
+      this.size = size;
+      // side-effect on a primitive property
+      this.ratio = size;
+    }
+
+
+    public void setTitle(String title) {
+      this.title = title;
+    }
+
+  }
+
+
+  private static List<PropertyInformation> getProperties() {
+    return new ArrayList<>(new ScannedBeanInformationFactory().create(CountingBean.class).getProperties());
+  }
+
+
+  private static PropertyInformation getProperty(List<PropertyInformation> properties, String name) {
+    for (PropertyInformation property : properties) {
+      if (property.getName().equals(name)) {
+        return property;
+      }
+    }
+    throw new AssertionError("No property " + name);
+  }
+
+
+  private static boolean hasSideEffect(SideEffectDetector detector, CountingBean bean, List<PropertyInformation> properties, String name,
+      Runnable setter
+  ) {
+    detector.beforeTestProperty(getProperty(properties, name), EqualityTest.LOGICAL);
+    setter.run();
+    try {
+      detector.detectAfterTestProperty();
+      return false;
+    } catch (AssertionError e) {
+      return true;
+    }
+  }
+
+
+  @Test
+  public void describeShowsPrimitiveValues() {
+    List<PropertyInformation> properties = getProperties();
+    CountingBean bean = new CountingBean();
+    bean.setSize(7);
+    bean.setRatio(2.5);
+    bean.setTitle("title");
+    SideEffectDetectorImpl detector = new SideEffectDetectorImpl();
+    detector.init(bean, properties);
+    detector.beforeTestProperty(getProperty(properties, "title"), EqualityTest.LOGICAL);
+
+    assertThat(detector.describe().get("ratio"), is((Object) 2.5));
+    assertThat(detector.describe().get("size"), is((Object) 7));
+    assertThat(detector.describe().get("title"), is((Object) "title"));
+  }
+
+
+  @Before
+  public void setUp() {
+    ServiceFactory.createContext(this);
+  }
+
+
+  @Test
+  public void shouldCompareUnchangedNaNAsEqual() {
+    SideEffectDetector detector = new SideEffectDetectorImpl();
+    CountingBean bean = new CountingBean();
+    List<PropertyInformation> properties = getProperties();
+    detector.init(bean, new ArrayList<>(properties));
+    assertThat(hasSideEffect(detector, bean, properties, "title", () -> bean.setTitle("x")), is(false));
+  }
+
+
+  @Test
+  public void shouldDetectPrimitiveSideEffect() {
+    SideEffectDetector detector = new SideEffectDetectorImpl();
+    CountingBean bean = new CountingBean();
+    List<PropertyInformation> properties = getProperties();
+    detector.init(bean, new ArrayList<>(properties));
+    assertThat(hasSideEffect(detector, bean, properties, "size", () -> bean.setSize(7)), is(true));
+  }
+
+
+  @Test
+  public void shouldEventuallyCheckEveryPropertyWhenSampling() {
+    SideEffectDetector detector = new SideEffectDetectorImpl();
+    List<PropertyInformation> properties = getProperties();
+    int detected = 0;
+    for (int iteration = 0; iteration < properties.size(); iteration++) {
+      CountingBean bean = new CountingBean();
+      detector.sample(1, iteration);
+      detector.init(bean, new ArrayList<>(properties));
+      if (hasSideEffect(detector, bean, properties, "size", () -> bean.setSize(7 + bean.size))) {
+        detected++;
+      }
+    }
+    // Only the iteration that samples the "ratio" property can see the side-effect
+    assertThat(detected, is(1));
+  }
+
+
+  @Test
+  public void shouldReadEachPropertyOnceAfterEachTest() {
+    SideEffectDetector detector = new SideEffectDetectorImpl();
+    CountingBean bean = new CountingBean();
+    List<PropertyInformation> properties = getProperties();
+    int count = properties.size();
+    detector.init(bean, new ArrayList<>(properties));
+
+    detector.beforeTestProperty(getProperty(properties, "title"), EqualityTest.LOGICAL);
+    bean.setTitle("a");
+    detector.detectAfterTestProperty();
+    detector.beforeTestProperty(getProperty(properties, "ratio"), EqualityTest.LOGICAL);
+    bean.setRatio(1.5);
+    detector.detectAfterTestProperty();
+
+    // One full capture, then every property once after each test
+    assertThat(bean.reads, is(count + 2 * count));
+  }
+
+
+  @Test
+  public void shouldReportSideEffect() {
+    SideEffectDetector detector = new SideEffectDetectorImpl();
+    CountingBean bean = new CountingBean();
+    List<PropertyInformation> properties = getProperties();
+    detector.init(bean, new ArrayList<>(properties));
+    detector.beforeTestProperty(getProperty(properties, "size"), EqualityTest.LOGICAL);
+    bean.setSize(3);
+    try {
+      detector.detectAfterTestProperty();
+      fail("Side-effect should be detected");
+    } catch (AssertionError e) {
+      assertThat(e.getMessage(), is("Property [size] appears to have a side-effect on another property [ratio]"));
+    }
+  }
+
+}
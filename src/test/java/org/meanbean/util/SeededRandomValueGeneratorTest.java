@@ -0,0 +1,144 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Test;
+
+public class SeededRandomValueGeneratorTest {
+
+  private final RandomValueGenerator generator = new SeededRandomValueGenerator();
+
+
+  private List<Object> draw(RandomValueGenerator randomValueGenerator) {
+    List<Object> values = new ArrayList<>();
+    values.add(randomValueGenerator.nextBoolean());
+    values.add(randomValueGenerator.nextByte());
+    values.add(Arrays.toString(randomValueGenerator.nextBytes(13)));
+    values.add(randomValueGenerator.nextDouble());
+    values.add(randomValueGenerator.nextFloat());
+    values.add(randomValueGenerator.nextInt());
+    values.add(randomValueGenerator.nextInt(100));
+    values.add(randomValueGenerator.nextLong());
+    values.add(randomValueGenerator.nextUUID());
+    return values;
+  }
+
+
+  @Test
+  public void nextBytesShouldPreventNegativeSize() {
+    assertThatThrownBy(() -> generator.nextBytes(-1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+
+  @Test
+  public void nextFloatShouldBeInUnitInterval() {
+    for (int i = 0; i < 10000; i++) {
+      assertThat(generator.nextFloat())
+          .isGreaterThanOrEqualTo(0f)
+          .isLessThan(1f);
+    }
+  }
+
+
+  @Test
+  public void nextUuidShouldBeVersion4() {
+    UUID uuid = generator.nextUUID();
+    assertThat(uuid.version()).isEqualTo(4);
+    assertThat(uuid.variant()).isEqualTo(2);
+  }
+
+
+  @Test
+  public void seedShouldRepeatValues() {
+    assertThat(generator.seed(1234L)).isTrue();
+    List<Object> first = draw(generator);
+
+    assertThat(generator.seed(1234L)).isTrue();
+    assertThat(draw(generator)).isEqualTo(first);
+  }
+
+
+  @Test
+  public void seedShouldApplyToEveryGeneratorOnThread() {
+    generator.seed(99L);
+    List<Object> first = draw(generator);
+
+    generator.seed(99L);
+    assertThat(draw(new SeededRandomValueGenerator())).isEqualTo(first);
+  }
+
+
+  @Test
+  public void seedTemporarilyShouldRestoreThreadStream() {
+    generator.seed(11L);
+    List<Object> expected = draw(generator);
+
+    generator.seed(11L);
+    Runnable restore = generator.seedTemporarily(12L);
+    assertThat(restore).isNotNull();
+    List<Object> seeded = draw(generator);
+    restore.run();
+
+    assertThat(seeded).isNotEqualTo(expected);
+    assertThat(draw(new SeededRandomValueGenerator())).isEqualTo(expected);
+  }
+
+
+  @Test
+  public void shuffleShouldBeRepeatable() {
+    List<Integer> list = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      list.add(i);
+    }
+    List<Integer> copy = new ArrayList<>(list);
+
+    generator.seed(7L);
+    generator.shuffle(list);
+    generator.seed(7L);
+    generator.shuffle(copy);
+
+    assertThat(list).isEqualTo(copy).containsExactlyInAnyOrder(copy.toArray(new Integer[0]));
+  }
+
+
+  @Test
+  public void splitShouldBeIndependentOfThreadStream() {
+    generator.seed(42L);
+    RandomValueGenerator split = generator.split();
+    List<Object> fromSplit = draw(split);
+
+    generator.seed(42L);
+    RandomValueGenerator again = generator.split();
+    // drawing from the thread's stream does not affect the split generator
+    draw(generator);
+    assertThat(draw(again)).isEqualTo(fromSplit);
+  }
+
+}
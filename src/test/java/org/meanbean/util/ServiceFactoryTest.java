@@ -22,13 +22,19 @@ package org.meanbean.util;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.kohsuke.MetaInfServices;
 import org.meanbean.bean.info.BeanInformationFactory;
 import org.meanbean.bean.info.JavaBeanInformationFactory;
+import org.meanbean.bean.info.ScannedBeanInformationFactory;
 import org.meanbean.factories.FactoryCollection;
 import org.meanbean.factories.NoSuchFactoryException;
 import org.meanbean.lang.Factory;
@@ -36,6 +42,39 @@ import org.meanbean.test.beans.FluentPropertyBean;
 
 public class ServiceFactoryTest {
 
+  public interface ReentrantService {
+
+  }
+
+
+
+  @MetaInfServices(ReentrantService.class)
+  public static class ReentrantServiceImpl implements ReentrantService {
+
+    public ReentrantServiceImpl() {
+      new ServiceDefinition<>(ReentrantService.class).getServiceFactory();
+    }
+
+  }
+
+
+  @Test
+  public void contextsAreSeparatePerThread() throws Exception {
+    FactoryCollection mine = FactoryCollection.getInstance();
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      Future<FactoryCollection> theirs = executor.submit(() -> {
+        ServiceFactory.createContext(new Object());
+        return FactoryCollection.getInstance();
+      });
+      assertThat(theirs.get()).isNotSameAs(mine);
+    } finally {
+      executor.shutdown();
+    }
+    assertThat(FactoryCollection.getInstance()).isSameAs(mine);
+  }
+
+
   private List<BeanInformationFactory> getAll() {
     return BeanInformationFactory.getServiceDefinition()
         .getServiceFactory()
@@ -54,12 +93,22 @@ public class ServiceFactoryTest {
 
 
   @Test
-  public void loadSingleImplementor() throws Exception {
+  public void loadIsNotReentrant() {
+    assertThatThrownBy(() -> new ServiceDefinition<>(ReentrantService.class).getServiceFactory())
+        .hasStackTraceContaining("Load of " + ReentrantService.class.getName() + " already in progress");
+  }
+
+
+  @Test
+  public void loadImplementorsInOrder() throws Exception {
     List<BeanInformationFactory> services = getAll();
 
     assertThat(services)
-        .hasOnlyElementsOfType(JavaBeanInformationFactory.class)
-        .hasSize(1);
+        .hasSize(2);
+    assertThat(services.get(0))
+        .isInstanceOf(ScannedBeanInformationFactory.class);
+    assertThat(services.get(1))
+        .isInstanceOf(JavaBeanInformationFactory.class);
   }
 
 
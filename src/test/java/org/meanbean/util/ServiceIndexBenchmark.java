@@ -0,0 +1,66 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util;
+
+import java.util.concurrent.TimeUnit;
+
+import org.meanbean.test.BeanVerifier;
+import org.meanbean.test.beans.domain.EmployeeId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the time to verify the first bean in a fresh JVM, with and without the generated {@link ServiceIndex}. Each fork is a new JVM
+ * and performs exactly one verification, so the measurement includes all service discovery and class initialisation.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+public class ServiceIndexBenchmark {
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(ServiceIndexBenchmark.class.getSimpleName()).build()).run();
+  }
+
+
+  @Benchmark
+  @Fork(20)
+  public void firstVerificationIndexed() {
+    BeanVerifier.verifyBean(EmployeeId.class);
+  }
+
+
+  @Benchmark
+  @Fork(value = 20, jvmArgsAppend = "-D" + ServiceIndex.PROPERTY_ENABLED + "=false")
+  public void firstVerificationReflective() {
+    BeanVerifier.verifyBean(EmployeeId.class);
+  }
+
+}
@@ -0,0 +1,70 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+
+import org.junit.Test;
+import org.meanbean.factories.ArrayFactoryLookup;
+import org.meanbean.factories.FactoryCollectionPlugin;
+import org.meanbean.factories.FactoryLookup;
+import org.meanbean.factories.time.TimePlugin;
+import org.meanbean.test.internal.SideEffectDetector;
+
+public class ServiceIndexTest {
+
+  private final ServiceIndex index = ServiceIndex.getInstance();
+
+
+  @Test
+  public void findReturnsIndexedProvider() throws Exception {
+    ServiceIndex.Provider provider = index.find(FactoryLookup.class, ArrayFactoryLookup.class.getName());
+
+    assertThat(provider).isNotNull();
+    assertThat(provider.getOrder()).isEqualTo(ServiceFactory.getOrder(ArrayFactoryLookup.class));
+    assertThat(provider.getCreator(new Class<?>[0]).create(new Object[0])).isInstanceOf(ArrayFactoryLookup.class);
+  }
+
+
+  @Test
+  public void findReturnsNullForUnknownProvider() {
+    assertThat(index.find(SideEffectDetector.class, "com.example.UnknownDetector")).isNull();
+    assertThat(index.find(ServiceFactoryTest.ReentrantService.class, ServiceFactoryTest.ReentrantServiceImpl.class.getName())).isNull();
+  }
+
+
+  @Test
+  public void getCreatorMatchesArgumentTypes() throws Exception {
+    ServiceIndex.Provider provider = index.find(FactoryCollectionPlugin.class, TimePlugin.class.getName());
+
+    assertThat(provider.getCreator(new Class<?>[]{Clock.class}).create(new Object[]{Clock.systemUTC()})).isInstanceOf(TimePlugin.class);
+    assertThat(provider.getCreator(new Class<?>[]{String.class})).isNull();
+  }
+
+
+  @Test
+  public void indexIsGenerated() {
+    assertThat(index.isEmpty()).isFalse();
+  }
+
+}
@@ -0,0 +1,84 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.ServiceConfigurationError;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.meanbean.factories.FactoryCollection;
+import org.meanbean.factories.FactoryLookup;
+import org.meanbean.factories.FactoryRepository;
+import org.meanbean.test.internal.SideEffectDetector;
+import org.meanbean.test.internal.SideEffectDetectorImpl;
+
+public class ServiceLoaderTest {
+
+  @Before
+  public void setUp() {
+    ServiceFactory.createContext(this);
+  }
+
+
+  @Test
+  public void createAllCreatesNewInstancesEachTime() {
+    List<SideEffectDetector> first = new ServiceLoader<>(SideEffectDetector.class).createAll();
+    List<SideEffectDetector> second = new ServiceLoader<>(SideEffectDetector.class).createAll();
+
+    assertThat(first).hasSize(1).hasOnlyElementsOfType(SideEffectDetectorImpl.class);
+    assertThat(second).hasSize(1);
+    assertThat(second.get(0)).isNotSameAs(first.get(0));
+  }
+
+
+  @Test
+  public void createAllIsOrdered() {
+    List<FactoryCollection> services = new ServiceLoader<>(FactoryCollection.class).createAll();
+
+    assertThat(services).isSortedAccordingTo(ServiceFactory.getComparator());
+    assertThat(services).last().isInstanceOf(FactoryRepository.class);
+  }
+
+
+  @Test
+  public void createAllIsUnaffectedByClearingCache() {
+    List<FactoryLookup> before = new ServiceLoader<>(FactoryLookup.class).createAll();
+    ServiceLoader.clearCache();
+    List<FactoryLookup> after = new ServiceLoader<>(FactoryLookup.class).createAll();
+
+    assertThat(after).extracting(Object::getClass)
+        .containsExactlyElementsOf(() -> before.stream().<Class<?>>map(Object::getClass).iterator());
+  }
+
+
+  @Test
+  public void createAllRejectsWrongConstructor() {
+    ServiceLoader<SideEffectDetector> loader = new ServiceLoader<>(SideEffectDetector.class, String.class);
+
+    assertThatThrownBy(() -> loader.createAll("x")).isInstanceOf(ServiceConfigurationError.class);
+    assertThatThrownBy(() -> loader.createAll("x")).isInstanceOf(ServiceConfigurationError.class);
+  }
+
+}
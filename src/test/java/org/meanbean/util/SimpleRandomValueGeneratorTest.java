@@ -91,6 +91,48 @@ public class SimpleRandomValueGeneratorTest {
   }
 
 
+  @Test
+  public void nextIntsShouldFillArray() {
+    // Given
+    int[] values = new int[ITERATIONS];
+    // When
+    randomValueGenerator.nextInts(values);
+    // Then
+    int totalPositive = 0;
+    int totalNegative = 0;
+    for (int value : values) {
+      if (value < 0) {
+        totalNegative++;
+      } else {
+        totalPositive++;
+      }
+    }
+    assertThat("should generate positive numbers.", totalPositive, is(greaterThan(0)));
+    assertThat("should generate negative numbers.", totalNegative, is(greaterThan(0)));
+  }
+
+
+  @Test
+  public void nextLongsShouldFillArray() {
+    // Given
+    long[] values = new long[ITERATIONS];
+    // When
+    randomValueGenerator.nextLongs(values);
+    // Then
+    int totalPositive = 0;
+    int totalNegative = 0;
+    for (long value : values) {
+      if (value < 0) {
+        totalNegative++;
+      } else {
+        totalPositive++;
+      }
+    }
+    assertThat("should generate positive numbers.", totalPositive, is(greaterThan(0)));
+    assertThat("should generate negative numbers.", totalNegative, is(greaterThan(0)));
+  }
+
+
   @Test
   public void nextBytesShouldGeneratePositiveAndNegativeNumbers() {
     // Given
@@ -0,0 +1,66 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util.reflect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class LinkageTest {
+
+  public static class PublicNested {
+
+  }
+
+
+
+  static class PackageNested {
+
+  }
+
+
+  @Test
+  public void arraysFollowTheirComponentType() {
+    assertThat(Linkage.isLinkable(PublicNested[][].class)).isTrue();
+    assertThat(Linkage.isLinkable(PackageNested[].class)).isFalse();
+  }
+
+
+  @Test
+  public void nonPublicClassesAreNotLinkable() {
+    assertThat(Linkage.isLinkable(PackageNested.class)).isFalse();
+  }
+
+
+  @Test
+  public void primitivesAreLinkable() {
+    assertThat(Linkage.isLinkable(int.class)).isTrue();
+    assertThat(Linkage.isLinkable(int[].class)).isTrue();
+  }
+
+
+  @Test
+  public void publicClassesAreLinkable() {
+    assertThat(Linkage.isLinkable(String.class)).isTrue();
+    assertThat(Linkage.isLinkable(PublicNested.class)).isTrue();
+  }
+
+}
@@ -0,0 +1,67 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util.reflect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.junit.Assume.assumeFalse;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.reflect.Field;
+
+import org.junit.Test;
+
+@SuppressWarnings("deprecation")
+public class LookupReflectionAccessorTest {
+
+  @SuppressWarnings("unused")
+  private String hidden;
+
+
+  @Test
+  public void closedPackageDoesNotThrow() throws Exception {
+    assumeTrue(JavaVersion.isJava9OrLater());
+    Field field = String.class.getDeclaredField("value");
+    LookupReflectionAccessor accessor = LookupReflectionAccessor.create();
+    assertThatCode(() -> accessor.makeAccessible(field)).doesNotThrowAnyException();
+    if (JavaVersion.getMajorJavaVersion() >= 17) {
+      // java.lang is not open to the class path, so the field is left alone
+      assertThat(field.isAccessible()).isFalse();
+    }
+  }
+
+
+  @Test
+  public void createNeedsJava9() {
+    assumeFalse(JavaVersion.isJava9OrLater());
+    assertThat(LookupReflectionAccessor.create()).isNull();
+  }
+
+
+  @Test
+  public void makesClassPathMemberAccessible() throws Exception {
+    assumeTrue(JavaVersion.isJava9OrLater());
+    Field field = LookupReflectionAccessorTest.class.getDeclaredField("hidden");
+    LookupReflectionAccessor.create().makeAccessible(field);
+    assertThat(field.isAccessible()).isTrue();
+  }
+
+}
@@ -0,0 +1,79 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util.reflect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+
+import org.junit.Test;
+
+@SuppressWarnings("deprecation")
+public class ReflectionAccessorTest {
+
+  private static class CountingAccessor extends ReflectionAccessor {
+
+    int count = 0;
+
+
+    @Override
+    void setAccessible(AccessibleObject ao) {
+      count++;
+      ao.setAccessible(true);
+    }
+
+  }
+
+
+
+  @SuppressWarnings("unused")
+  private String hidden;
+
+
+  @Test
+  public void getInstanceSuitsJavaVersion() {
+    if (JavaVersion.isJava9OrLater()) {
+      assertThat(ReflectionAccessor.getInstance()).isInstanceOf(LookupReflectionAccessor.class);
+    } else {
+      assertThat(ReflectionAccessor.getInstance()).isInstanceOf(PreJava9ReflectionAccessor.class);
+    }
+  }
+
+
+  @Test
+  public void makeAccessibleMakesPrivateMemberAccessible() throws Exception {
+    Field field = ReflectionAccessorTest.class.getDeclaredField("hidden");
+    ReflectionAccessor.getInstance().makeAccessible(field);
+    assertThat(field.isAccessible()).isTrue();
+  }
+
+
+  @Test
+  public void makeAccessibleSkipsAccessibleObjects() throws Exception {
+    CountingAccessor accessor = new CountingAccessor();
+    Field field = ReflectionAccessorTest.class.getDeclaredField("hidden");
+    accessor.makeAccessible(field);
+    accessor.makeAccessible(field);
+    assertThat(accessor.count).isEqualTo(1);
+  }
+
+}
@@ -0,0 +1,54 @@
+/*-
+ * ​​​
+ * meanbean
+ * ⁣⁣⁣
+ * Copyright (C) 2010 - 2020 the original author or authors.
+ * ⁣⁣⁣
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * ﻿﻿﻿﻿﻿
+ */
+
+package org.meanbean.util.reflect;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.reflect.Field;
+
+import org.junit.Test;
+
+@SuppressWarnings("deprecation")
+public class UnsafeReflectionAccessorTest {
+
+  @SuppressWarnings("unused")
+  private String hidden;
+
+
+  @Test
+  public void makeAccessibleWithUnsafeSetsOverride() throws Exception {
+    // Java 12 hides the override field from reflection, so the handle cannot be created
+    assumeTrue(JavaVersion.getMajorJavaVersion() < 12);
+    Field field = UnsafeReflectionAccessorTest.class.getDeclaredField("hidden");
+    assertThat(new UnsafeReflectionAccessor().makeAccessibleWithUnsafe(field)).isTrue();
+    assertThat(field.isAccessible()).isTrue();
+  }
+
+
+  @Test
+  public void setAccessibleMakesClassPathMemberAccessible() throws Exception {
+    Field field = UnsafeReflectionAccessorTest.class.getDeclaredField("hidden");
+    new UnsafeReflectionAccessor().setAccessible(field);
+    assertThat(field.isAccessible()).isTrue();
+  }
+
+}